@@ -0,0 +1,48 @@
+package com.example.remittance.application.dto;
+
+import com.example.remittance.domain.model.Account;
+import com.example.remittance.domain.model.TransactionHistory;
+import com.example.remittance.domain.model.TransactionType;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    private Account account;
+    private TransactionHistory transactionHistory;
+
+    @Setup
+    public void setUp() {
+        account = new Account();
+        account.deposit(10_000L);
+
+        transactionHistory = TransactionHistory.builder()
+                .transactionType(TransactionType.TRANSFER)
+                .withdrawalId(1L)
+                .depositId(2L)
+                .amount(10_000L)
+                .fee(100L)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public AccountDTO accountDTO() {
+        return AccountDTO.from(account);
+    }
+
+    @Benchmark
+    public TransactionHistoryDTO transactionHistoryDTO() {
+        return TransactionHistoryDTO.from(transactionHistory);
+    }
+}
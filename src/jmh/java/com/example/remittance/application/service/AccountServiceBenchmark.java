@@ -0,0 +1,79 @@
+package com.example.remittance.application.service;
+
+import com.example.remittance.RemittanceApplication;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AccountServiceBenchmark {
+
+    private static final int ACCOUNT_COUNT = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private AccountService accountService;
+    private List<Long> accountIds;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(RemittanceApplication.class)
+                .profiles("single")
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=warn"
+                )
+                .run();
+        accountService = context.getBean(AccountService.class);
+
+        accountIds = accountService.createAccounts(ACCOUNT_COUNT);
+        for (Long accountId : accountIds) {
+            accountService.deposit(accountId, 1_000_000_000L);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object deposit(AccountCursor cursor) {
+        return accountService.deposit(cursor.next(accountIds), 1_000L);
+    }
+
+    @Benchmark
+    public Object withdrawal(AccountCursor cursor) {
+        return accountService.withdrawal(cursor.next(accountIds), 1L);
+    }
+
+    @Benchmark
+    public Object transfer(AccountCursor cursor) {
+        Long transferId = cursor.next(accountIds);
+        Long depositId = cursor.next(accountIds);
+        return accountService.transfer(transferId, depositId, 100L);
+    }
+
+    @State(Scope.Thread)
+    public static class AccountCursor {
+
+        private int index;
+
+        Long next(List<Long> accountIds) {
+            index = (index + 1) % accountIds.size();
+            return accountIds.get(index);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.remittance.domain.model;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountBenchmark {
+
+    private Account account;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        account = new Account();
+        account.deposit(Long.MAX_VALUE / 2);
+    }
+
+    @Benchmark
+    public Account deposit() {
+        account.deposit(1_000L);
+        return account;
+    }
+
+    @Benchmark
+    public Account withdrawal() {
+        account.withdrawal(1_000L);
+        return account;
+    }
+
+    @Benchmark
+    public Account transfer() {
+        account.transfer(1_000L, 10L);
+        return account;
+    }
+}
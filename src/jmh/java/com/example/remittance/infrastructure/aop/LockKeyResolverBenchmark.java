@@ -0,0 +1,62 @@
+package com.example.remittance.infrastructure.aop;
+
+import com.example.remittance.application.annotation.DistributedLock;
+import com.example.remittance.application.service.AccountService;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LockKeyResolverBenchmark {
+
+    private final LockKeyResolverRegistry registry = new LockKeyResolverRegistry();
+
+    private Method transfer;
+    private String[] keyExpressions;
+    private String[] paramNames;
+    private Object[] args;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        transfer = AccountService.class.getMethod("transfer", Long.class, Long.class, Long.class);
+        keyExpressions = transfer.getAnnotation(DistributedLock.class).keys();
+        paramNames = new String[]{"transferId", "depositId", "amount"};
+        args = new Object[]{1L, 2L, 10_000L};
+    }
+
+    @Benchmark
+    public String[] legacyParseSpel() {
+        ExpressionParser parser = new SpelExpressionParser();
+        StandardEvaluationContext context = new StandardEvaluationContext();
+
+        for (int i = 0; i < paramNames.length; i++) {
+            context.setVariable(paramNames[i], args[i]);
+        }
+
+        StringBuilder keyBuilder = new StringBuilder();
+        for (String key : keyExpressions) {
+            Expression expression = parser.parseExpression(key);
+            Object value = expression.getValue(context);
+            keyBuilder.append(value).append(" ");
+        }
+
+        return keyBuilder.substring(0, keyBuilder.length() - 1).split(" ");
+    }
+
+    @Benchmark
+    public String[] cachedResolver() {
+        return registry.resolverFor(transfer, keyExpressions).resolve(args);
+    }
+}
@@ -13,4 +13,8 @@ public @interface DistributedLock {
     long waitTime() default 3L;
 
     long leaseTime() default 3L;
+
+    boolean multiLock() default false;
+
+    String provider() default "";
 }
@@ -23,4 +23,22 @@ public record AccountDTO(
                 .updatedAt(account.getUpdatedAt())
                 .build();
     }
+
+    public static AccountDTO of(Account account, long balanceAmount) {
+        return AccountDTO.builder()
+                .id(account.getId())
+                .balanceAmount(balanceAmount)
+                .createdAt(account.getCreatedAt())
+                .updatedAt(account.getUpdatedAt())
+                .build();
+    }
+
+    public static AccountDTO of(Long id, long balanceAmount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return AccountDTO.builder()
+                .id(id)
+                .balanceAmount(balanceAmount)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
 }
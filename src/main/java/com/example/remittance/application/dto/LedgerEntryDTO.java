@@ -0,0 +1,34 @@
+package com.example.remittance.application.dto;
+
+import com.example.remittance.domain.model.LedgerEntry;
+import com.example.remittance.domain.model.LedgerEntryType;
+import com.example.remittance.domain.model.TransactionType;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record LedgerEntryDTO(
+        long accountSeq,
+
+        LedgerEntryType entryType,
+
+        TransactionType transactionType,
+
+        Long counterpartyId,
+
+        long amount,
+
+        LocalDateTime createdAt
+) {
+    public static LedgerEntryDTO from(LedgerEntry ledgerEntry) {
+        return LedgerEntryDTO.builder()
+                .accountSeq(ledgerEntry.getAccountSeq())
+                .entryType(ledgerEntry.getEntryType())
+                .transactionType(ledgerEntry.getTransactionType())
+                .counterpartyId(ledgerEntry.getCounterpartyId())
+                .amount(ledgerEntry.getAmount())
+                .createdAt(ledgerEntry.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.remittance.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record StatementExportCommand(
+        List<Long> accountIds,
+
+        LocalDateTime from,
+
+        LocalDateTime to,
+
+        StatementFormat format
+) {
+    public StatementExportCommand {
+        accountIds = accountIds == null ? List.of() : List.copyOf(accountIds);
+        format = format == null ? StatementFormat.CSV : format;
+    }
+}
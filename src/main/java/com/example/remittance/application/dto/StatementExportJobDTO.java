@@ -0,0 +1,35 @@
+package com.example.remittance.application.dto;
+
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record StatementExportJobDTO(
+        String jobId,
+
+        StatementExportStatus status,
+
+        StatementFormat format,
+
+        long rowCount,
+
+        String message,
+
+        LocalDateTime createdAt,
+
+        LocalDateTime completedAt
+) {
+    public static StatementExportJobDTO of(String jobId, StatementExportStatus status, StatementFormat format, long rowCount,
+                                           String message, LocalDateTime createdAt, LocalDateTime completedAt) {
+        return StatementExportJobDTO.builder()
+                .jobId(jobId)
+                .status(status)
+                .format(format)
+                .rowCount(rowCount)
+                .message(message)
+                .createdAt(createdAt)
+                .completedAt(completedAt)
+                .build();
+    }
+}
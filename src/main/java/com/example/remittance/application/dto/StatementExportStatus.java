@@ -0,0 +1,8 @@
+package com.example.remittance.application.dto;
+
+public enum StatementExportStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,23 @@
+package com.example.remittance.application.dto;
+
+public enum StatementFormat {
+
+    CSV("text/csv", ".csv"),
+    NDJSON_GZIP("application/gzip", ".ndjson.gz");
+
+    private final String contentType;
+    private final String extension;
+
+    StatementFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.remittance.application.dto;
+
+import com.example.remittance.domain.model.TransactionHistory;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+public record TransactionHistoryCursor(
+        LocalDateTime createdAt,
+
+        long id
+) {
+    private static final String DELIMITER = "_";
+
+    public static TransactionHistoryCursor from(TransactionHistory transactionHistory) {
+        return new TransactionHistoryCursor(transactionHistory.getCreatedAt(), transactionHistory.getId());
+    }
+
+    /**
+     * Cursor for the first page, which only holds rows created strictly before {@code toAt}; no id is below {@link Long#MIN_VALUE}.
+     */
+    public static TransactionHistoryCursor before(LocalDateTime toAt) {
+        return new TransactionHistoryCursor(toAt, Long.MIN_VALUE);
+    }
+
+    public static TransactionHistoryCursor decode(String cursor) {
+        int index = cursor.lastIndexOf(DELIMITER);
+        if (index < 0) {
+            throw new IllegalArgumentException("invalid cursor: " + cursor);
+        }
+
+        try {
+            return new TransactionHistoryCursor(
+                    LocalDateTime.parse(cursor.substring(0, index)),
+                    Long.parseLong(cursor.substring(index + 1))
+            );
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("invalid cursor: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        return createdAt + DELIMITER + id;
+    }
+}
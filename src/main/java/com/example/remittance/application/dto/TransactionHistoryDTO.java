@@ -36,4 +36,18 @@ public record TransactionHistoryDTO(
                 .updatedAt(transactionHistory.getUpdatedAt())
                 .build();
     }
+
+    public static TransactionHistoryDTO of(Long id, TransactionType transactionType, Long depositId, Long withdrawalId,
+                                           long amount, long fee, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return TransactionHistoryDTO.builder()
+                .id(id)
+                .transactionType(transactionType)
+                .depositId(depositId)
+                .withdrawalId(withdrawalId)
+                .amount(amount)
+                .fee(fee)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
 }
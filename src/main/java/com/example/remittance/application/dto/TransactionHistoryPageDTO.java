@@ -0,0 +1,19 @@
+package com.example.remittance.application.dto;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record TransactionHistoryPageDTO(
+        List<TransactionHistoryDTO> transactionHistories,
+
+        String nextCursor
+) {
+    public static TransactionHistoryPageDTO of(List<TransactionHistoryDTO> transactionHistories, TransactionHistoryCursor nextCursor) {
+        return TransactionHistoryPageDTO.builder()
+                .transactionHistories(transactionHistories)
+                .nextCursor(nextCursor == null ? null : nextCursor.encode())
+                .build();
+    }
+}
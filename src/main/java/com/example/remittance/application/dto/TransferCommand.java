@@ -0,0 +1,10 @@
+package com.example.remittance.application.dto;
+
+public record TransferCommand(
+        Long transferId,
+
+        Long depositId,
+
+        Long amount
+) {
+}
@@ -0,0 +1,40 @@
+package com.example.remittance.application.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record TransferResultDTO(
+        Long transferId,
+
+        Long depositId,
+
+        Long amount,
+
+        long fee,
+
+        boolean success,
+
+        String message
+) {
+    public static TransferResultDTO success(TransferCommand transferCommand, long fee) {
+        return TransferResultDTO.builder()
+                .transferId(transferCommand.transferId())
+                .depositId(transferCommand.depositId())
+                .amount(transferCommand.amount())
+                .fee(fee)
+                .success(true)
+                .message("transfer is success")
+                .build();
+    }
+
+    public static TransferResultDTO failure(TransferCommand transferCommand, String message) {
+        return TransferResultDTO.builder()
+                .transferId(transferCommand.transferId())
+                .depositId(transferCommand.depositId())
+                .amount(transferCommand.amount())
+                .success(false)
+                .message(message)
+                .build();
+    }
+}
@@ -2,15 +2,25 @@ package com.example.remittance.application.service;
 
 import com.example.remittance.application.annotation.DistributedLock;
 import com.example.remittance.application.dto.AccountDTO;
+import com.example.remittance.application.dto.TransferCommand;
+import com.example.remittance.application.dto.TransferResultDTO;
 import com.example.remittance.domain.model.Account;
+import com.example.remittance.domain.model.DailyUsage;
 import com.example.remittance.domain.model.TransactionHistory;
 import com.example.remittance.domain.model.TransactionType;
-import com.example.remittance.application.dto.TransactionHistoryDTO;
 import com.example.remittance.domain.repository.AccountRepository;
 import com.example.remittance.domain.repository.TransactionHistoryRepository;
+import com.example.remittance.infrastructure.cache.AccountBalanceCache;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,34 +31,77 @@ public class AccountService {
 
     private final AccountRepository accountRepository;
     private final TransactionHistoryRepository transactionHistoryRepository;
+    private final DailyUsageService dailyUsageService;
+    private final HotAccountService hotAccountService;
+    private final AccountBalanceCache accountBalanceCache;
+    private final LedgerService ledgerService;
+    private final OutboxService outboxService;
+    private final FencingService fencingService;
+    private final FeePolicy feePolicy;
 
     public static final long LIMIT_WITHDRAWAL_AMOUNT = 1_000_000L;
     public static final long LIMIT_TRANSFER_AMOUNT = 3_000_000L;
+    public static final int MAX_BATCH_TRANSFER_SIZE = 1_000;
+    public static final int MAX_BULK_ACCOUNT_SIZE = 1_000;
 
     @Transactional
     public void createAccount() {
         accountRepository.save(new Account());
     }
 
+    @Transactional
+    public List<Long> createAccounts(int count) {
+        if (count < 1 || MAX_BULK_ACCOUNT_SIZE < count) {
+            throw new IllegalArgumentException("bulk account size must be between 1 and " + MAX_BULK_ACCOUNT_SIZE);
+        }
+
+        List<Account> accounts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            accounts.add(new Account());
+        }
+
+        return accountRepository.saveAll(accounts).stream()
+                .map(Account::getId)
+                .toList();
+    }
+
     @Transactional
     public void deleteAccount(Long id) {
         Account account = accountRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("not found account"));
 
-        if (account.getBalanceAmount() > 0) {
+        if (account.getBalanceAmount() > 0
+                || account.isHot() && hotAccountService.lockSlotBalanceAmount(id) > 0
+                || ledgerService.isEnabled() && ledgerService.balanceOf(id) > 0) {
             throw new RuntimeException("impossible delete account because exists balance-amount");
         }
 
+        if (account.isHot()) {
+            hotAccountService.deleteSlots(id);
+        }
         accountRepository.delete(account);
+        accountBalanceCache.evictAfterCommit(id);
+    }
+
+    public AccountDTO getAccount(Long id) {
+        return accountBalanceCache.get(id, this::loadAccount);
+    }
+
+    private AccountDTO loadAccount(Long id) {
+        Account account = accountRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("not found account"));
+
+        return toAccountDTO(account);
     }
 
     @DistributedLock(keys = {"#id"})
     @Transactional
     public AccountDTO deposit(Long id, Long amount) {
+        fencingService.fence(List.of(id));
         Account account = accountRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("not found account"));
 
-        account.deposit(amount);
+        applyDeposit(account, amount);
 
         TransactionHistory transactionHistory = TransactionHistory.builder()
                 .transactionType(TransactionType.DEPOSIT)
@@ -58,23 +111,29 @@ public class AccountService {
                 .build();
 
         transactionHistoryRepository.save(transactionHistory);
+        outboxService.append(transactionHistory);
+        accountBalanceCache.evictAfterCommit(id);
 
-        return AccountDTO.from(account);
+        return toAccountDTO(account);
     }
 
     @DistributedLock(keys = {"#id"})
     @Transactional
     public AccountDTO withdrawal(Long id, Long amount) {
+        fencingService.fence(List.of(id));
         Account account = accountRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("not found account"));
 
-        long sumWithdrawalAmount = transactionHistoryRepository.findSumWidrawalDay(id, LocalDateTime.now());
+        LocalDate today = LocalDate.now();
+        DailyUsage dailyUsage = dailyUsageService.getDailyUsage(id, TransactionType.WITHDRAWAL, today);
+        long transferredAmount = dailyUsageService.getDailyUsage(id, TransactionType.TRANSFER, today).getAmount();
 
-        if (LIMIT_WITHDRAWAL_AMOUNT < sumWithdrawalAmount + amount) {
+        if (LIMIT_WITHDRAWAL_AMOUNT < dailyUsage.getAmount() + transferredAmount + amount) {
             throw new RuntimeException("exceed limit withdrawal-amount");
         }
 
-        account.withdrawal(amount);
+        applyWithdrawal(account, amount);
+        dailyUsage.accumulate(amount);
 
         TransactionHistory transactionHistory = TransactionHistory.builder()
                 .transactionType(TransactionType.WITHDRAWAL)
@@ -84,13 +143,16 @@ public class AccountService {
                 .build();
 
         transactionHistoryRepository.save(transactionHistory);
+        outboxService.append(transactionHistory);
+        accountBalanceCache.evictAfterCommit(id);
 
-        return AccountDTO.from(account);
+        return toAccountDTO(account);
     }
 
-    @DistributedLock(keys = {"#transferId", "#depositId"})
+    @DistributedLock(keys = {"#transferId", "#depositId"}, multiLock = true)
     @Transactional
     public List<AccountDTO> transfer(Long transferId, Long depositId, Long amount) {
+        fencingService.fence(List.of(transferId, depositId));
 
         Account withdrawalAccount = accountRepository.findById(transferId)
                 .orElseThrow(() -> new RuntimeException("not found transfer-account"));
@@ -98,41 +160,151 @@ public class AccountService {
         Account depositAccount = accountRepository.findById(depositId)
                 .orElseThrow(() -> new RuntimeException("not found deposit-account"));
 
-        long sumTransferAmount = transactionHistoryRepository.findSumWidrawalDay(transferId, LocalDateTime.now());
+        LocalDate today = LocalDate.now();
+        DailyUsage dailyUsage = dailyUsageService.getDailyUsage(transferId, TransactionType.TRANSFER, today);
+        long withdrawnAmount = dailyUsageService.getDailyUsage(transferId, TransactionType.WITHDRAWAL, today).getAmount();
 
-        if (LIMIT_TRANSFER_AMOUNT < sumTransferAmount + amount) {
+        if (LIMIT_TRANSFER_AMOUNT < dailyUsage.getAmount() + withdrawnAmount + amount) {
             throw new RuntimeException("exceed limit transfer-amount");
         }
 
-        withdrawalAccount.transfer(amount);
-        depositAccount.deposit(amount);
+        long fee = feePolicy.feeOf(transferId, amount);
+        moveFunds(withdrawalAccount, depositAccount, amount, fee);
+        dailyUsage.accumulate(amount);
 
         TransactionHistory transactionHistory = TransactionHistory.builder()
                 .transactionType(TransactionType.TRANSFER)
                 .withdrawalId(transferId)
                 .depositId(depositId)
                 .amount(amount)
-                .fee((long) (amount * 0.01))
+                .fee(fee)
                 .createdAt(LocalDateTime.now())
                 .build();
 
         transactionHistoryRepository.save(transactionHistory);
+        outboxService.append(transactionHistory);
+        accountBalanceCache.evictAfterCommit(transferId, depositId);
 
         return List.of(withdrawalAccount, depositAccount).stream()
-                .map(AccountDTO::from)
+                .map(this::toAccountDTO)
                 .toList();
     }
 
-    public List<TransactionHistoryDTO> getTransactionHistory(Long id) {
-        accountRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("not found account"));
+    @DistributedLock(keys = {"#transfers.![transferId()]", "#transfers.![depositId()]"}, multiLock = true)
+    @Transactional
+    public List<TransferResultDTO> transferBatch(List<TransferCommand> transfers) {
+        if (transfers.isEmpty() || MAX_BATCH_TRANSFER_SIZE < transfers.size()) {
+            throw new IllegalArgumentException("batch transfer size must be between 1 and " + MAX_BATCH_TRANSFER_SIZE);
+        }
 
-        List<TransactionHistory> transactionHistoryList = transactionHistoryRepository.findAllByAccountId(id);
+        Set<Long> accountIds = new HashSet<>();
+        for (TransferCommand transfer : transfers) {
+            accountIds.add(transfer.transferId());
+            accountIds.add(transfer.depositId());
+        }
 
-        return transactionHistoryList.stream()
-                .map(TransactionHistoryDTO::from)
-                .sorted(Comparator.comparing(TransactionHistoryDTO::createdAt).reversed())
-                .toList();
+        fencingService.fence(accountIds);
+        Map<Long, Account> accounts = accountRepository.findAllById(accountIds).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+        Map<Long, DailyUsage> dailyUsages = new HashMap<>();
+        Map<Long, Long> withdrawnAmounts = new HashMap<>();
+        List<TransactionHistory> transactionHistoryList = new ArrayList<>(transfers.size());
+        LocalDate today = LocalDate.now();
+
+        List<TransferResultDTO> results = new ArrayList<>(transfers.size());
+        for (TransferCommand transfer : transfers) {
+            results.add(applyTransfer(transfer, accounts, dailyUsages, withdrawnAmounts, transactionHistoryList, today));
+        }
+
+        transactionHistoryRepository.saveAll(transactionHistoryList);
+        outboxService.appendAll(transactionHistoryList);
+        accountBalanceCache.evictAfterCommit(List.copyOf(accounts.keySet()));
+
+        return results;
+    }
+
+    private TransferResultDTO applyTransfer(TransferCommand transfer, Map<Long, Account> accounts, Map<Long, DailyUsage> dailyUsages,
+                                            Map<Long, Long> withdrawnAmounts, List<TransactionHistory> transactionHistoryList, LocalDate today) {
+        Account withdrawalAccount = accounts.get(transfer.transferId());
+        if (withdrawalAccount == null) {
+            return TransferResultDTO.failure(transfer, "not found transfer-account");
+        }
+
+        Account depositAccount = accounts.get(transfer.depositId());
+        if (depositAccount == null) {
+            return TransferResultDTO.failure(transfer, "not found deposit-account");
+        }
+
+        DailyUsage dailyUsage = dailyUsages.computeIfAbsent(transfer.transferId(),
+                transferId -> dailyUsageService.getDailyUsage(transferId, TransactionType.TRANSFER, today));
+        // a batch only transfers, so the day's withdrawals stay the same for every row of the account
+        long withdrawnAmount = withdrawnAmounts.computeIfAbsent(transfer.transferId(),
+                transferId -> dailyUsageService.getDailyUsage(transferId, TransactionType.WITHDRAWAL, today).getAmount());
+
+        if (LIMIT_TRANSFER_AMOUNT < dailyUsage.getAmount() + withdrawnAmount + transfer.amount()) {
+            return TransferResultDTO.failure(transfer, "exceed limit transfer-amount");
+        }
+
+        long fee = feePolicy.feeOf(transfer.transferId(), transfer.amount());
+        try {
+            moveFunds(withdrawalAccount, depositAccount, transfer.amount(), fee);
+        } catch (RuntimeException e) {
+            return TransferResultDTO.failure(transfer, e.getMessage());
+        }
+        dailyUsage.accumulate(transfer.amount());
+
+        transactionHistoryList.add(TransactionHistory.builder()
+                .transactionType(TransactionType.TRANSFER)
+                .withdrawalId(transfer.transferId())
+                .depositId(transfer.depositId())
+                .amount(transfer.amount())
+                .fee(fee)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        return TransferResultDTO.success(transfer, fee);
+    }
+
+    private void applyDeposit(Account account, long amount) {
+        if (ledgerService.isEnabled()) {
+            ledgerService.deposit(account.getId(), amount);
+            return;
+        }
+
+        account.deposit(amount);
+    }
+
+    private void applyWithdrawal(Account account, long amount) {
+        if (ledgerService.isEnabled()) {
+            ledgerService.withdrawal(account.getId(), amount);
+            return;
+        }
+
+        if (account.isHot()) {
+            hotAccountService.reserve(account, amount);
+        }
+        account.withdrawal(amount);
+    }
+
+    private void moveFunds(Account withdrawalAccount, Account depositAccount, long amount, long fee) {
+        if (ledgerService.isEnabled()) {
+            ledgerService.transfer(withdrawalAccount.getId(), depositAccount.getId(), amount, fee);
+            return;
+        }
+
+        if (withdrawalAccount.isHot()) {
+            hotAccountService.reserve(withdrawalAccount, amount + fee);
+        }
+        withdrawalAccount.transfer(amount, fee);
+        depositAccount.deposit(amount);
+    }
+
+    private AccountDTO toAccountDTO(Account account) {
+        if (ledgerService.isEnabled()) {
+            return AccountDTO.of(account, ledgerService.balanceOf(account.getId()));
+        }
+
+        return account.isHot() ? hotAccountService.toAccountDTO(account) : AccountDTO.from(account);
     }
 
 }
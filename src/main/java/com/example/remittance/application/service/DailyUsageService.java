@@ -0,0 +1,40 @@
+package com.example.remittance.application.service;
+
+import com.example.remittance.domain.model.DailyUsage;
+import com.example.remittance.domain.model.TransactionType;
+import com.example.remittance.domain.repository.DailyUsageRepository;
+import com.example.remittance.domain.repository.TransactionHistoryRepository;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Service
+public class DailyUsageService {
+
+    private final DailyUsageRepository dailyUsageRepository;
+    private final TransactionHistoryRepository transactionHistoryRepository;
+
+    @Transactional
+    public DailyUsage getDailyUsage(Long accountId, TransactionType transactionType, LocalDate usageDate) {
+        return dailyUsageRepository.findByAccountIdAndUsageDateAndTransactionType(accountId, usageDate, transactionType)
+                .orElseGet(() -> dailyUsageRepository.save(rebuild(accountId, transactionType, usageDate)));
+    }
+
+    private DailyUsage rebuild(Long accountId, TransactionType transactionType, LocalDate usageDate) {
+        long amount = transactionHistoryRepository.findSumAmountByWithdrawalIdAndTransactionType(
+                accountId,
+                transactionType,
+                usageDate.atStartOfDay(),
+                usageDate.plusDays(1).atStartOfDay()
+        );
+
+        return DailyUsage.builder()
+                .accountId(accountId)
+                .usageDate(usageDate)
+                .transactionType(transactionType)
+                .amount(amount)
+                .build();
+    }
+}
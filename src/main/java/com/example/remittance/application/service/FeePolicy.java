@@ -0,0 +1,50 @@
+package com.example.remittance.application.service;
+
+import com.example.remittance.domain.model.FeeSchedule;
+import com.example.remittance.domain.model.FeeSchedules;
+import com.example.remittance.domain.repository.FeeTierRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Computes transfer fees in integer basis points from an in-memory copy of the fee schedules.
+ * The copy is rebuilt off the request path and swapped in as a whole, so a transfer always sees one consistent schedule.
+ */
+@Slf4j
+@Service
+public class FeePolicy {
+
+    private final FeeTierRepository feeTierRepository;
+    private final FeeSchedule defaultSchedule;
+    private volatile FeeSchedules schedules;
+
+    public FeePolicy(
+            FeeTierRepository feeTierRepository,
+            @Value("${remittance.fee.default-basis-points:100}") int defaultBasisPoints
+    ) {
+        this.feeTierRepository = feeTierRepository;
+        this.defaultSchedule = FeeSchedule.flat(defaultBasisPoints);
+        this.schedules = FeeSchedules.of(defaultSchedule);
+    }
+
+    public long feeOf(long accountId, long amount) {
+        return schedules.scheduleOf(accountId).feeOf(amount);
+    }
+
+    @PostConstruct
+    public void load() {
+        schedules = FeeSchedules.from(feeTierRepository.findAll(), defaultSchedule);
+    }
+
+    @Scheduled(fixedDelayString = "${remittance.fee.refresh-interval-ms:60000}", initialDelayString = "${remittance.fee.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.warn("failed to refresh fee schedules, keeping the previous ones", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.remittance.application.service;
+
+import com.example.remittance.domain.repository.AccountRepository;
+import com.example.remittance.infrastructure.lock.FencingTokens;
+import com.example.remittance.infrastructure.lock.StaleFencingTokenException;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@RequiredArgsConstructor
+@Service
+public class FencingService {
+
+    private final AccountRepository accountRepository;
+
+    /**
+     * Stamps the fencing token of the current lock on each account row before the row is read for writing.
+     * The update takes the row lock until commit, so a holder whose lease already passed to a newer token
+     * is rejected here instead of overwriting the newer balance.
+     */
+    public void fence(Collection<Long> accountIds) {
+        accountIds.stream()
+                .distinct()
+                .sorted()
+                .forEach(this::fence);
+    }
+
+    private void fence(Long accountId) {
+        Long token = FencingTokens.get(String.valueOf(accountId));
+        if (token == null) {
+            return;
+        }
+
+        if (accountRepository.fence(accountId, token) == 0 && accountRepository.existsById(accountId)) {
+            throw new StaleFencingTokenException("stale fencing token: account=" + accountId + " token=" + token);
+        }
+    }
+}
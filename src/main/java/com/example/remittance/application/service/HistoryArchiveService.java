@@ -0,0 +1,172 @@
+package com.example.remittance.application.service;
+
+import com.example.remittance.application.dto.TransactionHistoryDTO;
+import com.example.remittance.domain.model.HistoryPartition;
+import com.example.remittance.domain.model.HistoryPartitionUnit;
+import com.example.remittance.domain.repository.HistoryPartitionRepository;
+import com.example.remittance.domain.repository.TransactionHistoryRepository;
+import com.example.remittance.infrastructure.archive.HistoryArchiveStore;
+import com.example.remittance.infrastructure.export.TransactionHistoryCursorReader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Moves closed partitions of the transaction history to the cold archive and reads them back.
+ * Everything before {@link #archivedUntil()} is served from the archive and everything after it from the hot table,
+ * so callers query the hot table from that instant and append the archived rows, which are always older.
+ */
+@RequiredArgsConstructor
+@Service
+public class HistoryArchiveService {
+
+    private final HistoryPartitionRepository historyPartitionRepository;
+    private final TransactionHistoryRepository transactionHistoryRepository;
+    private final HistoryArchiveStore historyArchiveStore;
+    private final TransactionHistoryCursorReader transactionHistoryCursorReader;
+
+    public LocalDateTime archivedUntil() {
+        return historyPartitionRepository.findArchivedUntil()
+                .map(LocalDate::atStartOfDay)
+                .orElse(TransactionHistoryService.MIN_AT);
+    }
+
+    /**
+     * Archived partitions overlapping {@code [fromAt, toAt)}, newest first.
+     */
+    public List<HistoryPartition> findPartitions(LocalDateTime fromAt, LocalDateTime toAt) {
+        return historyPartitionRepository.findAllOverlapping(fromAt.toLocalDate(), toAt.toLocalDate()).stream()
+                .filter(partition -> partition.fromAt().isBefore(toAt))
+                .toList();
+    }
+
+    /**
+     * Archived rows of the account in the partition created at or after {@code fromAt} and before the cursor, newest first.
+     */
+    public List<TransactionHistoryDTO> read(HistoryPartition partition, Long accountId, LocalDateTime fromAt,
+                                            LocalDateTime cursorAt, long cursorId) {
+        List<TransactionHistoryDTO> rows = new ArrayList<>();
+        readBefore(partition, accountId, fromAt, cursorAt, cursorId, rows::add);
+        return rows;
+    }
+
+    public List<TransactionHistoryDTO> findPage(Long accountId, LocalDateTime fromAt, LocalDateTime cursorAt, long cursorId, int limit) {
+        List<TransactionHistoryDTO> page = new ArrayList<>(limit);
+
+        for (HistoryPartition partition : findPartitions(fromAt, cursorAt)) {
+            readBefore(partition, accountId, fromAt, cursorAt, cursorId, row -> {
+                page.add(row);
+                return page.size() < limit;
+            });
+            if (page.size() == limit) {
+                break;
+            }
+        }
+
+        return page;
+    }
+
+    public void stream(Long accountId, LocalDateTime fromAt, LocalDateTime toAt, Consumer<TransactionHistoryDTO> consumer) {
+        for (HistoryPartition partition : findPartitions(fromAt, toAt)) {
+            readBefore(partition, accountId, fromAt, toAt, Long.MIN_VALUE, row -> {
+                consumer.accept(row);
+                return true;
+            });
+        }
+    }
+
+    /**
+     * Rows come newest first, so decoding stops at the first row older than {@code fromAt} or when the consumer returns {@code false}.
+     */
+    private void readBefore(HistoryPartition partition, Long accountId, LocalDateTime fromAt, LocalDateTime cursorAt, long cursorId,
+                            Predicate<TransactionHistoryDTO> consumer) {
+        historyArchiveStore.readAccount(partition.getStartDate(), accountId, row -> {
+            if (row.createdAt().isBefore(fromAt)) {
+                return false;
+            }
+            if (row.createdAt().isBefore(cursorAt) || row.createdAt().isEqual(cursorAt) && row.id() < cursorId) {
+                return consumer.test(row);
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Passes the archived rows created in {@code [fromAt, toAt)} that involve one of the accounts, or all of them when
+     * {@code accountIds} is empty, to the consumer ordered by creation time and id, the order the hot table is exported in.
+     */
+    public void forEachArchived(Set<Long> accountIds, LocalDateTime fromAt, LocalDateTime toAt, Consumer<TransactionHistoryDTO> consumer) {
+        List<HistoryPartition> partitions = findPartitions(fromAt, toAt);
+
+        for (int i = partitions.size() - 1; i >= 0; i--) {
+            historyArchiveStore.forEach(partitions.get(i).getStartDate(), accountIds, row -> {
+                if (!row.createdAt().isBefore(fromAt) && row.createdAt().isBefore(toAt)) {
+                    consumer.accept(row);
+                }
+            });
+        }
+    }
+
+    /**
+     * Archives the oldest partition that still has rows in the hot table if it ends at or before {@code cutoff}.
+     * Its rows are left in the hot table for {@link #purge(LocalDateTime)}, so reads that started before the partition
+     * was recorded still find them there.
+     */
+    @Transactional
+    public Optional<HistoryPartition> archiveNext(HistoryPartitionUnit unit, LocalDate cutoff) {
+        LocalDate archivedUntil = archivedUntil().toLocalDate();
+        Optional<LocalDateTime> firstCreatedAt = transactionHistoryRepository.findFirstCreatedAtFrom(archivedUntil.atStartOfDay());
+        if (firstCreatedAt.isEmpty()) {
+            return Optional.empty();
+        }
+
+        LocalDate startDate = unit.startOf(firstCreatedAt.get().toLocalDate());
+        if (startDate.isBefore(archivedUntil)) {
+            startDate = archivedUntil;
+        }
+        LocalDate endDate = unit.next(startDate);
+        if (endDate.isAfter(cutoff)) {
+            return Optional.empty();
+        }
+
+        HistoryArchiveStore.WriteResult result;
+        try (HistoryArchiveStore.PartitionWriter writer = historyArchiveStore.openPartition(startDate)) {
+            transactionHistoryCursorReader.forEachByAccount(startDate.atStartOfDay(), endDate.atStartOfDay(), writer::write);
+            result = writer.commit();
+        }
+
+        return Optional.of(historyPartitionRepository.save(HistoryPartition.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .rowCount(result.rowCount())
+                .segmentCount(result.segmentCount())
+                .build()));
+    }
+
+    /**
+     * Deletes the hot rows of partitions archived before {@code archivedBefore}, after checking that their archive files
+     * are all readable.
+     *
+     * @return the number of partitions purged
+     */
+    @Transactional
+    public int purge(LocalDateTime archivedBefore) {
+        List<HistoryPartition> partitions = historyPartitionRepository.findPurgeCandidates(archivedBefore);
+
+        for (HistoryPartition partition : partitions) {
+            historyArchiveStore.verify(partition.getStartDate());
+            transactionHistoryRepository.deleteAllBetween(partition.fromAt(), partition.toAt());
+            partition.purge();
+        }
+
+        return partitions.size();
+    }
+}
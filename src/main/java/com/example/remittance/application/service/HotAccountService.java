@@ -0,0 +1,161 @@
+package com.example.remittance.application.service;
+
+import com.example.remittance.application.annotation.DistributedLock;
+import com.example.remittance.application.dto.AccountDTO;
+import com.example.remittance.domain.model.Account;
+import com.example.remittance.domain.model.AccountSlot;
+import com.example.remittance.domain.model.TransactionHistory;
+import com.example.remittance.domain.model.TransactionType;
+import com.example.remittance.domain.repository.AccountRepository;
+import com.example.remittance.domain.repository.AccountSlotRepository;
+import com.example.remittance.domain.repository.TransactionHistoryRepository;
+import com.example.remittance.infrastructure.cache.AccountBalanceCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Service
+public class HotAccountService {
+
+    private final AccountRepository accountRepository;
+    private final AccountSlotRepository accountSlotRepository;
+    private final TransactionHistoryRepository transactionHistoryRepository;
+    private final AccountBalanceCache accountBalanceCache;
+    private final LedgerService ledgerService;
+    private final OutboxService outboxService;
+    private final FencingService fencingService;
+
+    public static final int MAX_SLOT_COUNT = 64;
+
+    private final Cache<Long, Boolean> hotAccounts = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofSeconds(5))
+            .build();
+
+    @DistributedLock(keys = {"#id"})
+    @Transactional
+    public AccountDTO enableSlots(Long id, int slotCount) {
+        if (slotCount < 1 || MAX_SLOT_COUNT < slotCount) {
+            throw new IllegalArgumentException("slot count must be between 1 and " + MAX_SLOT_COUNT);
+        }
+        if (ledgerService.isEnabled()) {
+            throw new IllegalStateException("hot account slots are not supported in ledger mode");
+        }
+
+        fencingService.fence(List.of(id));
+        Account account = accountRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("not found account"));
+
+        account.enableSlots(slotCount);
+        hotAccounts.invalidate(id);
+
+        List<AccountSlot> accountSlots = new ArrayList<>(slotCount);
+        for (int slot = 0; slot < slotCount; slot++) {
+            accountSlots.add(AccountSlot.builder()
+                    .accountId(id)
+                    .slot(slot)
+                    .slots(slotCount)
+                    .build());
+        }
+        accountSlotRepository.saveAll(accountSlots);
+
+        return AccountDTO.from(account);
+    }
+
+    @Transactional
+    public Optional<AccountDTO> deposit(Long id, Long amount) {
+        int random = ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE);
+        if (accountSlotRepository.deposit(id, random, amount) == 0) {
+            return Optional.empty();
+        }
+
+        TransactionHistory transactionHistory = TransactionHistory.builder()
+                .transactionType(TransactionType.DEPOSIT)
+                .depositId(id)
+                .amount(amount)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        transactionHistoryRepository.save(transactionHistory);
+        outboxService.append(transactionHistory);
+        accountBalanceCache.evictAfterCommit(id);
+
+        Account account = accountRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("not found account"));
+
+        return Optional.of(toAccountDTO(account));
+    }
+
+    public void reserve(Account account, long amount) {
+        long shortfall = amount - account.getBalanceAmount();
+        if (shortfall <= 0) {
+            return;
+        }
+
+        Optional<Integer> slot = accountSlotRepository.findSlotWithBalance(account.getId(), shortfall);
+        if (slot.isPresent() && accountSlotRepository.withdrawal(account.getId(), slot.get(), shortfall) == 1) {
+            account.deposit(shortfall);
+            return;
+        }
+
+        consolidate(account);
+    }
+
+    public AccountDTO toAccountDTO(Account account) {
+        if (!account.isHot()) {
+            return AccountDTO.from(account);
+        }
+
+        return AccountDTO.of(account, account.getBalanceAmount() + accountSlotRepository.sumBalanceAmountByAccountId(account.getId()));
+    }
+
+    /**
+     * Whether deposits to the account should go to its slots. The flag is cached briefly because slots are only ever
+     * enabled, and a stale answer either way still ends in a correct deposit: a stale hot account finds no slot row
+     * and falls back, and a stale plain account is deposited under the account lock.
+     */
+    public boolean isHot(Long id) {
+        return hotAccounts.get(id, accountId -> accountRepository.findSlotCountById(accountId)
+                .map(slotCount -> slotCount > 0)
+                .orElse(false));
+    }
+
+    /**
+     * Locks every slot row of the account and returns their total, so no slot deposit can land until the caller's
+     * transaction ends.
+     */
+    public long lockSlotBalanceAmount(Long id) {
+        long slotBalanceAmount = 0L;
+
+        for (AccountSlot accountSlot : accountSlotRepository.findAllForUpdateByAccountId(id)) {
+            slotBalanceAmount += accountSlot.getBalanceAmount();
+        }
+        return slotBalanceAmount;
+    }
+
+    public void deleteSlots(Long id) {
+        accountSlotRepository.deleteAllByAccountId(id);
+        hotAccounts.invalidate(id);
+    }
+
+    private void consolidate(Account account) {
+        long drained = 0L;
+
+        for (AccountSlot accountSlot : accountSlotRepository.findAllForUpdateByAccountId(account.getId())) {
+            drained += accountSlot.drain();
+        }
+
+        if (drained > 0) {
+            account.deposit(drained);
+        }
+    }
+}
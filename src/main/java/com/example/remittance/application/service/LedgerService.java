@@ -0,0 +1,158 @@
+package com.example.remittance.application.service;
+
+import com.example.remittance.application.annotation.DistributedLock;
+import com.example.remittance.application.dto.LedgerEntryDTO;
+import com.example.remittance.domain.model.BalanceSnapshot;
+import com.example.remittance.domain.model.LedgerEntry;
+import com.example.remittance.domain.model.LedgerEntryType;
+import com.example.remittance.domain.model.TransactionType;
+import com.example.remittance.domain.repository.BalanceSnapshotRepository;
+import com.example.remittance.domain.repository.LedgerEntryRepository;
+import com.example.remittance.infrastructure.aop.ConcurrencyMode;
+import com.example.remittance.infrastructure.aop.ConcurrencyModeResolver;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Ledger-first balances. Every movement is posted as a balanced pair, so the signed amounts of all entries sum to zero:
+ * deposits and withdrawals against the {@link #CLEARING_ACCOUNT_ID clearing account}, transfers between the two customer
+ * accounts and fees against the {@link #FEE_REVENUE_ACCOUNT_ID fee revenue account}.
+ * Customer entries are numbered per account under the account lock. Internal accounts are shared by every lock, so their
+ * entries take the id of the customer entry they balance as sequence instead, which is unique without coordination.
+ * Those ids are not ordered across nodes, so internal balances are always summed in full rather than snapshotted.
+ */
+@Service
+public class LedgerService {
+
+    public static final int MAX_PAGE_SIZE = 1_000;
+
+    public static final long CLEARING_ACCOUNT_ID = -1L;
+    public static final long FEE_REVENUE_ACCOUNT_ID = -2L;
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+    private final boolean enabled;
+
+    public LedgerService(
+            LedgerEntryRepository ledgerEntryRepository,
+            BalanceSnapshotRepository balanceSnapshotRepository,
+            @Value("${remittance.ledger.enabled:false}") boolean enabled,
+            ConcurrencyModeResolver concurrencyModeResolver
+    ) {
+        if (enabled) {
+            requireLockMode(concurrencyModeResolver);
+        }
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.balanceSnapshotRepository = balanceSnapshotRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long balanceOf(Long accountId) {
+        BalanceSnapshot snapshot = balanceSnapshotRepository.findById(accountId)
+                .orElseGet(() -> new BalanceSnapshot(accountId));
+
+        return snapshot.getBalanceAmount() + ledgerEntryRepository.sumSignedAmountAfter(accountId, snapshot.getLastAccountSeq());
+    }
+
+    public void deposit(Long accountId, long amount) {
+        long accountSeq = ledgerEntryRepository.findLastAccountSeq(accountId);
+
+        LedgerEntry credit = ledgerEntryRepository.save(
+                entry(accountId, accountSeq + 1, LedgerEntryType.CREDIT, TransactionType.DEPOSIT, CLEARING_ACCOUNT_ID, amount));
+        ledgerEntryRepository.save(contra(credit, CLEARING_ACCOUNT_ID, LedgerEntryType.DEBIT));
+    }
+
+    public void withdrawal(Long accountId, long amount) {
+        if (balanceOf(accountId) < amount) {
+            throw new RuntimeException("impossible withdrawal amount is greater than balance amount");
+        }
+
+        long accountSeq = ledgerEntryRepository.findLastAccountSeq(accountId);
+
+        LedgerEntry debit = ledgerEntryRepository.save(
+                entry(accountId, accountSeq + 1, LedgerEntryType.DEBIT, TransactionType.WITHDRAWAL, CLEARING_ACCOUNT_ID, amount));
+        ledgerEntryRepository.save(contra(debit, CLEARING_ACCOUNT_ID, LedgerEntryType.CREDIT));
+    }
+
+    public void transfer(Long transferId, Long depositId, long amount, long fee) {
+        if (balanceOf(transferId) < amount + fee) {
+            throw new RuntimeException("impossible transfer amount is greater than balance amount");
+        }
+
+        long transferSeq = ledgerEntryRepository.findLastAccountSeq(transferId);
+        ledgerEntryRepository.save(entry(transferId, ++transferSeq, LedgerEntryType.DEBIT, TransactionType.TRANSFER, depositId, amount));
+        if (fee > 0) {
+            LedgerEntry feeEntry = ledgerEntryRepository.save(
+                    entry(transferId, ++transferSeq, LedgerEntryType.FEE, TransactionType.TRANSFER, FEE_REVENUE_ACCOUNT_ID, fee));
+            ledgerEntryRepository.save(contra(feeEntry, FEE_REVENUE_ACCOUNT_ID, LedgerEntryType.CREDIT));
+        }
+
+        long depositSeq = ledgerEntryRepository.findLastAccountSeq(depositId);
+        ledgerEntryRepository.save(entry(depositId, depositSeq + 1, LedgerEntryType.CREDIT, TransactionType.TRANSFER, transferId, amount));
+    }
+
+    @DistributedLock(keys = {"#accountId"})
+    @Transactional
+    public void snapshot(Long accountId) {
+        BalanceSnapshot snapshot = balanceSnapshotRepository.findById(accountId)
+                .orElseGet(() -> new BalanceSnapshot(accountId));
+
+        long lastAccountSeq = ledgerEntryRepository.findLastAccountSeq(accountId);
+        if (lastAccountSeq == snapshot.getLastAccountSeq()) {
+            return;
+        }
+
+        long balanceAmount = snapshot.getBalanceAmount() + ledgerEntryRepository.sumSignedAmountAfter(accountId, snapshot.getLastAccountSeq());
+        snapshot.advance(balanceAmount, lastAccountSeq);
+
+        balanceSnapshotRepository.save(snapshot);
+    }
+
+    @Transactional(readOnly = true)
+    public List<LedgerEntryDTO> getLedger(Long accountId, Long beforeSeq, int size) {
+        if (size < 1 || MAX_PAGE_SIZE < size) {
+            throw new IllegalArgumentException("page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        return ledgerEntryRepository.findPageByAccountId(accountId, beforeSeq == null ? Long.MAX_VALUE : beforeSeq, size).stream()
+                .map(LedgerEntryDTO::from)
+                .toList();
+    }
+
+    private static void requireLockMode(ConcurrencyModeResolver concurrencyModeResolver) {
+        if (concurrencyModeResolver.defaultMode() != ConcurrencyMode.LOCK) {
+            throw new IllegalStateException("ledger mode requires lock concurrency mode");
+        }
+        for (Map.Entry<String, ConcurrencyMode> operationMode : concurrencyModeResolver.operationModes().entrySet()) {
+            if (operationMode.getValue() != ConcurrencyMode.LOCK) {
+                throw new IllegalStateException("ledger mode requires lock concurrency mode: " + operationMode.getKey());
+            }
+        }
+    }
+
+    private LedgerEntry contra(LedgerEntry customerEntry, long internalAccountId, LedgerEntryType entryType) {
+        return entry(internalAccountId, customerEntry.getId(), entryType, customerEntry.getTransactionType(),
+                customerEntry.getAccountId(), customerEntry.getAmount());
+    }
+
+    private LedgerEntry entry(Long accountId, long accountSeq, LedgerEntryType entryType, TransactionType transactionType,
+                              Long counterpartyId, long amount) {
+        return LedgerEntry.builder()
+                .accountId(accountId)
+                .accountSeq(accountSeq)
+                .entryType(entryType)
+                .transactionType(transactionType)
+                .counterpartyId(counterpartyId)
+                .amount(amount)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.remittance.application.service;
+
+import com.example.remittance.domain.repository.LedgerEntryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@ConditionalOnProperty(prefix = "remittance.ledger", name = "enabled", havingValue = "true")
+@Component
+public class LedgerSnapshotter {
+
+    private final LedgerService ledgerService;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final long minEntries;
+    private final int batchSize;
+
+    public LedgerSnapshotter(
+            LedgerService ledgerService,
+            LedgerEntryRepository ledgerEntryRepository,
+            @Value("${remittance.ledger.snapshot.min-entries:100}") long minEntries,
+            @Value("${remittance.ledger.snapshot.batch-size:500}") int batchSize
+    ) {
+        this.ledgerService = ledgerService;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.minEntries = minEntries;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${remittance.ledger.snapshot.interval-ms:60000}")
+    public void compact() {
+        int snapshotCount = 0;
+
+        for (Long accountId : ledgerEntryRepository.findSnapshotCandidates(minEntries, batchSize)) {
+            try {
+                ledgerService.snapshot(accountId);
+                snapshotCount++;
+            } catch (RuntimeException e) {
+                log.warn("failed to snapshot ledger balance: {}", accountId, e);
+            }
+        }
+
+        if (snapshotCount > 0) {
+            log.info("ledger snapshots taken: {}", snapshotCount);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.remittance.application.service;
+
+import com.example.remittance.application.dto.TransactionHistoryDTO;
+import com.example.remittance.domain.model.OutboxEvent;
+import com.example.remittance.domain.model.TransactionHistory;
+import com.example.remittance.domain.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    public OutboxService(
+            OutboxEventRepository outboxEventRepository,
+            ObjectMapper objectMapper,
+            @Value("${remittance.outbox.enabled:true}") boolean enabled
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void append(TransactionHistory transactionHistory) {
+        if (enabled) {
+            outboxEventRepository.save(toEvent(TransactionHistoryDTO.from(transactionHistory)));
+        }
+    }
+
+    public void appendAll(List<TransactionHistory> transactionHistoryList) {
+        if (enabled && !transactionHistoryList.isEmpty()) {
+            outboxEventRepository.saveAll(transactionHistoryList.stream()
+                    .map(TransactionHistoryDTO::from)
+                    .map(this::toEvent)
+                    .toList());
+        }
+    }
+
+    public OutboxEvent toEvent(TransactionHistoryDTO transactionHistoryDTO) {
+        return OutboxEvent.builder()
+                .eventType(transactionHistoryDTO.transactionType())
+                .aggregateId(transactionHistoryDTO.withdrawalId() != null ? transactionHistoryDTO.withdrawalId() : transactionHistoryDTO.depositId())
+                .payload(write(transactionHistoryDTO))
+                .createdAt(transactionHistoryDTO.createdAt())
+                .build();
+    }
+
+    private String write(TransactionHistoryDTO transactionHistoryDTO) {
+        try {
+            return objectMapper.writeValueAsString(transactionHistoryDTO);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to write outbox payload", e);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.remittance.application.service;
+
+import com.example.remittance.application.annotation.DistributedLock;
+import com.example.remittance.application.dto.AccountDTO;
+import com.example.remittance.application.dto.TransferCommand;
+import com.example.remittance.application.dto.TransferResultDTO;
+import com.example.remittance.domain.model.TransactionType;
+import com.example.remittance.infrastructure.r2dbc.AccountR2dbcRepository;
+import com.example.remittance.infrastructure.r2dbc.DailyUsageR2dbcRepository;
+import com.example.remittance.infrastructure.r2dbc.OutboxR2dbcRepository;
+import com.example.remittance.infrastructure.r2dbc.TransactionHistoryR2dbcRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Profile("reactive")
+@Service
+public class ReactiveAccountService {
+
+    private final AccountR2dbcRepository accountRepository;
+    private final TransactionHistoryR2dbcRepository transactionHistoryRepository;
+    private final DailyUsageR2dbcRepository dailyUsageRepository;
+    private final OutboxR2dbcRepository outboxRepository;
+    private final OutboxService outboxService;
+    private final FeePolicy feePolicy;
+    private final TransactionalOperator transactionalOperator;
+
+    public ReactiveAccountService(
+            AccountR2dbcRepository accountRepository,
+            TransactionHistoryR2dbcRepository transactionHistoryRepository,
+            DailyUsageR2dbcRepository dailyUsageRepository,
+            OutboxR2dbcRepository outboxRepository,
+            OutboxService outboxService,
+            FeePolicy feePolicy,
+            TransactionalOperator transactionalOperator,
+            @Value("${remittance.ledger.enabled:false}") boolean ledgerEnabled
+    ) {
+        if (ledgerEnabled) {
+            throw new IllegalStateException("reactive mode does not support ledger mode");
+        }
+        this.accountRepository = accountRepository;
+        this.transactionHistoryRepository = transactionHistoryRepository;
+        this.dailyUsageRepository = dailyUsageRepository;
+        this.outboxRepository = outboxRepository;
+        this.outboxService = outboxService;
+        this.feePolicy = feePolicy;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    public Mono<Void> createAccount() {
+        return accountRepository.insert(1)
+                .then()
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<List<Long>> createAccounts(int count) {
+        if (count < 1 || AccountService.MAX_BULK_ACCOUNT_SIZE < count) {
+            return Mono.error(new IllegalArgumentException("bulk account size must be between 1 and " + AccountService.MAX_BULK_ACCOUNT_SIZE));
+        }
+
+        return accountRepository.insert(count)
+                .collectList()
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<AccountDTO> getAccount(Long id) {
+        return findAccount(id, "not found account");
+    }
+
+    public Mono<Void> deleteAccount(Long id) {
+        return findAccount(id, "not found account")
+                .then(accountRepository.deleteIfEmpty(id))
+                .filter(deleted -> deleted > 0)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("impossible delete account because exists balance-amount")))
+                .then()
+                .as(transactionalOperator::transactional);
+    }
+
+    @DistributedLock(keys = {"#id"})
+    public Mono<AccountDTO> deposit(Long id, Long amount) {
+        LocalDateTime nowAt = LocalDateTime.now();
+
+        return findAccount(id, "not found account")
+                .then(accountRepository.deposit(id, amount, nowAt))
+                .then(record(TransactionType.DEPOSIT, id, null, amount, 0L, nowAt))
+                .then(accountRepository.findById(id))
+                .as(transactionalOperator::transactional);
+    }
+
+    @DistributedLock(keys = {"#id"})
+    public Mono<AccountDTO> withdrawal(Long id, Long amount) {
+        LocalDateTime nowAt = LocalDateTime.now();
+        LocalDate today = nowAt.toLocalDate();
+
+        return findAccount(id, "not found account")
+                .then(verifyDailyLimit(id, today, amount, AccountService.LIMIT_WITHDRAWAL_AMOUNT, "exceed limit withdrawal-amount"))
+                .then(debit(id, amount, nowAt, "impossible withdrawal amount is greater than balance amount"))
+                .then(dailyUsageRepository.accumulate(id, today, TransactionType.WITHDRAWAL, amount))
+                .then(record(TransactionType.WITHDRAWAL, null, id, amount, 0L, nowAt))
+                .then(accountRepository.findById(id))
+                .as(transactionalOperator::transactional);
+    }
+
+    @DistributedLock(keys = {"#transferId", "#depositId"}, multiLock = true)
+    public Mono<List<AccountDTO>> transfer(Long transferId, Long depositId, Long amount) {
+        LocalDateTime nowAt = LocalDateTime.now();
+        long fee = feePolicy.feeOf(transferId, amount);
+
+        return verifyTransfer(transferId, depositId, amount, nowAt.toLocalDate())
+                .then(debit(transferId, amount + fee, nowAt, "impossible transfer amount is greater than balance amount"))
+                .then(completeTransfer(transferId, depositId, amount, fee, nowAt))
+                .then(Flux.concat(accountRepository.findById(transferId), accountRepository.findById(depositId)).collectList())
+                .as(transactionalOperator::transactional);
+    }
+
+    @DistributedLock(keys = {"#transfers.![transferId()]", "#transfers.![depositId()]"}, multiLock = true)
+    public Mono<List<TransferResultDTO>> transferBatch(List<TransferCommand> transfers) {
+        if (transfers.isEmpty() || AccountService.MAX_BATCH_TRANSFER_SIZE < transfers.size()) {
+            return Mono.error(new IllegalArgumentException("batch transfer size must be between 1 and " + AccountService.MAX_BATCH_TRANSFER_SIZE));
+        }
+
+        LocalDateTime nowAt = LocalDateTime.now();
+
+        return Flux.fromIterable(transfers)
+                .concatMap(transfer -> applyTransfer(transfer, nowAt))
+                .collectList()
+                .as(transactionalOperator::transactional);
+    }
+
+    private Mono<TransferResultDTO> applyTransfer(TransferCommand transfer, LocalDateTime nowAt) {
+        long fee = feePolicy.feeOf(transfer.transferId(), transfer.amount());
+
+        Mono<TransferResultDTO> completion = completeTransfer(transfer.transferId(), transfer.depositId(), transfer.amount(), fee, nowAt)
+                .thenReturn(TransferResultDTO.success(transfer, fee));
+
+        // verification and the conditional debit write nothing when they fail, so the rest of the batch can go on
+        return verifyTransfer(transfer.transferId(), transfer.depositId(), transfer.amount(), nowAt.toLocalDate())
+                .then(debit(transfer.transferId(), transfer.amount() + fee, nowAt, "impossible transfer amount is greater than balance amount"))
+                .then(Mono.<TransferResultDTO>empty())
+                .onErrorResume(RuntimeException.class, e -> Mono.just(TransferResultDTO.failure(transfer, e.getMessage())))
+                .switchIfEmpty(completion);
+    }
+
+    private Mono<Void> verifyTransfer(Long transferId, Long depositId, long amount, LocalDate today) {
+        return findAccount(transferId, "not found transfer-account")
+                .then(findAccount(depositId, "not found deposit-account"))
+                .then(verifyDailyLimit(transferId, today, amount, AccountService.LIMIT_TRANSFER_AMOUNT, "exceed limit transfer-amount"));
+    }
+
+    private Mono<Void> completeTransfer(Long transferId, Long depositId, long amount, long fee, LocalDateTime nowAt) {
+        return accountRepository.deposit(depositId, amount, nowAt)
+                .then(dailyUsageRepository.accumulate(transferId, nowAt.toLocalDate(), TransactionType.TRANSFER, amount))
+                .then(record(TransactionType.TRANSFER, depositId, transferId, amount, fee, nowAt));
+    }
+
+    private Mono<Void> debit(Long id, long amount, LocalDateTime nowAt, String message) {
+        return accountRepository.withdrawal(id, amount, nowAt)
+                .filter(updated -> updated > 0)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException(message)))
+                .then();
+    }
+
+    /**
+     * Both daily limits apply to the day's withdrawals and transfers together.
+     */
+    private Mono<Void> verifyDailyLimit(Long accountId, LocalDate usageDate, long amount, long limit, String message) {
+        return dailyUsageAmount(accountId, TransactionType.WITHDRAWAL, usageDate)
+                .flatMap(withdrawnAmount -> dailyUsageAmount(accountId, TransactionType.TRANSFER, usageDate)
+                        .map(transferredAmount -> withdrawnAmount + transferredAmount))
+                .flatMap(usedAmount -> limit < usedAmount + amount
+                        ? Mono.<Void>error(new RuntimeException(message))
+                        : Mono.<Void>empty());
+    }
+
+    private Mono<Long> dailyUsageAmount(Long accountId, TransactionType transactionType, LocalDate usageDate) {
+        return dailyUsageRepository.findAmount(accountId, usageDate, transactionType)
+                .switchIfEmpty(Mono.defer(() -> rebuildDailyUsage(accountId, transactionType, usageDate)));
+    }
+
+    private Mono<Long> rebuildDailyUsage(Long accountId, TransactionType transactionType, LocalDate usageDate) {
+        return transactionHistoryRepository.findSumAmountByWithdrawalIdAndTransactionType(
+                        accountId,
+                        transactionType,
+                        usageDate.atStartOfDay(),
+                        usageDate.plusDays(1).atStartOfDay()
+                )
+                .flatMap(amount -> dailyUsageRepository.insert(accountId, usageDate, transactionType, amount)
+                        .thenReturn(amount));
+    }
+
+    private Mono<Void> record(TransactionType transactionType, Long depositId, Long withdrawalId, long amount, long fee, LocalDateTime nowAt) {
+        return transactionHistoryRepository.save(transactionType, depositId, withdrawalId, amount, fee, nowAt)
+                .flatMap(transactionHistoryDTO -> outboxService.isEnabled()
+                        ? outboxRepository.save(outboxService.toEvent(transactionHistoryDTO))
+                        : Mono.empty());
+    }
+
+    private Mono<AccountDTO> findAccount(Long id, String message) {
+        return accountRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException(message)));
+    }
+}
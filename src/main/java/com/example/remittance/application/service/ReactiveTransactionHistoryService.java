@@ -0,0 +1,112 @@
+package com.example.remittance.application.service;
+
+import com.example.remittance.application.dto.TransactionHistoryCursor;
+import com.example.remittance.application.dto.TransactionHistoryDTO;
+import com.example.remittance.application.dto.TransactionHistoryPageDTO;
+import com.example.remittance.infrastructure.r2dbc.AccountR2dbcRepository;
+import com.example.remittance.infrastructure.r2dbc.TransactionHistoryR2dbcRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@RequiredArgsConstructor
+@Profile("reactive")
+@Service
+public class ReactiveTransactionHistoryService {
+
+    private final AccountR2dbcRepository accountRepository;
+    private final TransactionHistoryR2dbcRepository transactionHistoryRepository;
+    private final HistoryArchiveService historyArchiveService;
+
+    public Mono<TransactionHistoryPageDTO> getTransactionHistoryPage(Long id, String cursor, int size, LocalDateTime fromAt, LocalDateTime toAt) {
+        if (size < 1 || TransactionHistoryService.MAX_PAGE_SIZE < size) {
+            return Mono.error(new IllegalArgumentException("page size must be between 1 and " + TransactionHistoryService.MAX_PAGE_SIZE));
+        }
+
+        TransactionHistoryCursor startCursor = cursor == null
+                ? TransactionHistoryCursor.before(toAt == null ? TransactionHistoryService.MAX_AT : toAt)
+                : TransactionHistoryCursor.decode(cursor);
+
+        LocalDateTime pageFromAt = fromAt == null ? TransactionHistoryService.MIN_AT : fromAt;
+
+        return verifyAccount(id)
+                .then(archivedUntil())
+                .flatMap(archivedUntil -> findPage(id, pageFromAt, startCursor, size + 1, archivedUntil))
+                .map(transactionHistoryList -> toPage(transactionHistoryList, size));
+    }
+
+    public Flux<TransactionHistoryDTO> streamTransactionHistory(Long id, LocalDateTime fromAt, LocalDateTime toAt) {
+        LocalDateTime streamFromAt = fromAt == null ? TransactionHistoryService.MIN_AT : fromAt;
+        LocalDateTime streamToAt = toAt == null ? TransactionHistoryService.MAX_AT : toAt;
+
+        return verifyAccount(id)
+                .then(archivedUntil())
+                .flatMapMany(archivedUntil -> transactionHistoryRepository.streamByAccountId(
+                                id,
+                                TransactionHistoryService.later(streamFromAt, archivedUntil),
+                                streamToAt
+                        )
+                        .concatWith(streamFromAt.isBefore(archivedUntil)
+                                ? archived(id, streamFromAt, streamToAt)
+                                : Flux.empty()));
+    }
+
+    private Mono<List<TransactionHistoryDTO>> findPage(Long id, LocalDateTime fromAt, TransactionHistoryCursor cursor, int limit,
+                                                       LocalDateTime archivedUntil) {
+        return transactionHistoryRepository.findPageByAccountId(
+                        id,
+                        TransactionHistoryService.later(fromAt, archivedUntil),
+                        cursor.createdAt(),
+                        cursor.id(),
+                        limit
+                )
+                .collectList()
+                .flatMap(transactionHistoryList -> {
+                    if (transactionHistoryList.size() == limit || !fromAt.isBefore(archivedUntil)) {
+                        return Mono.just(transactionHistoryList);
+                    }
+
+                    return Mono.fromCallable(() -> {
+                        List<TransactionHistoryDTO> merged = new ArrayList<>(transactionHistoryList);
+                        merged.addAll(historyArchiveService.findPage(
+                                id, fromAt, cursor.createdAt(), cursor.id(), limit - transactionHistoryList.size()));
+                        return merged;
+                    }).subscribeOn(Schedulers.boundedElastic());
+                });
+    }
+
+    private Mono<LocalDateTime> archivedUntil() {
+        return Mono.fromCallable(historyArchiveService::archivedUntil)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // archived partitions are read one at a time off the event loop, newest first
+    private Flux<TransactionHistoryDTO> archived(Long id, LocalDateTime fromAt, LocalDateTime toAt) {
+        return Flux.defer(() -> Flux.fromIterable(historyArchiveService.findPartitions(fromAt, toAt)))
+                .concatMapIterable(partition -> historyArchiveService.read(partition, id, fromAt, toAt, Long.MIN_VALUE))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private TransactionHistoryPageDTO toPage(List<TransactionHistoryDTO> transactionHistoryList, int size) {
+        boolean hasNext = transactionHistoryList.size() > size;
+        List<TransactionHistoryDTO> page = hasNext ? transactionHistoryList.subList(0, size) : transactionHistoryList;
+        TransactionHistoryDTO last = hasNext ? page.get(size - 1) : null;
+
+        return TransactionHistoryPageDTO.of(
+                page,
+                last == null ? null : new TransactionHistoryCursor(last.createdAt(), last.id())
+        );
+    }
+
+    private Mono<Void> verifyAccount(Long id) {
+        return accountRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("not found account")))
+                .then();
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.remittance.application.service;
+
+import com.example.remittance.application.dto.StatementExportCommand;
+import com.example.remittance.application.dto.StatementExportJobDTO;
+import com.example.remittance.application.dto.StatementExportStatus;
+import com.example.remittance.infrastructure.export.ExportQueueFullException;
+import com.example.remittance.infrastructure.export.StatementWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs large statement exports in the background and keeps the result as a file until it expires.
+ * Jobs are tracked in memory, so status and downloads are served by the node that accepted the job.
+ */
+@Slf4j
+@Service
+public class StatementExportJobService {
+
+    private final StatementExportService statementExportService;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final long retentionMinutes;
+    private final long retryAfterSeconds;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public StatementExportJobService(
+            StatementExportService statementExportService,
+            ObjectMapper objectMapper,
+            @Value("${remittance.export.dir:statement-export}") String directory,
+            @Value("${remittance.export.job.threads:2}") int threads,
+            @Value("${remittance.export.job.queue-capacity:16}") int queueCapacity,
+            @Value("${remittance.export.job.retention-minutes:60}") long retentionMinutes,
+            @Value("${remittance.export.job.retry-after-seconds:30}") long retryAfterSeconds
+    ) {
+        this.statementExportService = statementExportService;
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory);
+        this.retentionMinutes = retentionMinutes;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "statement-export-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public StatementExportJobDTO submit(StatementExportCommand command) {
+        statementExportService.verify(command);
+
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), command);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw new ExportQueueFullException("too many export jobs in progress", retryAfterSeconds);
+        }
+
+        return job.toDTO();
+    }
+
+    public StatementExportJobDTO getJob(String jobId) {
+        return findJob(jobId).toDTO();
+    }
+
+    public Path getFile(String jobId) {
+        ExportJob job = findJob(jobId);
+        if (job.status != StatementExportStatus.COMPLETED) {
+            throw new IllegalStateException("export job is not completed: " + job.status);
+        }
+        return job.file;
+    }
+
+    @Scheduled(fixedDelayString = "${remittance.export.job.cleanup-interval-ms:600000}")
+    public void cleanUp() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minusMinutes(retentionMinutes);
+
+        jobs.values().removeIf(job -> {
+            if (job.completedAt == null || job.completedAt.isAfter(expiredBefore)) {
+                return false;
+            }
+            deleteQuietly(job.file);
+            return true;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ExportJob job) {
+        job.status = StatementExportStatus.RUNNING;
+        Path file = directory.resolve(job.id + job.command.format().extension());
+        Path temporary = directory.resolve(job.id + ".tmp");
+
+        try {
+            Files.createDirectories(directory);
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                try (StatementWriter writer = StatementWriter.open(job.command.format(), channel, objectMapper)) {
+                    statementExportService.export(job.command, writer);
+                    job.rowCount = writer.rowCount();
+                }
+                channel.force(false);
+            }
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+
+            job.file = file;
+            job.completedAt = LocalDateTime.now();
+            job.status = StatementExportStatus.COMPLETED;
+        } catch (IOException | RuntimeException e) {
+            log.warn("statement export failed: {}", job.id, e);
+            deleteQuietly(temporary);
+            job.message = e.getMessage();
+            job.completedAt = LocalDateTime.now();
+            job.status = StatementExportStatus.FAILED;
+        }
+    }
+
+    private ExportJob findJob(String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new RuntimeException("not found export job");
+        }
+        return job;
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("failed to delete export file: {}", file, e);
+        }
+    }
+
+    private static final class ExportJob {
+
+        private final String id;
+        private final StatementExportCommand command;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile StatementExportStatus status = StatementExportStatus.QUEUED;
+        private volatile long rowCount;
+        private volatile String message;
+        private volatile Path file;
+        private volatile LocalDateTime completedAt;
+
+        private ExportJob(String id, StatementExportCommand command) {
+            this.id = id;
+            this.command = command;
+        }
+
+        private StatementExportJobDTO toDTO() {
+            return StatementExportJobDTO.of(id, status, command.format(), rowCount, message, createdAt, completedAt);
+        }
+    }
+}
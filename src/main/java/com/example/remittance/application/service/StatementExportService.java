@@ -0,0 +1,83 @@
+package com.example.remittance.application.service;
+
+import com.example.remittance.application.dto.StatementExportCommand;
+import com.example.remittance.infrastructure.export.StatementWriter;
+import com.example.remittance.infrastructure.export.TransactionHistoryCursorReader;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Exports transaction history as statements, archived partitions first and then the hot table, oldest first.
+ * Rows go straight from the cursor or the archive segment to the writer, so memory use stays flat however many rows are exported.
+ */
+@Service
+public class StatementExportService {
+
+    public static final int MAX_EXPORT_ACCOUNT_SIZE = 1_000;
+
+    private final TransactionHistoryCursorReader transactionHistoryCursorReader;
+    private final HistoryArchiveService historyArchiveService;
+    private final int maxSyncAccounts;
+    private final Duration maxSyncRange;
+
+    public StatementExportService(
+            TransactionHistoryCursorReader transactionHistoryCursorReader,
+            HistoryArchiveService historyArchiveService,
+            @Value("${remittance.export.max-sync-accounts:10}") int maxSyncAccounts,
+            @Value("${remittance.export.max-sync-days:31}") long maxSyncDays
+    ) {
+        this.transactionHistoryCursorReader = transactionHistoryCursorReader;
+        this.historyArchiveService = historyArchiveService;
+        this.maxSyncAccounts = maxSyncAccounts;
+        this.maxSyncRange = Duration.ofDays(maxSyncDays);
+    }
+
+    public void verify(StatementExportCommand command) {
+        if (MAX_EXPORT_ACCOUNT_SIZE < command.accountIds().size()) {
+            throw new IllegalArgumentException("export account size must be at most " + MAX_EXPORT_ACCOUNT_SIZE);
+        }
+        if (command.accountIds().isEmpty() && (command.from() == null || command.to() == null)) {
+            throw new IllegalArgumentException("export of all accounts needs both from and to");
+        }
+        if (command.from() != null && command.to() != null && !command.from().isBefore(command.to())) {
+            throw new IllegalArgumentException("export from must be before to");
+        }
+    }
+
+    /**
+     * Exports that would keep a request thread busy for long, because they cover many accounts or a long range
+     * of all accounts, must run as export jobs instead.
+     */
+    public void verifySynchronous(StatementExportCommand command) {
+        verify(command);
+
+        if (maxSyncAccounts < command.accountIds().size()
+                || command.accountIds().isEmpty() && maxSyncRange.compareTo(Duration.between(command.from(), command.to())) < 0) {
+            throw new IllegalArgumentException("export is too large to stream, submit an export job instead");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long export(StatementExportCommand command, StatementWriter writer) {
+        verify(command);
+
+        Set<Long> accountIds = new LinkedHashSet<>(command.accountIds());
+        LocalDateTime fromAt = command.from() == null ? TransactionHistoryService.MIN_AT : command.from();
+        LocalDateTime toAt = command.to() == null ? TransactionHistoryService.MAX_AT : command.to();
+        LocalDateTime archivedUntil = historyArchiveService.archivedUntil();
+
+        if (fromAt.isBefore(archivedUntil)) {
+            historyArchiveService.forEachArchived(accountIds, fromAt, toAt.isBefore(archivedUntil) ? toAt : archivedUntil, writer::write);
+        }
+        if (toAt.isAfter(archivedUntil)) {
+            transactionHistoryCursorReader.forEach(accountIds, TransactionHistoryService.later(fromAt, archivedUntil), toAt, writer::write);
+        }
+
+        return writer.rowCount();
+    }
+}
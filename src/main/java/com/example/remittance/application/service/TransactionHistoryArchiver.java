@@ -0,0 +1,101 @@
+package com.example.remittance.application.service;
+
+import com.example.remittance.domain.model.HistoryPartition;
+import com.example.remittance.domain.model.HistoryPartitionUnit;
+import com.example.remittance.infrastructure.lock.LockHandle;
+import com.example.remittance.infrastructure.lock.LockProvider;
+import com.example.remittance.infrastructure.lock.LockProviderRegistry;
+import com.example.remittance.infrastructure.lock.LockTimeoutException;
+import com.example.remittance.infrastructure.lock.LockWatchdog;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Archives closed history partitions and purges their hot rows. Only one node runs at a time, under a cluster lock that the
+ * watchdog keeps alive while a partition is written, so two nodes never archive or purge the same partition concurrently.
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "remittance.history.archive", name = "enabled", havingValue = "true")
+@Component
+public class TransactionHistoryArchiver {
+
+    private static final String[] ARCHIVER_KEYS = {"history-archiver"};
+
+    private final HistoryArchiveService historyArchiveService;
+    private final LockWatchdog lockWatchdog;
+    private final LockProvider lockProvider;
+    private final long lockLeaseSeconds;
+    private final HistoryPartitionUnit unit;
+    private final int retainedPartitions;
+    private final int maxPartitions;
+    private final long purgeDelaySeconds;
+
+    public TransactionHistoryArchiver(
+            HistoryArchiveService historyArchiveService,
+            LockProviderRegistry lockProviderRegistry,
+            LockWatchdog lockWatchdog,
+            @Value("${remittance.history.archive.lock-provider:}") String lockProvider,
+            @Value("${remittance.history.archive.lock-lease-seconds:3600}") long lockLeaseSeconds,
+            @Value("${remittance.history.partition.unit:MONTHLY}") HistoryPartitionUnit unit,
+            @Value("${remittance.history.partition.retained:3}") int retainedPartitions,
+            @Value("${remittance.history.archive.max-partitions:1}") int maxPartitions,
+            @Value("${remittance.history.archive.purge-delay-seconds:300}") long purgeDelaySeconds
+    ) {
+        if (retainedPartitions < 1) {
+            throw new IllegalArgumentException("at least one closed history partition must stay hot: " + retainedPartitions);
+        }
+        this.historyArchiveService = historyArchiveService;
+        this.lockWatchdog = lockWatchdog;
+        this.lockProvider = lockProviderRegistry.getForNamedKeys(lockProvider);
+        this.lockLeaseSeconds = lockLeaseSeconds;
+        this.unit = unit;
+        this.retainedPartitions = retainedPartitions;
+        this.maxPartitions = maxPartitions;
+        this.purgeDelaySeconds = purgeDelaySeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${remittance.history.archive.interval-ms:3600000}")
+    public void archive() throws InterruptedException {
+        boolean watched = lockProvider.leased() && lockWatchdog.isEnabled();
+        long leaseMillis = watched ? lockWatchdog.leaseMillis() : TimeUnit.SECONDS.toMillis(lockLeaseSeconds);
+
+        LockHandle lockHandle;
+        try {
+            lockHandle = lockProvider.lock(ARCHIVER_KEYS, false, 0L, leaseMillis, TimeUnit.MILLISECONDS);
+        } catch (LockTimeoutException e) {
+            return;
+        }
+        if (watched) {
+            lockHandle = lockWatchdog.watch(lockHandle, () -> log.warn("history archiver lost its cluster lock"));
+        }
+
+        LocalDate cutoff = unit.cutoff(LocalDate.now(), retainedPartitions);
+
+        try {
+            for (int i = 0; i < maxPartitions; i++) {
+                Optional<HistoryPartition> partition = historyArchiveService.archiveNext(unit, cutoff);
+                if (partition.isEmpty()) {
+                    break;
+                }
+                log.info("history partition archived: {} ~ {}, rows={}, segments={}", partition.get().getStartDate(),
+                        partition.get().getEndDate(), partition.get().getRowCount(), partition.get().getSegmentCount());
+            }
+
+            int purged = historyArchiveService.purge(LocalDateTime.now().minusSeconds(purgeDelaySeconds));
+            if (purged > 0) {
+                log.info("archived history partitions purged from the hot table: {}", purged);
+            }
+        } catch (RuntimeException e) {
+            log.warn("failed to archive transaction history", e);
+        } finally {
+            lockHandle.unlock();
+        }
+    }
+}
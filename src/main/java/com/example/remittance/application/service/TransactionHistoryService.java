@@ -0,0 +1,110 @@
+package com.example.remittance.application.service;
+
+import com.example.remittance.application.dto.TransactionHistoryCursor;
+import com.example.remittance.application.dto.TransactionHistoryDTO;
+import com.example.remittance.application.dto.TransactionHistoryPageDTO;
+import com.example.remittance.domain.model.TransactionHistory;
+import com.example.remittance.domain.repository.AccountRepository;
+import com.example.remittance.domain.repository.TransactionHistoryRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Service
+public class TransactionHistoryService {
+
+    public static final int MAX_PAGE_SIZE = 1_000;
+
+    static final LocalDateTime MIN_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    static final LocalDateTime MAX_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private final AccountRepository accountRepository;
+    private final TransactionHistoryRepository transactionHistoryRepository;
+    private final HistoryArchiveService historyArchiveService;
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public TransactionHistoryPageDTO getTransactionHistoryPage(Long id, String cursor, int size, LocalDateTime fromAt, LocalDateTime toAt) {
+        if (size < 1 || MAX_PAGE_SIZE < size) {
+            throw new IllegalArgumentException("page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        verifyAccount(id);
+
+        TransactionHistoryCursor startCursor = cursor == null
+                ? TransactionHistoryCursor.before(toAt == null ? MAX_AT : toAt)
+                : TransactionHistoryCursor.decode(cursor);
+
+        LocalDateTime pageFromAt = fromAt == null ? MIN_AT : fromAt;
+        LocalDateTime archivedUntil = historyArchiveService.archivedUntil();
+
+        List<TransactionHistoryDTO> transactionHistoryList = new ArrayList<>(size + 1);
+        transactionHistoryRepository.findPageByAccountId(
+                id,
+                later(pageFromAt, archivedUntil),
+                startCursor.createdAt(),
+                startCursor.id(),
+                size + 1
+        ).forEach(transactionHistory -> transactionHistoryList.add(TransactionHistoryDTO.from(transactionHistory)));
+
+        if (transactionHistoryList.size() <= size && pageFromAt.isBefore(archivedUntil)) {
+            transactionHistoryList.addAll(historyArchiveService.findPage(
+                    id,
+                    pageFromAt,
+                    startCursor.createdAt(),
+                    startCursor.id(),
+                    size + 1 - transactionHistoryList.size()
+            ));
+        }
+
+        boolean hasNext = transactionHistoryList.size() > size;
+        List<TransactionHistoryDTO> page = hasNext ? transactionHistoryList.subList(0, size) : transactionHistoryList;
+        TransactionHistoryDTO last = hasNext ? page.get(size - 1) : null;
+
+        return TransactionHistoryPageDTO.of(
+                page,
+                last == null ? null : new TransactionHistoryCursor(last.createdAt(), last.id())
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public void streamTransactionHistory(Long id, LocalDateTime fromAt, LocalDateTime toAt, Consumer<TransactionHistoryDTO> consumer) {
+        verifyAccount(id);
+
+        LocalDateTime streamFromAt = fromAt == null ? MIN_AT : fromAt;
+        LocalDateTime streamToAt = toAt == null ? MAX_AT : toAt;
+        LocalDateTime archivedUntil = historyArchiveService.archivedUntil();
+
+        try (Stream<TransactionHistory> stream = transactionHistoryRepository.streamByAccountId(
+                id,
+                later(streamFromAt, archivedUntil),
+                streamToAt
+        )) {
+            stream.forEach(transactionHistory -> {
+                consumer.accept(TransactionHistoryDTO.from(transactionHistory));
+                entityManager.detach(transactionHistory);
+            });
+        }
+
+        if (streamFromAt.isBefore(archivedUntil)) {
+            historyArchiveService.stream(id, streamFromAt, streamToAt, consumer);
+        }
+    }
+
+    static LocalDateTime later(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+    private void verifyAccount(Long id) {
+        if (!accountRepository.existsById(id)) {
+            throw new RuntimeException("not found account");
+        }
+    }
+}
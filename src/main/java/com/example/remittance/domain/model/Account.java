@@ -1,9 +1,12 @@
 package com.example.remittance.domain.model;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
 import java.time.LocalDateTime;
 import lombok.Getter;
 
@@ -12,11 +15,20 @@ import lombok.Getter;
 public class Account {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_seq")
+    @SequenceGenerator(name = "account_seq", sequenceName = "account_seq", allocationSize = 50)
     private Long id;
 
     private long balanceAmount;
 
+    @Version
+    private Long version;
+
+    @Column(nullable = false, updatable = false)
+    private long fencingToken;
+
+    private int slotCount;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
@@ -28,6 +40,19 @@ public class Account {
         this.updatedAt = nowAt;
     }
 
+    public void enableSlots(int slotCount) {
+        if (isHot()) {
+            throw new RuntimeException("already hot account");
+        }
+
+        this.slotCount = slotCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isHot() {
+        return this.slotCount > 0;
+    }
+
     public void deposit(Long amount) {
         this.balanceAmount += amount;
         this.updatedAt = LocalDateTime.now();
@@ -46,15 +71,15 @@ public class Account {
         }
     }
 
-    public void transfer(Long amount) {
-        verifyPossibleTransfer(amount);
+    public void transfer(long amount, long fee) {
+        verifyPossibleTransfer(amount, fee);
 
-        this.balanceAmount -= amount + (long)(amount * 0.01);
+        this.balanceAmount -= amount + fee;
         this.updatedAt = LocalDateTime.now();
     }
 
-    private void verifyPossibleTransfer(Long amount) {
-        if (this.balanceAmount < amount + (long) amount * 0.01) {
+    private void verifyPossibleTransfer(long amount, long fee) {
+        if (this.balanceAmount < amount + fee) {
             throw new RuntimeException("impossible transfer amount is greater than balance amount");
         }
     }
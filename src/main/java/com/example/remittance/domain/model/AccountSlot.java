@@ -0,0 +1,52 @@
+package com.example.remittance.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Getter
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_account_slot_account_slot",
+        columnNames = {"account_id", "slot"}
+))
+public class AccountSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_slot_seq")
+    @SequenceGenerator(name = "account_slot_seq", sequenceName = "account_slot_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "slot")
+    private int slot;
+
+    private int slots;
+
+    @Column(name = "balance_amount")
+    private long balanceAmount;
+
+    @Builder
+    public AccountSlot(Long accountId, int slot, int slots) {
+        this.accountId = accountId;
+        this.slot = slot;
+        this.slots = slots;
+    }
+
+    public long drain() {
+        long drained = this.balanceAmount;
+        this.balanceAmount = 0L;
+        return drained;
+    }
+}
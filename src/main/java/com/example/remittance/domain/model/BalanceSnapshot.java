@@ -0,0 +1,40 @@
+package com.example.remittance.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Getter
+@Entity
+public class BalanceSnapshot {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    private long balanceAmount;
+
+    @Column(name = "last_account_seq")
+    private long lastAccountSeq;
+
+    private LocalDateTime updatedAt;
+
+    public BalanceSnapshot(Long accountId) {
+        this.accountId = accountId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void advance(long balanceAmount, long lastAccountSeq) {
+        if (lastAccountSeq < this.lastAccountSeq) {
+            throw new IllegalStateException("snapshot cannot move backwards: " + lastAccountSeq);
+        }
+
+        this.balanceAmount = balanceAmount;
+        this.lastAccountSeq = lastAccountSeq;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.remittance.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Getter
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_daily_usage_account_date_type",
+        columnNames = {"account_id", "usage_date", "transaction_type"}
+))
+public class DailyUsage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_usage_seq")
+    @SequenceGenerator(name = "daily_usage_seq", sequenceName = "daily_usage_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "usage_date")
+    private LocalDate usageDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type")
+    private TransactionType transactionType;
+
+    private long amount;
+
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public DailyUsage(Long accountId, LocalDate usageDate, TransactionType transactionType, long amount) {
+        this.accountId = accountId;
+        this.usageDate = usageDate;
+        this.transactionType = transactionType;
+        this.amount = amount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void accumulate(long amount) {
+        this.amount += amount;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
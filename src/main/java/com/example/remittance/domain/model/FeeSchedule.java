@@ -0,0 +1,57 @@
+package com.example.remittance.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Immutable tiered fee schedule in basis points. The whole amount is charged at the rate of the highest tier
+ * whose minimum amount it reaches, rounded down to the currency unit; amounts below the first tier are free.
+ */
+public final class FeeSchedule {
+
+    public static final int BASIS_POINTS = 10_000;
+
+    private final long[] minAmounts;
+    private final int[] basisPoints;
+
+    private FeeSchedule(long[] minAmounts, int[] basisPoints) {
+        this.minAmounts = minAmounts;
+        this.basisPoints = basisPoints;
+    }
+
+    public static FeeSchedule flat(int basisPoints) {
+        return of(new long[]{0L}, new int[]{basisPoints});
+    }
+
+    public static FeeSchedule of(long[] minAmounts, int[] basisPoints) {
+        if (minAmounts.length == 0 || minAmounts.length != basisPoints.length) {
+            throw new IllegalArgumentException("fee schedule needs one rate per tier");
+        }
+        for (int i = 0; i < minAmounts.length; i++) {
+            if (minAmounts[i] < 0 || i > 0 && minAmounts[i] <= minAmounts[i - 1]) {
+                throw new IllegalArgumentException("fee tiers must be ascending: " + Arrays.toString(minAmounts));
+            }
+            if (basisPoints[i] < 0 || BASIS_POINTS < basisPoints[i]) {
+                throw new IllegalArgumentException("fee rate must be between 0 and " + BASIS_POINTS + " basis points: " + basisPoints[i]);
+            }
+        }
+        return new FeeSchedule(minAmounts.clone(), basisPoints.clone());
+    }
+
+    public long feeOf(long amount) {
+        int tier = minAmounts.length - 1;
+        while (tier >= 0 && amount < minAmounts[tier]) {
+            tier--;
+        }
+        if (tier < 0) {
+            return 0L;
+        }
+
+        long rate = basisPoints[tier];
+        return amount / BASIS_POINTS * rate + amount % BASIS_POINTS * rate / BASIS_POINTS;
+    }
+
+    @Override
+    public String toString() {
+        return "FeeSchedule" + Arrays.toString(minAmounts) + Arrays.toString(basisPoints);
+    }
+}
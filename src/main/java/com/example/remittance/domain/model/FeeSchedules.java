@@ -0,0 +1,78 @@
+package com.example.remittance.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable snapshot of the default and per-account fee schedules. Account ids are kept in a sorted
+ * primitive array so that looking up a schedule neither boxes the id nor allocates.
+ */
+public final class FeeSchedules {
+
+    private final FeeSchedule defaultSchedule;
+    private final long[] accountIds;
+    private final FeeSchedule[] accountSchedules;
+
+    private FeeSchedules(FeeSchedule defaultSchedule, long[] accountIds, FeeSchedule[] accountSchedules) {
+        this.defaultSchedule = defaultSchedule;
+        this.accountIds = accountIds;
+        this.accountSchedules = accountSchedules;
+    }
+
+    public static FeeSchedules of(FeeSchedule defaultSchedule) {
+        return new FeeSchedules(defaultSchedule, new long[0], new FeeSchedule[0]);
+    }
+
+    /**
+     * Builds the schedules from fee tiers. Tiers without an account id replace the given default schedule.
+     */
+    public static FeeSchedules from(List<FeeTier> feeTiers, FeeSchedule defaultSchedule) {
+        List<FeeTier> defaultTiers = new ArrayList<>();
+        Map<Long, List<FeeTier>> tiersByAccount = new TreeMap<>();
+        for (FeeTier feeTier : feeTiers) {
+            if (feeTier.getAccountId() == null) {
+                defaultTiers.add(feeTier);
+            } else {
+                tiersByAccount.computeIfAbsent(feeTier.getAccountId(), accountId -> new ArrayList<>()).add(feeTier);
+            }
+        }
+
+        long[] accountIds = new long[tiersByAccount.size()];
+        FeeSchedule[] accountSchedules = new FeeSchedule[tiersByAccount.size()];
+        int i = 0;
+        for (Map.Entry<Long, List<FeeTier>> entry : tiersByAccount.entrySet()) {
+            accountIds[i] = entry.getKey();
+            accountSchedules[i] = scheduleOf(entry.getValue());
+            i++;
+        }
+
+        return new FeeSchedules(defaultTiers.isEmpty() ? defaultSchedule : scheduleOf(defaultTiers), accountIds, accountSchedules);
+    }
+
+    public FeeSchedule scheduleOf(long accountId) {
+        int index = Arrays.binarySearch(accountIds, accountId);
+        return index >= 0 ? accountSchedules[index] : defaultSchedule;
+    }
+
+    public int accountCount() {
+        return accountIds.length;
+    }
+
+    private static FeeSchedule scheduleOf(List<FeeTier> feeTiers) {
+        List<FeeTier> sorted = feeTiers.stream()
+                .sorted(Comparator.comparingLong(FeeTier::getMinAmount))
+                .toList();
+
+        long[] minAmounts = new long[sorted.size()];
+        int[] basisPoints = new int[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            minAmounts[i] = sorted.get(i).getMinAmount();
+            basisPoints[i] = sorted.get(i).getBasisPoints();
+        }
+        return FeeSchedule.of(minAmounts, basisPoints);
+    }
+}
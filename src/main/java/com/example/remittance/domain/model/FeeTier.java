@@ -0,0 +1,43 @@
+package com.example.remittance.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Getter
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_fee_tier_account_min_amount",
+        columnNames = {"account_id", "min_amount"}
+))
+public class FeeTier {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fee_tier_seq")
+    @SequenceGenerator(name = "fee_tier_seq", sequenceName = "fee_tier_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "min_amount")
+    private long minAmount;
+
+    private int basisPoints;
+
+    @Builder
+    public FeeTier(Long accountId, long minAmount, int basisPoints) {
+        this.accountId = accountId;
+        this.minAmount = minAmount;
+        this.basisPoints = basisPoints;
+    }
+}
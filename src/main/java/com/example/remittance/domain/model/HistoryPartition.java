@@ -0,0 +1,66 @@
+package com.example.remittance.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * A closed range of transaction history that has been written to the cold archive.
+ * Its rows stay in the hot table until the partition is purged, but reads take them from the archive as soon as it exists.
+ */
+@NoArgsConstructor
+@Getter
+@Entity
+public class HistoryPartition {
+
+    @Id
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    private long rowCount;
+
+    private int segmentCount;
+
+    private LocalDateTime archivedAt;
+
+    private LocalDateTime purgedAt;
+
+    @Builder
+    public HistoryPartition(LocalDate startDate, LocalDate endDate, long rowCount, int segmentCount) {
+        if (!startDate.isBefore(endDate)) {
+            throw new IllegalArgumentException("history partition must end after it starts: " + startDate + " ~ " + endDate);
+        }
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.rowCount = rowCount;
+        this.segmentCount = segmentCount;
+        this.archivedAt = LocalDateTime.now();
+    }
+
+    public LocalDateTime fromAt() {
+        return startDate.atStartOfDay();
+    }
+
+    public LocalDateTime toAt() {
+        return endDate.atStartOfDay();
+    }
+
+    public boolean isPurged() {
+        return purgedAt != null;
+    }
+
+    public void purge() {
+        if (isPurged()) {
+            throw new IllegalStateException("history partition already purged: " + startDate);
+        }
+        this.purgedAt = LocalDateTime.now();
+    }
+}
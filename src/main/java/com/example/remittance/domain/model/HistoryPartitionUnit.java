@@ -0,0 +1,39 @@
+package com.example.remittance.domain.model;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+public enum HistoryPartitionUnit {
+
+    DAILY(ChronoUnit.DAYS) {
+        @Override
+        public LocalDate startOf(LocalDate date) {
+            return date;
+        }
+    },
+    MONTHLY(ChronoUnit.MONTHS) {
+        @Override
+        public LocalDate startOf(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+    };
+
+    private final ChronoUnit unit;
+
+    HistoryPartitionUnit(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public abstract LocalDate startOf(LocalDate date);
+
+    public LocalDate next(LocalDate startDate) {
+        return startDate.plus(1, unit);
+    }
+
+    /**
+     * Start of the oldest partition that stays in the hot table when {@code retained} partitions are kept besides the current one.
+     */
+    public LocalDate cutoff(LocalDate today, int retained) {
+        return startOf(today).minus(retained, unit);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.remittance.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Getter
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_ledger_entry_account_seq",
+        columnNames = {"account_id", "account_seq"}
+))
+public class LedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ledger_entry_seq")
+    @SequenceGenerator(name = "ledger_entry_seq", sequenceName = "ledger_entry_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "account_seq")
+    private long accountSeq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type")
+    private LedgerEntryType entryType;
+
+    @Enumerated(EnumType.STRING)
+    private TransactionType transactionType;
+
+    private Long counterpartyId;
+
+    private long amount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Builder
+    public LedgerEntry(Long accountId, long accountSeq, LedgerEntryType entryType, TransactionType transactionType,
+                       Long counterpartyId, long amount, LocalDateTime createdAt) {
+        this.accountId = accountId;
+        this.accountSeq = accountSeq;
+        this.entryType = entryType;
+        this.transactionType = transactionType;
+        this.counterpartyId = counterpartyId;
+        this.amount = amount;
+        this.createdAt = createdAt;
+    }
+
+    public long signedAmount() {
+        return entryType.signed(amount);
+    }
+}
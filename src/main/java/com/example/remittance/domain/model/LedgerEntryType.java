@@ -0,0 +1,10 @@
+package com.example.remittance.domain.model;
+
+public enum LedgerEntryType {
+
+    DEBIT, CREDIT, FEE;
+
+    public long signed(long amount) {
+        return this == CREDIT ? amount : -amount;
+    }
+}
@@ -1,11 +1,15 @@
 package com.example.remittance.domain.model;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,23 +18,32 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_transaction_history_withdrawal_created_at", columnList = "withdrawal_id, created_at"),
+        @Index(name = "idx_transaction_history_deposit_created_at", columnList = "deposit_id, created_at"),
+        @Index(name = "idx_transaction_history_created_at", columnList = "created_at, id")
+})
 public class TransactionHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_history_seq")
+    @SequenceGenerator(name = "transaction_history_seq", sequenceName = "transaction_history_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
     private TransactionType transactionType;
 
+    @Column(name = "deposit_id")
     private Long depositId;
 
+    @Column(name = "withdrawal_id")
     private Long withdrawalId;
 
     private long amount;
 
     private long fee;
 
+    @Column(name = "created_at")
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
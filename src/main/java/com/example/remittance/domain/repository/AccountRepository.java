@@ -2,7 +2,17 @@ package com.example.remittance.domain.repository;
 
 
 import com.example.remittance.domain.model.Account;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
+
+    @Modifying
+    @Query("update Account a set a.fencingToken = :token where a.id = :id and a.fencingToken <= :token")
+    int fence(Long id, long token);
+
+    @Query("select a.slotCount from Account a where a.id = :id")
+    Optional<Integer> findSlotCountById(Long id);
 }
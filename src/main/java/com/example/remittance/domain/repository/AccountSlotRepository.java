@@ -0,0 +1,53 @@
+package com.example.remittance.domain.repository;
+
+import com.example.remittance.domain.model.AccountSlot;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface AccountSlotRepository extends JpaRepository<AccountSlot, Long> {
+
+    @Modifying
+    @Query(
+            "update AccountSlot s "
+            + "set s.balanceAmount = s.balanceAmount + :amount "
+            + "where s.accountId = :accountId "
+            + " and s.slot = mod(:random, s.slots)"
+    )
+    int deposit(Long accountId, int random, long amount);
+
+    @Query(
+            value = "select slot from account_slot "
+            + "where account_id = :accountId "
+            + " and balance_amount >= :amount "
+            + "order by balance_amount desc "
+            + "limit 1"
+            , nativeQuery = true
+    )
+    Optional<Integer> findSlotWithBalance(Long accountId, long amount);
+
+    @Modifying
+    @Query(
+            "update AccountSlot s "
+            + "set s.balanceAmount = s.balanceAmount - :amount "
+            + "where s.accountId = :accountId "
+            + " and s.slot = :slot "
+            + " and s.balanceAmount >= :amount"
+    )
+    int withdrawal(Long accountId, int slot, long amount);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from AccountSlot s where s.accountId = :accountId order by s.slot")
+    List<AccountSlot> findAllForUpdateByAccountId(Long accountId);
+
+    @Query("select coalesce(sum(s.balanceAmount), 0) from AccountSlot s where s.accountId = :accountId")
+    long sumBalanceAmountByAccountId(Long accountId);
+
+    @Modifying
+    @Query("delete from AccountSlot s where s.accountId = :accountId")
+    void deleteAllByAccountId(Long accountId);
+}
@@ -0,0 +1,7 @@
+package com.example.remittance.domain.repository;
+
+import com.example.remittance.domain.model.BalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, Long> {
+}
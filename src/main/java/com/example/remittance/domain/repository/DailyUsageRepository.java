@@ -0,0 +1,12 @@
+package com.example.remittance.domain.repository;
+
+import com.example.remittance.domain.model.DailyUsage;
+import com.example.remittance.domain.model.TransactionType;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DailyUsageRepository extends JpaRepository<DailyUsage, Long> {
+
+    Optional<DailyUsage> findByAccountIdAndUsageDateAndTransactionType(Long accountId, LocalDate usageDate, TransactionType transactionType);
+}
@@ -0,0 +1,7 @@
+package com.example.remittance.domain.repository;
+
+import com.example.remittance.domain.model.FeeTier;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface FeeTierRepository extends JpaRepository<FeeTier, Long> {
+}
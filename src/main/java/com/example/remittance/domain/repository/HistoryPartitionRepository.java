@@ -0,0 +1,31 @@
+package com.example.remittance.domain.repository;
+
+import com.example.remittance.domain.model.HistoryPartition;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface HistoryPartitionRepository extends JpaRepository<HistoryPartition, LocalDate> {
+
+    @Query("select max(a.endDate) from HistoryPartition a")
+    Optional<LocalDate> findArchivedUntil();
+
+    @Query(
+            "select a from HistoryPartition a "
+            + "where a.endDate > :fromDate "
+            + " and a.startDate <= :toDate "
+            + "order by a.startDate desc"
+    )
+    List<HistoryPartition> findAllOverlapping(LocalDate fromDate, LocalDate toDate);
+
+    @Query(
+            "select a from HistoryPartition a "
+            + "where a.purgedAt is null "
+            + " and a.archivedAt < :archivedBefore "
+            + "order by a.startDate"
+    )
+    List<HistoryPartition> findPurgeCandidates(LocalDateTime archivedBefore);
+}
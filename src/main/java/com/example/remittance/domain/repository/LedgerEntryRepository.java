@@ -0,0 +1,47 @@
+package com.example.remittance.domain.repository;
+
+import com.example.remittance.domain.model.LedgerEntry;
+import com.example.remittance.domain.model.LedgerEntryType;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    @Query("select coalesce(max(e.accountSeq), 0) from LedgerEntry e where e.accountId = :accountId")
+    long findLastAccountSeq(Long accountId);
+
+    default long sumSignedAmountAfter(Long accountId, long afterSeq) {
+        return sumSignedAmountAfterSeq(accountId, afterSeq, LedgerEntryType.CREDIT);
+    }
+
+    @Query(
+            "select coalesce(sum(case when e.entryType = :credit then e.amount else -e.amount end), 0) "
+            + "from LedgerEntry e "
+            + "where e.accountId = :accountId "
+            + " and e.accountSeq > :afterSeq"
+    )
+    long sumSignedAmountAfterSeq(Long accountId, long afterSeq, LedgerEntryType credit);
+
+    @Query(
+            value = "select * from ledger_entry "
+            + "where account_id = :accountId "
+            + " and account_seq < :beforeSeq "
+            + "order by account_seq desc "
+            + "limit :limit"
+            , nativeQuery = true
+    )
+    List<LedgerEntry> findPageByAccountId(Long accountId, long beforeSeq, int limit);
+
+    @Query(
+            value = "select e.account_id from ledger_entry as e "
+            + "left join balance_snapshot as s on s.account_id = e.account_id "
+            + "where e.account_id > 0 "
+            + " and e.account_seq > coalesce(s.last_account_seq, 0) "
+            + "group by e.account_id "
+            + "having count(*) >= :minEntries "
+            + "limit :limit"
+            , nativeQuery = true
+    )
+    List<Long> findSnapshotCandidates(long minEntries, int limit);
+}
@@ -0,0 +1,17 @@
+package com.example.remittance.domain.repository;
+
+import com.example.remittance.domain.model.OutboxEvent;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query(
+            value = "select * from outbox_event "
+            + "order by created_at, id "
+            + "limit :limit"
+            , nativeQuery = true
+    )
+    List<OutboxEvent> findOldest(int limit);
+}
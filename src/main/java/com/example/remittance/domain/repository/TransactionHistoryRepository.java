@@ -1,28 +1,75 @@
 package com.example.remittance.domain.repository;
 
 import com.example.remittance.domain.model.TransactionHistory;
+import com.example.remittance.domain.model.TransactionType;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface TransactionHistoryRepository extends JpaRepository<TransactionHistory, Long> {
 
     @Query(
-            value = "select COALESCE(sum(a.amount), 0) "
+            "select coalesce(sum(a.amount), 0) "
+            + "from TransactionHistory a "
+            + "where a.withdrawalId = :withdrawalId "
+            + " and a.transactionType = :transactionType "
+            + " and a.createdAt >= :fromAt "
+            + " and a.createdAt < :toAt"
+    )
+    long findSumAmountByWithdrawalIdAndTransactionType(Long withdrawalId, TransactionType transactionType, LocalDateTime fromAt, LocalDateTime toAt);
+
+    @Query(
+            value = "select * "
             + "from transaction_history as a "
-            + "where withdrawal_id = :withdrawalId "
-            + " and left(created_at, 10) = left(:stdDate, 10)"
+            + "where withdrawal_id = :accountId "
+            + " and created_at >= :fromAt "
+            + " and (created_at < :cursorAt or (created_at = :cursorAt and id < :cursorId)) "
+            + "union all "
+            + "select * "
+            + "from transaction_history as b "
+            + "where deposit_id = :accountId "
+            + " and (withdrawal_id is null or withdrawal_id <> :accountId) "
+            + " and created_at >= :fromAt "
+            + " and (created_at < :cursorAt or (created_at = :cursorAt and id < :cursorId)) "
+            + "order by created_at desc, id desc "
+            + "limit :limit"
             , nativeQuery = true
     )
-    long findSumWidrawalDay(Long withdrawalId, LocalDateTime stdDate);
+    List<TransactionHistory> findPageByAccountId(Long accountId, LocalDateTime fromAt, LocalDateTime cursorAt, Long cursorId, int limit);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
     @Query(
             value = "select * "
             + "from transaction_history as a "
-            + "where (withdrawal_id = :accountId or deposit_id = :accountId) "
-            + "order by created_at desc"
+            + "where withdrawal_id = :accountId "
+            + " and created_at >= :fromAt "
+            + " and created_at < :toAt "
+            + "union all "
+            + "select * "
+            + "from transaction_history as b "
+            + "where deposit_id = :accountId "
+            + " and (withdrawal_id is null or withdrawal_id <> :accountId) "
+            + " and created_at >= :fromAt "
+            + " and created_at < :toAt "
+            + "order by created_at desc, id desc"
             , nativeQuery = true
     )
-    List<TransactionHistory> findAllByAccountId(Long accountId);
+    Stream<TransactionHistory> streamByAccountId(Long accountId, LocalDateTime fromAt, LocalDateTime toAt);
+
+    @Query("select min(a.createdAt) from TransactionHistory a where a.createdAt >= :fromAt")
+    Optional<LocalDateTime> findFirstCreatedAtFrom(LocalDateTime fromAt);
+
+    @Modifying
+    @Query("delete from TransactionHistory a where a.createdAt >= :fromAt and a.createdAt < :toAt")
+    int deleteAllBetween(LocalDateTime fromAt, LocalDateTime toAt);
 }
@@ -0,0 +1,17 @@
+package com.example.remittance.infrastructure.aop;
+
+import java.util.Locale;
+
+public enum ConcurrencyMode {
+    LOCK,
+    OPTIMISTIC,
+    PARTITIONED;
+
+    public static ConcurrencyMode from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown concurrency mode: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.remittance.infrastructure.aop;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ConcurrencyModeResolver {
+
+    private static final String OPERATIONS = "remittance.concurrency.operations.";
+
+    private final Environment environment;
+    private final ConcurrencyMode defaultMode;
+    private final Map<Method, ConcurrencyMode> modes = new ConcurrentHashMap<>();
+
+    public ConcurrencyModeResolver(Environment environment, @Value("${remittance.concurrency.mode:lock}") String defaultMode) {
+        this.environment = environment;
+        this.defaultMode = ConcurrencyMode.from(defaultMode);
+    }
+
+    public ConcurrencyMode defaultMode() {
+        return defaultMode;
+    }
+
+    /**
+     * Every per-operation override found in the environment, keyed by the operation name after the
+     * {@code remittance.concurrency.operations.} prefix.
+     */
+    public Map<String, ConcurrencyMode> operationModes() {
+        Map<String, ConcurrencyMode> operationModes = new TreeMap<>();
+        if (!(environment instanceof ConfigurableEnvironment configurableEnvironment)) {
+            return operationModes;
+        }
+
+        for (PropertySource<?> propertySource : configurableEnvironment.getPropertySources()) {
+            if (!(propertySource instanceof EnumerablePropertySource<?> enumerablePropertySource)) {
+                continue;
+            }
+            for (String name : enumerablePropertySource.getPropertyNames()) {
+                if (name.startsWith(OPERATIONS)) {
+                    String operation = name.substring(OPERATIONS.length());
+                    operationModes.computeIfAbsent(operation, key -> ConcurrencyMode.from(environment.getProperty(name)));
+                }
+            }
+        }
+        return operationModes;
+    }
+
+    public ConcurrencyMode resolve(Method method) {
+        return modes.computeIfAbsent(method, key -> {
+            String mode = environment.getProperty(OPERATIONS + operationName(key));
+            return mode == null ? defaultMode : ConcurrencyMode.from(mode);
+        });
+    }
+
+    /**
+     * {@code SimpleClassName#method}, so operations with the same method name on different services are configured apart.
+     */
+    static String operationName(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "#" + method.getName();
+    }
+}
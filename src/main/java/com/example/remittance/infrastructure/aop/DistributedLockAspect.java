@@ -1,105 +1,117 @@
 package com.example.remittance.infrastructure.aop;
 
 import com.example.remittance.application.annotation.DistributedLock;
+import com.example.remittance.infrastructure.lock.FencingTokens;
+import com.example.remittance.infrastructure.lock.LockAdmission;
+import com.example.remittance.infrastructure.lock.LockHandle;
+import com.example.remittance.infrastructure.lock.LockMetrics;
+import com.example.remittance.infrastructure.lock.LockMetrics.MethodMetrics;
+import com.example.remittance.infrastructure.lock.LockProvider;
+import com.example.remittance.infrastructure.lock.LockProviderRegistry;
+import com.example.remittance.infrastructure.lock.LockQueueFullException;
+import com.example.remittance.infrastructure.lock.LockTimeoutException;
+import com.example.remittance.infrastructure.lock.LockWatchdog;
+import com.example.remittance.infrastructure.partition.PartitionedExecutor;
+import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
-import org.springframework.expression.Expression;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.concurrent.TimeUnit;
 
-@Slf4j
 @Aspect
 @RequiredArgsConstructor
 @Component
 public class DistributedLockAspect {
 
-    private final RedissonClient redissonClient;
+    private final LockProviderRegistry lockProviderRegistry;
+    private final LockKeyResolverRegistry lockKeyResolverRegistry;
+    private final LockMetrics lockMetrics;
+    private final ConcurrencyModeResolver concurrencyModeResolver;
+    private final PartitionedExecutor partitionedExecutor;
+    private final LockWatchdog lockWatchdog;
+    private final LockAdmission lockAdmission;
 
-    private static final String LOCK = "lock:";
-
-    @Around("@annotation(distributedLock)")
+    @Around("@annotation(distributedLock) && !execution(org.reactivestreams.Publisher+ *(..))")
     public Object aroundMethod(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) throws Throwable {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Object[] args = joinPoint.getArgs();
-        String[] paramNames = signature.getParameterNames();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+
+        ConcurrencyMode concurrencyMode = concurrencyModeResolver.resolve(method);
+        if (concurrencyMode == ConcurrencyMode.OPTIMISTIC) {
+            return joinPoint.proceed();
+        }
+
+        // A batch touching the same account several times holds, queues for and reports its lock once.
+        String[] keys = Arrays.stream(lockKeyResolverRegistry.resolverFor(method, distributedLock.keys())
+                        .resolve(joinPoint.getArgs()))
+                .distinct()
+                .toArray(String[]::new);
 
-        String[] keys = parseSpel(distributedLock.keys(), paramNames, args);
+        if (concurrencyMode == ConcurrencyMode.PARTITIONED && partitionedExecutor.isLocallyOwned(keys)) {
+            return joinPoint.proceed();
+        }
 
-        long waitTime = distributedLock.waitTime();
-        long leaseTime = distributedLock.leaseTime();
+        LockProvider lockProvider = lockProviderRegistry.get(distributedLock.provider());
+        MethodMetrics metrics = lockMetrics.forMethod(method, lockProvider.name());
 
-        List<RLock> locks = Arrays.stream(keys)
-                .map(key -> redissonClient.getLock(LOCK + key))
-                .toList();
+        boolean watched = lockProvider.leased() && lockWatchdog.isEnabled();
+        long leaseMillis = watched ? lockWatchdog.leaseMillis() : TimeUnit.SECONDS.toMillis(distributedLock.leaseTime());
 
-        try {
-            for (RLock lock : locks) {
-                boolean isLocked = lock.tryLock(waitTime, leaseTime, TimeUnit.SECONDS);
-                if (!isLocked) {
-                    throw new IllegalStateException("not obtain lock: " + lock.getName());
-                }
-                log.info("success obtain lock : " + lock.getName());
-            }
+        long waitStartedAt = System.nanoTime();
+        LockHandle acquiredHandle;
+        try (LockAdmission.Ticket ticket = admit(keys, metrics)) {
+            acquiredHandle = lockProvider.lock(keys, distributedLock.multiLock(), TimeUnit.SECONDS.toMillis(distributedLock.waitTime()),
+                    leaseMillis, TimeUnit.MILLISECONDS);
+        } catch (LockTimeoutException e) {
+            lockMetrics.timedOut(metrics, keys, System.nanoTime() - waitStartedAt);
+            throw e;
+        }
 
+        long acquiredAt = System.nanoTime();
+        lockMetrics.acquired(metrics, keys, acquiredAt - waitStartedAt);
+        LockHandle lockHandle = watched
+                ? lockWatchdog.watch(acquiredHandle, () -> lockMetrics.leaseLost(metrics, keys))
+                : acquiredHandle;
+        long leaseNanos = lockProvider.leased() && !watched ? TimeUnit.MILLISECONDS.toNanos(leaseMillis) : 0L;
+
+        Map<String, Long> previousTokens = FencingTokens.bind(lockHandle.fencingTokens());
+        try {
             if (TransactionSynchronizationManager.isActualTransactionActive()) {
                 TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
                     @Override
                     public void afterCompletion(int status) {
-                        unlockLocks(locks);
+                        unlock(lockHandle, metrics, keys, acquiredAt, leaseNanos);
                     }
                 });
             }
 
             return joinPoint.proceed();
         } finally {
+            FencingTokens.restore(previousTokens);
             if (!TransactionSynchronizationManager.isActualTransactionActive()) {
-                unlockLocks(locks);
+                unlock(lockHandle, metrics, keys, acquiredAt, leaseNanos);
             }
         }
     }
 
-    private void unlockLocks(List<RLock> locks) {
-        for (RLock lock : locks) {
-            if (lock.isLocked() && lock.isHeldByCurrentThread()) {
-                lock.unlock();
-                log.info("unlock after execution: " + lock.getName());
-            }
+    private LockAdmission.Ticket admit(String[] keys, MethodMetrics metrics) {
+        try {
+            return lockAdmission.admit(keys);
+        } catch (LockQueueFullException e) {
+            lockMetrics.rejected(metrics, keys);
+            throw e;
         }
     }
 
-    private String[] parseSpel(String[] keys, String[] paramNames, Object[] args) {
-        ExpressionParser parser = new SpelExpressionParser();
-        StandardEvaluationContext context = new StandardEvaluationContext();
-
-        for (int i = 0; i < paramNames.length; i++) {
-            context.setVariable(paramNames[i], args[i]);
-        }
-
-        StringBuilder keyBuilder = new StringBuilder();
-        for (String key : keys) {
-            try {
-                Expression expression = parser.parseExpression(key);
-                Object value = expression.getValue(context);
-                keyBuilder.append(value).append(" ");
-            } catch (Exception e) {
-                throw new IllegalArgumentException("Failed to parse SpEL: " + key, e);
-            }
-        }
-
-        return keyBuilder.substring(0, keyBuilder.length() - 1).split(" ");
+    private void unlock(LockHandle lockHandle, MethodMetrics metrics, String[] keys, long acquiredAt, long leaseNanos) {
+        lockMetrics.released(metrics, keys, System.nanoTime() - acquiredAt, leaseNanos);
+        lockHandle.unlock();
     }
 }
@@ -0,0 +1,172 @@
+package com.example.remittance.infrastructure.aop;
+
+import com.example.remittance.infrastructure.idempotency.IdempotencyInProgressException;
+import com.example.remittance.infrastructure.idempotency.IdempotencyKeyMismatchException;
+import com.example.remittance.infrastructure.idempotency.IdempotencyRecord;
+import com.example.remittance.infrastructure.idempotency.IdempotencyStore;
+import com.example.remittance.infrastructure.lock.LockHandle;
+import com.example.remittance.infrastructure.lock.LockWatchdog;
+import com.example.remittance.presentation.annotation.Idempotent;
+import com.example.remittance.presentation.response.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Replays the stored response of a request whose {@code Idempotency-Key} was already used. The key is scoped by method and path,
+ * and the request fingerprint, a digest of the query string and the handler arguments, must match the one stored with it,
+ * so reusing a key for a different request is rejected instead of answered with another request's response.
+ * While the first request runs, its in-flight reservation is renewed by the lock watchdog, so a slow request is not run twice.
+ */
+@Slf4j
+@Aspect
+@Component
+public class IdempotencyAspect {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final TypeReference<ApiResponse<JsonNode>> STORED_RESPONSE = new TypeReference<>() {
+    };
+
+    private final IdempotencyStore idempotencyStore;
+    private final LockWatchdog lockWatchdog;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration inFlightTtl;
+    private final Duration waitTimeout;
+
+    public IdempotencyAspect(
+            IdempotencyStore idempotencyStore,
+            LockWatchdog lockWatchdog,
+            ObjectMapper objectMapper,
+            @Value("${remittance.idempotency.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${remittance.idempotency.in-flight-ttl-seconds:30}") long inFlightTtlSeconds,
+            @Value("${remittance.idempotency.wait-millis:10000}") long waitMillis
+    ) {
+        this.idempotencyStore = idempotencyStore;
+        this.lockWatchdog = lockWatchdog;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.inFlightTtl = Duration.ofSeconds(inFlightTtlSeconds);
+        this.waitTimeout = Duration.ofMillis(waitMillis);
+    }
+
+    @Around("@annotation(idempotent)")
+    public Object aroundMethod(ProceedingJoinPoint joinPoint, Idempotent idempotent) throws Throwable {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return joinPoint.proceed();
+        }
+
+        HttpServletRequest request = attributes.getRequest();
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY);
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return joinPoint.proceed();
+        }
+        if (MAX_KEY_LENGTH < idempotencyKey.length()) {
+            throw new IllegalArgumentException("idempotency key must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String key = request.getMethod() + " " + request.getRequestURI() + " " + idempotencyKey;
+        String fingerprint = fingerprint(request, joinPoint.getArgs());
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        while (true) {
+            if (idempotencyStore.tryReserve(key, fingerprint, inFlightTtl)) {
+                return execute(joinPoint, key, fingerprint);
+            }
+
+            Optional<IdempotencyRecord> stored = idempotencyStore.awaitResult(key, fingerprint,
+                    Duration.ofNanos(Math.max(0L, deadline - System.nanoTime())));
+            if (stored.isPresent() && !stored.get().fingerprint().equals(fingerprint)) {
+                throw new IdempotencyKeyMismatchException("idempotency key was already used for a different request");
+            }
+            if (stored.isPresent() && stored.get().isCompleted()) {
+                HttpServletResponse response = attributes.getResponse();
+                if (response != null) {
+                    response.setHeader(IDEMPOTENT_REPLAYED, "true");
+                }
+                return objectMapper.readValue(stored.get().result(), STORED_RESPONSE);
+            }
+
+            if (System.nanoTime() >= deadline) {
+                throw new IdempotencyInProgressException("request with the same idempotency key is in progress");
+            }
+        }
+    }
+
+    private Object execute(ProceedingJoinPoint joinPoint, String key, String fingerprint) throws Throwable {
+        LockHandle reservation = keepReserved(key, fingerprint);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            reservation.unlock();
+            idempotencyStore.release(key);
+            throw e;
+        }
+        reservation.unlock();
+
+        try {
+            idempotencyStore.complete(key, fingerprint, objectMapper.writeValueAsString(result), ttl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            idempotencyStore.release(key);
+        }
+
+        return result;
+    }
+
+    private LockHandle keepReserved(String key, String fingerprint) {
+        if (!lockWatchdog.isEnabled()) {
+            return () -> {
+            };
+        }
+
+        return lockWatchdog.watch(new LockHandle() {
+            @Override
+            public void unlock() {
+            }
+
+            @Override
+            public CompletionStage<Boolean> renewAsync(long leaseTime, TimeUnit unit) {
+                return idempotencyStore.renewAsync(key, fingerprint, Duration.ofMillis(unit.toMillis(leaseTime)));
+            }
+        }, () -> log.warn("idempotency reservation expired while the request was running: {}", key));
+    }
+
+    private String fingerprint(HttpServletRequest request, Object[] args) throws JsonProcessingException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        String queryString = request.getQueryString();
+        digest.update((queryString == null ? "" : queryString).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(objectMapper.writeValueAsBytes(args));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.remittance.infrastructure.aop;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+public final class LockKeyResolver {
+
+    private static final Pattern PARAMETER_REFERENCE = Pattern.compile("#[A-Za-z_$][A-Za-z0-9_$]*");
+
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, LockKeyResolver.class.getClassLoader())
+    );
+
+    private final KeyExtractor[] extractors;
+
+    private LockKeyResolver(KeyExtractor[] extractors) {
+        this.extractors = extractors;
+    }
+
+    public static LockKeyResolver compile(String[] keyExpressions, String[] paramNames) {
+        KeyExtractor[] extractors = new KeyExtractor[keyExpressions.length];
+
+        for (int i = 0; i < keyExpressions.length; i++) {
+            extractors[i] = compileKey(keyExpressions[i], paramNames);
+        }
+
+        return new LockKeyResolver(extractors);
+    }
+
+    public String[] resolve(Object[] args) {
+        String[] keys = new String[extractors.length];
+
+        for (int i = 0; i < extractors.length; i++) {
+            Object value = extractors[i].extract(args);
+            if (value instanceof Iterable<?> || value instanceof Object[]) {
+                return resolveFlattened(args);
+            }
+            keys[i] = String.valueOf(value);
+        }
+
+        return keys;
+    }
+
+    private String[] resolveFlattened(Object[] args) {
+        List<String> keys = new ArrayList<>();
+
+        for (KeyExtractor extractor : extractors) {
+            Object value = extractor.extract(args);
+            if (value instanceof Iterable<?> iterable) {
+                iterable.forEach(element -> keys.add(String.valueOf(element)));
+            } else if (value instanceof Object[] array) {
+                for (Object element : array) {
+                    keys.add(String.valueOf(element));
+                }
+            } else {
+                keys.add(String.valueOf(value));
+            }
+        }
+
+        return keys.toArray(String[]::new);
+    }
+
+    private static KeyExtractor compileKey(String keyExpression, String[] paramNames) {
+        String trimmed = keyExpression.trim();
+
+        if (PARAMETER_REFERENCE.matcher(trimmed).matches()) {
+            int index = indexOf(paramNames, trimmed.substring(1));
+            if (index >= 0) {
+                return args -> args[index];
+            }
+        }
+
+        Expression expression;
+        try {
+            expression = PARSER.parseExpression(keyExpression);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Failed to parse SpEL: " + keyExpression, e);
+        }
+
+        return args -> {
+            StandardEvaluationContext context = new StandardEvaluationContext();
+            for (int i = 0; i < paramNames.length; i++) {
+                context.setVariable(paramNames[i], args[i]);
+            }
+
+            try {
+                return expression.getValue(context);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Failed to parse SpEL: " + keyExpression, e);
+            }
+        };
+    }
+
+    private static int indexOf(String[] paramNames, String name) {
+        for (int i = 0; i < paramNames.length; i++) {
+            if (paramNames[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @FunctionalInterface
+    private interface KeyExtractor {
+        Object extract(Object[] args);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.remittance.infrastructure.aop;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LockKeyResolverRegistry {
+
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    private final Map<Method, LockKeyResolver> resolvers = new ConcurrentHashMap<>();
+
+    public LockKeyResolver resolverFor(Method method, String[] keyExpressions) {
+        LockKeyResolver resolver = resolvers.get(method);
+        if (resolver != null) {
+            return resolver;
+        }
+
+        return resolvers.computeIfAbsent(method, m -> LockKeyResolver.compile(keyExpressions, parameterNames(m)));
+    }
+
+    private String[] parameterNames(Method method) {
+        String[] paramNames = parameterNameDiscoverer.getParameterNames(method);
+        if (paramNames == null) {
+            throw new IllegalStateException("parameter names are not available: " + method);
+        }
+        return paramNames;
+    }
+}
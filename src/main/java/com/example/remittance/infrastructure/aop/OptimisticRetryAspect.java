@@ -0,0 +1,108 @@
+package com.example.remittance.infrastructure.aop;
+
+import com.example.remittance.application.annotation.DistributedLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Retries optimistic-mode operations in a new transaction when they lose a version check or a serialization check,
+ * or a race to create a row such as the first daily usage of an account, which the retry then reads instead of inserting.
+ * Ordered after {@code ExposeInvocationInterceptor} ({@code HIGHEST_PRECEDENCE + 1}), which has to run first for the
+ * annotation argument to be bound.
+ */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@Aspect
+@Component
+public class OptimisticRetryAspect {
+
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private final ConcurrencyModeResolver concurrencyModeResolver;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+
+    public OptimisticRetryAspect(
+            ConcurrencyModeResolver concurrencyModeResolver,
+            MeterRegistry meterRegistry,
+            @Value("${remittance.concurrency.optimistic.max-attempts:5}") int maxAttempts,
+            @Value("${remittance.concurrency.optimistic.backoff-millis:5}") long backoffMillis,
+            @Value("${remittance.concurrency.optimistic.max-backoff-millis:100}") long maxBackoffMillis
+    ) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("optimistic max attempts must be positive: " + maxAttempts);
+        }
+        this.concurrencyModeResolver = concurrencyModeResolver;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    @Around("@annotation(distributedLock) && !execution(org.reactivestreams.Publisher+ *(..))")
+    public Object aroundMethod(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+
+        if (concurrencyModeResolver.resolve(method) != ConcurrencyMode.OPTIMISTIC
+                || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (RuntimeException e) {
+                if (!conflict(e)) {
+                    throw e;
+                }
+                String outcome = attempt < maxAttempts ? "retried" : "exhausted";
+                meterRegistry.counter("remittance.concurrency.optimistic.conflicts", "method", method.getName(), "outcome", outcome)
+                        .increment();
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.debug("optimistic conflict on {} attempt={}", method.getName(), attempt);
+                Thread.sleep(backoff(attempt));
+            }
+        }
+    }
+
+    /**
+     * A unique violation surfaces at commit as a plain {@link DataIntegrityViolationException}, so it is recognized
+     * by the standard SQLSTATE of its root cause.
+     */
+    private static boolean conflict(RuntimeException e) {
+        if (e instanceof OptimisticLockingFailureException || e instanceof OptimisticLockException
+                || e instanceof PessimisticLockingFailureException || e instanceof DuplicateKeyException) {
+            return true;
+        }
+        return e instanceof DataIntegrityViolationException
+                && NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException sqlException
+                && UNIQUE_VIOLATION.equals(sqlException.getSQLState());
+    }
+
+    private long backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, backoffMillis << Math.min(attempt - 1, 16));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.remittance.infrastructure.aop;
+
+import com.example.remittance.application.annotation.DistributedLock;
+import com.example.remittance.infrastructure.partition.PartitionedExecutor;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+@Aspect
+@Component
+public class PartitionedExecutionAspect {
+
+    private final ConcurrencyModeResolver concurrencyModeResolver;
+    private final LockKeyResolverRegistry lockKeyResolverRegistry;
+    private final PartitionedExecutor partitionedExecutor;
+
+    @Around("@annotation(distributedLock) && !execution(org.reactivestreams.Publisher+ *(..))")
+    public Object aroundMethod(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+
+        // the transaction has to begin on the partition thread, so calls joining an outer one stay where they are
+        if (concurrencyModeResolver.resolve(method) != ConcurrencyMode.PARTITIONED
+                || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String[] keys = lockKeyResolverRegistry.resolverFor(method, distributedLock.keys())
+                .resolve(joinPoint.getArgs());
+
+        return partitionedExecutor.execute(keys, distributedLock.waitTime(), TimeUnit.SECONDS, joinPoint::proceed);
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.remittance.infrastructure.aop;
+
+import com.example.remittance.application.annotation.DistributedLock;
+import com.example.remittance.infrastructure.lock.LockMetrics;
+import com.example.remittance.infrastructure.lock.LockMetrics.MethodMetrics;
+import com.example.remittance.infrastructure.lock.LockTimeoutException;
+import com.example.remittance.infrastructure.lock.RedisLockNames;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.reactivestreams.Publisher;
+import org.redisson.api.RLockReactive;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.RedissonReactiveClient;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link DistributedLock} for methods returning a {@link Publisher}. The lock is taken on subscription with
+ * {@link RLockReactive} and released once the returned publisher terminates or is cancelled, so no thread
+ * is parked while waiting for or holding the lock. Lock names match {@code RedissonLockProvider}, so blocking
+ * and reactive callers exclude each other.
+ */
+@Slf4j
+@Profile("reactive")
+@Aspect
+@Component
+public class ReactiveDistributedLockAspect {
+
+    public static final String PROVIDER = "redisson-reactive";
+
+    private final RedissonReactiveClient redissonReactiveClient;
+    private final LockKeyResolverRegistry lockKeyResolverRegistry;
+    private final LockMetrics lockMetrics;
+
+    public ReactiveDistributedLockAspect(RedissonClient redissonClient, LockKeyResolverRegistry lockKeyResolverRegistry, LockMetrics lockMetrics) {
+        this.redissonReactiveClient = redissonClient.reactive();
+        this.lockKeyResolverRegistry = lockKeyResolverRegistry;
+        this.lockMetrics = lockMetrics;
+    }
+
+    @Around("@annotation(distributedLock) && execution(org.reactivestreams.Publisher+ *(..))")
+    public Object aroundMethod(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+
+        String[] keys = Arrays.stream(lockKeyResolverRegistry.resolverFor(method, distributedLock.keys())
+                        .resolve(joinPoint.getArgs()))
+                .distinct()
+                .toArray(String[]::new);
+        MethodMetrics metrics = lockMetrics.forMethod(method, PROVIDER);
+
+        Mono<HeldLocks> acquire = Mono.defer(() -> lock(keys, distributedLock, metrics));
+
+        if (Mono.class.isAssignableFrom(method.getReturnType())) {
+            return Mono.usingWhen(acquire, heldLocks -> Mono.from(proceed(joinPoint)), HeldLocks::unlock);
+        }
+        return Flux.usingWhen(acquire, heldLocks -> proceed(joinPoint), HeldLocks::unlock);
+    }
+
+    private Mono<HeldLocks> lock(String[] keys, DistributedLock distributedLock, MethodMetrics metrics) {
+        List<String> names = (distributedLock.multiLock() ? Arrays.stream(keys).sorted() : Arrays.stream(keys))
+                .map(RedisLockNames::of)
+                .toList();
+
+        long owner = ThreadLocalRandom.current().nextLong();
+        long leaseMillis = TimeUnit.SECONDS.toMillis(distributedLock.leaseTime());
+        long waitStartedAt = System.nanoTime();
+        long deadline = waitStartedAt + TimeUnit.SECONDS.toNanos(distributedLock.waitTime());
+        HeldLocks heldLocks = new HeldLocks(keys, owner, metrics, TimeUnit.MILLISECONDS.toNanos(leaseMillis));
+
+        return Flux.fromIterable(names)
+                .concatMap(name -> {
+                    RLockReactive lock = redissonReactiveClient.getLock(name);
+                    long remainingMillis = Math.max(0L, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+
+                    return lock.tryLock(remainingMillis, leaseMillis, TimeUnit.MILLISECONDS, owner)
+                            .flatMap(locked -> locked
+                                    ? Mono.fromRunnable(() -> heldLocks.add(lock))
+                                    : Mono.error(new LockTimeoutException("not obtain lock: " + names)));
+                })
+                .then(Mono.fromSupplier(() -> {
+                    long acquiredAt = System.nanoTime();
+                    lockMetrics.acquired(metrics, keys, acquiredAt - waitStartedAt);
+                    return heldLocks.acquiredAt(acquiredAt);
+                }))
+                .onErrorResume(e -> {
+                    if (e instanceof LockTimeoutException) {
+                        lockMetrics.timedOut(metrics, keys, System.nanoTime() - waitStartedAt);
+                    }
+                    return heldLocks.release().then(Mono.error(e));
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Publisher<Object> proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return (Publisher<Object>) joinPoint.proceed();
+        } catch (Throwable e) {
+            return Mono.error(e);
+        }
+    }
+
+    private final class HeldLocks {
+
+        private final String[] keys;
+        private final long owner;
+        private final MethodMetrics metrics;
+        private final long leaseNanos;
+        private final List<RLockReactive> locks = new ArrayList<>();
+        private long acquiredAt;
+
+        private HeldLocks(String[] keys, long owner, MethodMetrics metrics, long leaseNanos) {
+            this.keys = keys;
+            this.owner = owner;
+            this.metrics = metrics;
+            this.leaseNanos = leaseNanos;
+        }
+
+        private void add(RLockReactive lock) {
+            locks.add(lock);
+        }
+
+        private HeldLocks acquiredAt(long acquiredAt) {
+            this.acquiredAt = acquiredAt;
+            return this;
+        }
+
+        private Mono<Void> unlock() {
+            lockMetrics.released(metrics, keys, System.nanoTime() - acquiredAt, leaseNanos);
+            return release();
+        }
+
+        private Mono<Void> release() {
+            return Flux.fromIterable(locks)
+                    .concatMap(lock -> lock.unlock(owner)
+                            .onErrorResume(e -> {
+                                log.warn("failed to unlock {}", lock.getName(), e);
+                                return Mono.empty();
+                            }))
+                    .then();
+        }
+    }
+}
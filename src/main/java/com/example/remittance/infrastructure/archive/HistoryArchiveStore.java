@@ -0,0 +1,513 @@
+package com.example.remittance.infrastructure.archive;
+
+import com.example.remittance.application.dto.TransactionHistoryDTO;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cold tier of the transaction history: one directory per archived partition holding one segment file per account range
+ * and a manifest listing the segments. A segment holds one separately deflated block per account, rows newest first,
+ * followed by an index of block offsets, so reading one account's history decodes only that account's block.
+ * A row is written to the block of its withdrawal account and to that of its deposit account.
+ * The directory must be shared by every node that reads the history, since the hot rows are purged once a partition is archived.
+ */
+@Component
+public class HistoryArchiveStore {
+
+    private static final String MANIFEST = "segments";
+    private static final String SEGMENT_PREFIX = "accounts-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int MAGIC = 0x52485332;
+    private static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final Comparator<TransactionHistoryDTO> CREATED_ORDER =
+            Comparator.comparing(TransactionHistoryDTO::createdAt).thenComparingLong(TransactionHistoryDTO::id);
+
+    private final Path directory;
+    private final long accountsPerSegment;
+
+    public HistoryArchiveStore(
+            @Value("${remittance.history.archive.dir:history-archive}") String directory,
+            @Value("${remittance.history.archive.accounts-per-segment:10000}") long accountsPerSegment
+    ) {
+        if (accountsPerSegment < 1) {
+            throw new IllegalArgumentException("accounts per segment must be positive: " + accountsPerSegment);
+        }
+        this.directory = Path.of(directory);
+        this.accountsPerSegment = accountsPerSegment;
+    }
+
+    /**
+     * Opens a writer that replaces the archive of a partition once committed. Segments are written to a temporary directory
+     * that is moved into place, so readers never see a partial partition, and closing an uncommitted writer discards it.
+     */
+    public PartitionWriter openPartition(LocalDate partition) {
+        try {
+            return new PartitionWriter(partition);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to archive history partition: " + partition, e);
+        }
+    }
+
+    /**
+     * Passes the rows of the partition that involve the account to the consumer, newest first, until it returns {@code false}.
+     * Only the account's block is decoded, row by row.
+     *
+     * @throws UncheckedIOException if the partition or one of its segments is missing
+     */
+    public void readAccount(LocalDate partition, long accountId, Predicate<TransactionHistoryDTO> consumer) {
+        Path partitionDirectory = partitionDirectory(partition);
+        long segment = accountId / accountsPerSegment;
+        if (Arrays.binarySearch(readManifest(partitionDirectory), segment) < 0) {
+            return;
+        }
+
+        Path file = partitionDirectory.resolve(segmentFileName(segment));
+        try (SegmentReader reader = new SegmentReader(file)) {
+            int block = reader.find(accountId);
+            if (block >= 0) {
+                reader.readBlock(block, consumer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to read history segment: " + file, e);
+        }
+    }
+
+    /**
+     * Passes every row of the partition that involves one of the accounts, or every row when {@code accountIds} is empty,
+     * to the consumer exactly once, ordered by creation time and id like the hot table cursor. Blocks are stored newest first,
+     * so the rows each selected block owns are decoded into memory and merged oldest first across blocks.
+     *
+     * @throws UncheckedIOException if the partition or one of its segments is missing
+     */
+    public void forEach(LocalDate partition, Set<Long> accountIds, Consumer<TransactionHistoryDTO> consumer) {
+        Path partitionDirectory = partitionDirectory(partition);
+        PriorityQueue<BlockCursor> cursors = new PriorityQueue<>(Comparator.comparing(BlockCursor::head, CREATED_ORDER));
+
+        for (long segment : readManifest(partitionDirectory)) {
+            if (!accountIds.isEmpty() && accountIds.stream().noneMatch(accountId -> accountId / accountsPerSegment == segment)) {
+                continue;
+            }
+
+            Path file = partitionDirectory.resolve(segmentFileName(segment));
+            try (SegmentReader reader = new SegmentReader(file)) {
+                for (int block = 0; block < reader.accountIds.length; block++) {
+                    long accountId = reader.accountIds[block];
+                    if (!accountIds.isEmpty() && !accountIds.contains(accountId)) {
+                        continue;
+                    }
+                    List<TransactionHistoryDTO> rows = new ArrayList<>();
+                    reader.readBlock(block, row -> {
+                        if (owner(row, accountIds) == accountId) {
+                            rows.add(row);
+                        }
+                        return true;
+                    });
+                    if (!rows.isEmpty()) {
+                        cursors.add(new BlockCursor(rows));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to read history segment: " + file, e);
+            }
+        }
+
+        while (!cursors.isEmpty()) {
+            BlockCursor cursor = cursors.poll();
+            consumer.accept(cursor.next());
+            if (cursor.hasNext()) {
+                cursors.add(cursor);
+            }
+        }
+    }
+
+    /**
+     * Checks that the manifest and every segment it lists are present and complete, before the hot rows are purged.
+     *
+     * @throws UncheckedIOException if they are not
+     */
+    public void verify(LocalDate partition) {
+        Path partitionDirectory = partitionDirectory(partition);
+
+        for (long segment : readManifest(partitionDirectory)) {
+            Path file = partitionDirectory.resolve(segmentFileName(segment));
+            try (SegmentReader ignored = new SegmentReader(file)) {
+                // opening reads the trailer and the index
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to read history segment: " + file, e);
+            }
+        }
+    }
+
+    /**
+     * A row is stored in the block of every account it involves. The lowest of those accounts that is selected owns it.
+     */
+    private static long owner(TransactionHistoryDTO row, Set<Long> accountIds) {
+        boolean withdrawal = selected(row.withdrawalId(), accountIds);
+        boolean deposit = selected(row.depositId(), accountIds);
+        if (withdrawal && deposit) {
+            return Math.min(row.withdrawalId(), row.depositId());
+        }
+        return withdrawal ? row.withdrawalId() : row.depositId();
+    }
+
+    private static boolean selected(Long accountId, Set<Long> accountIds) {
+        return accountId != null && (accountIds.isEmpty() || accountIds.contains(accountId));
+    }
+
+    private static long[] readManifest(Path partitionDirectory) {
+        Path manifest = partitionDirectory.resolve(MANIFEST);
+        try (Stream<String> lines = Files.lines(manifest, StandardCharsets.UTF_8)) {
+            return lines.filter(line -> !line.isBlank())
+                    .mapToLong(Long::parseLong)
+                    .sorted()
+                    .toArray();
+        } catch (NoSuchFileException e) {
+            throw new UncheckedIOException("archived history partition is missing: " + partitionDirectory, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to read history manifest: " + manifest, e);
+        }
+    }
+
+    private Path partitionDirectory(LocalDate partition) {
+        return directory.resolve(partition.toString());
+    }
+
+    private static String segmentFileName(long segment) {
+        return SEGMENT_PREFIX + segment + SEGMENT_SUFFIX;
+    }
+
+    private static void deleteRecursively(Path path) throws IOException {
+        if (Files.notExists(path)) {
+            return;
+        }
+
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (Path file : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    public record WriteResult(int segmentCount, long rowCount) {
+    }
+
+    /**
+     * Writes a partition from rows grouped by account in ascending account order, each account's rows newest first.
+     * A row that involves two accounts is passed once for each of them. Only the block being written is buffered.
+     */
+    public final class PartitionWriter implements Closeable {
+
+        private final LocalDate partition;
+        private final Path temporary;
+        private final Deflater deflater = new Deflater();
+        private final List<Long> segments = new ArrayList<>();
+        private long rowCount;
+        private boolean committed;
+
+        private long segment = -1L;
+        private CountingOutputStream file;
+        private DataOutputStream raw;
+        private DeflaterOutputStream deflated;
+        private DataOutputStream block;
+        private long[] blockAccountIds = new long[16];
+        private long[] blockOffsets = new long[16];
+        private int blockCount;
+        private boolean blockOpen;
+        private long accountId = -1L;
+        private TransactionHistoryDTO previous;
+
+        private PartitionWriter(LocalDate partition) throws IOException {
+            this.partition = partition;
+            this.temporary = directory.resolve(partition + "." + UUID.randomUUID() + ".tmp");
+            Files.createDirectories(temporary);
+        }
+
+        public void write(long accountId, TransactionHistoryDTO row) {
+            if (accountId < this.accountId) {
+                throw new IllegalArgumentException("archived rows must be ordered by account: " + accountId + " after " + this.accountId);
+            }
+
+            try {
+                long rowSegment = accountId / accountsPerSegment;
+                if (rowSegment != segment) {
+                    finishSegment();
+                    startSegment(rowSegment);
+                }
+                if (accountId != this.accountId) {
+                    finishBlock();
+                    startBlock(accountId);
+                }
+
+                HistorySegmentCodec.writeRow(block, row, previous);
+                previous = row;
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to archive history partition: " + partition, e);
+            }
+
+            Long primaryAccountId = row.withdrawalId() != null ? row.withdrawalId() : row.depositId();
+            if (primaryAccountId != null && primaryAccountId == accountId) {
+                rowCount++;
+            }
+        }
+
+        /**
+         * Moves the written segments into place, replacing any earlier archive of the partition.
+         */
+        public WriteResult commit() {
+            Path target = partitionDirectory(partition);
+            try {
+                finishSegment();
+                Files.write(temporary.resolve(MANIFEST), segments.stream().map(String::valueOf).toList(), StandardCharsets.UTF_8);
+
+                deleteRecursively(target);
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to archive history partition: " + partition, e);
+            }
+
+            committed = true;
+            return new WriteResult(segments.size(), rowCount);
+        }
+
+        @Override
+        public void close() {
+            deflater.end();
+            try {
+                if (file != null) {
+                    file.close();
+                }
+                if (!committed) {
+                    deleteRecursively(temporary);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to discard history partition: " + temporary, e);
+            }
+        }
+
+        private void startSegment(long segment) throws IOException {
+            this.segment = segment;
+            this.file = new CountingOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(temporary.resolve(segmentFileName(segment))), BUFFER_SIZE));
+            this.raw = new DataOutputStream(file);
+            this.deflated = new DeflaterOutputStream(file, deflater, BUFFER_SIZE);
+            this.block = new DataOutputStream(new BufferedOutputStream(deflated, BUFFER_SIZE));
+            this.blockCount = 0;
+        }
+
+        private void startBlock(long accountId) {
+            if (blockCount == blockAccountIds.length) {
+                blockAccountIds = Arrays.copyOf(blockAccountIds, blockCount * 2);
+                blockOffsets = Arrays.copyOf(blockOffsets, blockCount * 2);
+            }
+            blockAccountIds[blockCount] = accountId;
+            blockOffsets[blockCount] = file.count;
+            blockCount++;
+
+            this.blockOpen = true;
+            this.accountId = accountId;
+            this.previous = null;
+        }
+
+        private void finishBlock() throws IOException {
+            if (!blockOpen) {
+                return;
+            }
+            block.flush();
+            deflated.finish();
+            deflater.reset();
+            blockOpen = false;
+        }
+
+        /**
+         * Appends the block index and the trailer: varint block count, then account id and offset deltas,
+         * then the index offset and the magic number.
+         */
+        private void finishSegment() throws IOException {
+            if (file == null) {
+                return;
+            }
+            finishBlock();
+
+            long indexOffset = file.count;
+            HistorySegmentCodec.writeVarLong(raw, blockCount);
+            long previousAccountId = 0L;
+            long previousOffset = 0L;
+            for (int i = 0; i < blockCount; i++) {
+                HistorySegmentCodec.writeVarLong(raw, blockAccountIds[i] - previousAccountId);
+                HistorySegmentCodec.writeVarLong(raw, blockOffsets[i] - previousOffset);
+                previousAccountId = blockAccountIds[i];
+                previousOffset = blockOffsets[i];
+            }
+            raw.writeLong(indexOffset);
+            raw.writeInt(MAGIC);
+            file.close();
+
+            segments.add(segment);
+            file = null;
+        }
+    }
+
+    /**
+     * Opens a segment and reads its index. Blocks are decoded lazily through one inflater.
+     */
+    private static final class SegmentReader implements Closeable {
+
+        private final FileChannel channel;
+        private final Inflater inflater = new Inflater();
+        private final long[] accountIds;
+        private final long[] offsets;
+
+        private SegmentReader(Path file) throws IOException {
+            try {
+                this.channel = FileChannel.open(file);
+            } catch (NoSuchFileException e) {
+                inflater.end();
+                throw new IOException("archived history segment is missing: " + file, e);
+            }
+
+            try {
+                long size = channel.size();
+                if (size < TRAILER_SIZE) {
+                    throw new IOException("truncated history segment");
+                }
+                ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE);
+                readFully(trailer, size - TRAILER_SIZE);
+                long indexOffset = trailer.getLong(0);
+                if (trailer.getInt(Long.BYTES) != MAGIC || indexOffset < 0 || indexOffset > size - TRAILER_SIZE) {
+                    throw new IOException("not a history segment");
+                }
+
+                ByteBuffer index = ByteBuffer.allocate(Math.toIntExact(size - TRAILER_SIZE - indexOffset));
+                readFully(index, indexOffset);
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(index.array()));
+                int count = Math.toIntExact(HistorySegmentCodec.readVarLong(in));
+                this.accountIds = new long[count];
+                this.offsets = new long[count];
+                long accountId = 0L;
+                long offset = 0L;
+                for (int i = 0; i < count; i++) {
+                    accountIds[i] = accountId += HistorySegmentCodec.readVarLong(in);
+                    offsets[i] = offset += HistorySegmentCodec.readVarLong(in);
+                }
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        private int find(long accountId) {
+            return Arrays.binarySearch(accountIds, accountId);
+        }
+
+        private void readBlock(int block, Predicate<TransactionHistoryDTO> consumer) throws IOException {
+            channel.position(offsets[block]);
+            inflater.reset();
+            InputStream source = Channels.newInputStream(channel);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(new InflaterInputStream(source, inflater, BUFFER_SIZE), BUFFER_SIZE));
+
+            TransactionHistoryDTO row = null;
+            while ((row = HistorySegmentCodec.readRow(in, row)) != null) {
+                if (!consumer.test(row)) {
+                    return;
+                }
+            }
+        }
+
+        private void readFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("truncated history segment");
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            inflater.end();
+            channel.close();
+        }
+    }
+
+    /**
+     * Walks the rows of one block, which are held newest first, from the oldest.
+     */
+    private static final class BlockCursor {
+
+        private final List<TransactionHistoryDTO> rows;
+        private int index;
+
+        private BlockCursor(List<TransactionHistoryDTO> rows) {
+            this.rows = rows;
+            this.index = rows.size() - 1;
+        }
+
+        private TransactionHistoryDTO head() {
+            return rows.get(index);
+        }
+
+        private TransactionHistoryDTO next() {
+            return rows.get(index--);
+        }
+
+        private boolean hasNext() {
+            return index >= 0;
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.remittance.infrastructure.archive;
+
+import com.example.remittance.application.dto.TransactionHistoryDTO;
+import com.example.remittance.domain.model.TransactionType;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Row layout of an archived account block. Rows of one account are written newest first, so ids and timestamps are
+ * stored as zig-zag varint deltas from the previous row, which the surrounding deflate stream compresses well.
+ * Transaction types are stored as fixed codes rather than ordinals, so reordering the enum does not corrupt old archives.
+ */
+final class HistorySegmentCodec {
+
+    private HistorySegmentCodec() {
+    }
+
+    /**
+     * Writes the row as a delta from {@code previous}, the row written before it in the same block, or {@code null} for the first row.
+     */
+    static void writeRow(DataOutputStream out, TransactionHistoryDTO row, TransactionHistoryDTO previous) throws IOException {
+        long createdAt = toMicros(row.createdAt());
+        writeVarLong(out, zigZag(row.id() - (previous == null ? 0L : previous.id())));
+        writeVarLong(out, zigZag(createdAt - (previous == null ? 0L : toMicros(previous.createdAt()))));
+        writeVarLong(out, zigZag(toMicros(row.updatedAt()) - createdAt));
+        out.writeByte(codeOf(row.transactionType()));
+        writeVarLong(out, nullableId(row.withdrawalId()));
+        writeVarLong(out, nullableId(row.depositId()));
+        writeVarLong(out, zigZag(row.amount()));
+        writeVarLong(out, zigZag(row.fee()));
+    }
+
+    /**
+     * Reads the row written after {@code previous}, or returns {@code null} at the end of the block.
+     */
+    static TransactionHistoryDTO readRow(DataInputStream in, TransactionHistoryDTO previous) throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            return null;
+        }
+
+        long id = (previous == null ? 0L : previous.id()) + unZigZag(readVarLong(in, first));
+        long createdAt = (previous == null ? 0L : toMicros(previous.createdAt())) + unZigZag(readVarLong(in));
+        long updatedAt = createdAt + unZigZag(readVarLong(in));
+        TransactionType transactionType = typeOf(in.readUnsignedByte());
+        Long withdrawalId = fromNullableId(readVarLong(in));
+        Long depositId = fromNullableId(readVarLong(in));
+        long amount = unZigZag(readVarLong(in));
+        long fee = unZigZag(readVarLong(in));
+
+        return TransactionHistoryDTO.of(id, transactionType, depositId, withdrawalId, amount, fee, fromMicros(createdAt), fromMicros(updatedAt));
+    }
+
+    private static int codeOf(TransactionType transactionType) {
+        return switch (transactionType) {
+            case DEPOSIT -> 1;
+            case WITHDRAWAL -> 2;
+            case TRANSFER -> 3;
+        };
+    }
+
+    private static TransactionType typeOf(int code) throws IOException {
+        return switch (code) {
+            case 1 -> TransactionType.DEPOSIT;
+            case 2 -> TransactionType.WITHDRAWAL;
+            case 3 -> TransactionType.TRANSFER;
+            default -> throw new IOException("unknown transaction type code in history segment: " + code);
+        };
+    }
+
+    private static long nullableId(Long id) {
+        return id == null ? 0L : id + 1;
+    }
+
+    private static Long fromNullableId(long value) {
+        return value == 0L ? null : value - 1;
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0L) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInputStream in) throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            throw new EOFException("truncated history segment");
+        }
+        return readVarLong(in, first);
+    }
+
+    private static long readVarLong(DataInputStream in, int first) throws IOException {
+        long value = first & 0x7F;
+        int b = first;
+        for (int shift = 7; (b & 0x80) != 0; shift += 7) {
+            if (shift >= 64) {
+                throw new IOException("malformed varint in history segment");
+            }
+            b = in.read();
+            if (b < 0) {
+                throw new EOFException("truncated history segment");
+            }
+            value |= (long) (b & 0x7F) << shift;
+        }
+        return value;
+    }
+}
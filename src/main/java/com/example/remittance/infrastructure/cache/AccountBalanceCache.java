@@ -0,0 +1,237 @@
+package com.example.remittance.infrastructure.cache;
+
+import com.example.remittance.application.dto.AccountDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Two-level account balance cache: a short-lived local cache in front of a shared Redis entry. Every eviction bumps
+ * a per-account generation next to the shared entry, and a load only writes the entry back if the generation it read
+ * before going to the database is still current, so a load racing with an eviction cannot restore a stale balance.
+ */
+@Slf4j
+@Component
+public class AccountBalanceCache {
+
+    private static final String KEY = "account:balance:";
+    private static final String GENERATION = ":generation";
+    private static final String INVALIDATION_TOPIC = "account:balance:invalidation";
+
+    /**
+     * Generations outlive any load by far, so a load never sees the generation it started from come back after it expires.
+     */
+    private static final long GENERATION_TTL_MILLIS = Duration.ofMinutes(10).toMillis();
+
+    private static final String FILL_SCRIPT =
+            "if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] then "
+            + "  return 0; "
+            + "end; "
+            + "redis.call('set', KEYS[1], ARGV[2], 'px', ARGV[3]); "
+            + "return 1;";
+
+    private static final String EVICT_SCRIPT =
+            "redis.call('del', KEYS[1]); "
+            + "redis.call('incr', KEYS[2]); "
+            + "redis.call('pexpire', KEYS[2], ARGV[1]); "
+            + "return 1;";
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, AccountDTO> localCache;
+    private final Duration redisTtl;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    private RTopic invalidationTopic;
+    private int listenerId;
+
+    public AccountBalanceCache(
+            ObjectProvider<RedissonClient> redissonClient,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${remittance.cache.account.local-ttl-seconds:5}") long localTtlSeconds,
+            @Value("${remittance.cache.account.local-max-size:10000}") long localMaxSize,
+            @Value("${remittance.cache.account.redis-ttl-seconds:30}") long redisTtlSeconds
+    ) {
+        this.redissonClient = redissonClient.getIfAvailable();
+        this.objectMapper = objectMapper;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.redisHits = Counter.builder("remittance.account.balance.cache.redis")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMisses = Counter.builder("remittance.account.balance.cache.redis")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "account.balance");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (redissonClient == null) {
+            return;
+        }
+
+        invalidationTopic = redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+        listenerId = invalidationTopic.addListener(String.class, (channel, message) -> localCache.invalidateAll(parse(message)));
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        if (invalidationTopic != null) {
+            invalidationTopic.removeListener(listenerId);
+        }
+    }
+
+    public AccountDTO get(Long id, Function<Long, AccountDTO> loader) {
+        return localCache.get(id, key -> loadShared(key, loader));
+    }
+
+    public void evictAfterCommit(Long... ids) {
+        evictAfterCommit(Arrays.asList(ids));
+    }
+
+    public void evictAfterCommit(Collection<Long> ids) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(ids);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(ids);
+            }
+        });
+    }
+
+    public void evict(Collection<Long> ids) {
+        localCache.invalidateAll(ids);
+
+        if (redissonClient == null) {
+            return;
+        }
+
+        try {
+            RBatch batch = redissonClient.createBatch();
+            for (Long id : ids) {
+                batch.getScript(StringCodec.INSTANCE).evalAsync(
+                        RScript.Mode.READ_WRITE,
+                        EVICT_SCRIPT,
+                        RScript.ReturnType.INTEGER,
+                        List.of(key(id), key(id) + GENERATION),
+                        GENERATION_TTL_MILLIS
+                );
+            }
+            batch.execute();
+            invalidationTopic.publish(ids.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (RuntimeException e) {
+            log.warn("failed to evict shared account balance cache: {}", ids, e);
+        }
+    }
+
+    private AccountDTO loadShared(Long id, Function<Long, AccountDTO> loader) {
+        if (redissonClient == null) {
+            return loader.apply(id);
+        }
+
+        RBucket<String> bucket = redissonClient.getBucket(key(id), StringCodec.INSTANCE);
+
+        String cached = null;
+        String generation = null;
+        try {
+            cached = bucket.get();
+            if (cached == null) {
+                generation = Objects.requireNonNullElse(
+                        redissonClient.<String>getBucket(key(id) + GENERATION, StringCodec.INSTANCE).get(), "0");
+            }
+        } catch (RuntimeException e) {
+            log.warn("failed to read shared account balance cache: {}", id, e);
+        }
+
+        if (cached != null) {
+            redisHits.increment();
+            return read(cached);
+        }
+
+        redisMisses.increment();
+        AccountDTO accountDTO = loader.apply(id);
+
+        if (generation == null) {
+            return accountDTO;
+        }
+        try {
+            redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    FILL_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    List.of(key(id), key(id) + GENERATION),
+                    generation, write(accountDTO), redisTtl.toMillis()
+            );
+        } catch (RuntimeException e) {
+            log.warn("failed to write shared account balance cache: {}", id, e);
+        }
+
+        return accountDTO;
+    }
+
+    /**
+     * Hash-tagged by account, so the entry and its generation live on the same cluster slot.
+     */
+    private static String key(Long id) {
+        return KEY + "{" + id + "}";
+    }
+
+    private AccountDTO read(String json) {
+        try {
+            return objectMapper.readValue(json, AccountDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to read cached account balance", e);
+        }
+    }
+
+    private String write(AccountDTO accountDTO) {
+        try {
+            return objectMapper.writeValueAsString(accountDTO);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to write cached account balance", e);
+        }
+    }
+
+    private static List<Long> parse(String message) {
+        return Arrays.stream(message.split(","))
+                .map(Long::valueOf)
+                .toList();
+    }
+}
@@ -1,27 +1,36 @@
 package com.example.remittance.infrastructure.config;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
 
+/**
+ * Builds the Redisson client from {@code redisson.config}. The file decides the topology
+ * (single, replicated, sentinel or cluster), pool sizes, timeouts, thread counts and codec,
+ * and may refer to Spring properties with {@code ${...}} placeholders.
+ */
+@ConditionalOnProperty(prefix = "remittance.redis", name = "enabled", havingValue = "true", matchIfMissing = true)
 @Configuration
 public class RedissonConfig {
 
-    @Value("${spring.redis.host}")
-    private String redisHost;
-
-    @Value("${spring.redis.port}")
-    private String redisPort;
+    @Value("${redisson.config:classpath:redisson.yaml}")
+    private Resource redissonConfig;
 
     @Bean
-    public RedissonClient redissonClient() {
-        Config config = new Config();
-
-        config.useSingleServer().setAddress("redis://" + redisHost + ":" + redisPort);
+    public RedissonClient redissonClient(Environment environment) throws IOException {
+        return Redisson.create(load(redissonConfig, environment));
+    }
 
-        return Redisson.create(config);
+    public static Config load(Resource resource, Environment environment) throws IOException {
+        String yaml = resource.getContentAsString(StandardCharsets.UTF_8);
+        return Config.fromYAML(environment.resolveRequiredPlaceholders(yaml));
     }
 }
@@ -0,0 +1,84 @@
+package com.example.remittance.infrastructure.export;
+
+import com.example.remittance.application.dto.TransactionHistoryDTO;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Every column is ASCII, so lines are formatted into a reused builder and copied byte by byte into the buffer
+ * without allocating a string per row.
+ */
+final class CsvStatementWriter implements StatementWriter {
+
+    static final String HEADER = "id,transaction_type,deposit_id,withdrawal_id,amount,fee,created_at,updated_at";
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final StringBuilder line = new StringBuilder(160);
+    private long rowCount;
+
+    CsvStatementWriter(WritableByteChannel channel) throws IOException {
+        this.channel = channel;
+        line.append(HEADER);
+        writeLine();
+    }
+
+    @Override
+    public void write(TransactionHistoryDTO transactionHistoryDTO) {
+        line.setLength(0);
+        line.append(transactionHistoryDTO.id()).append(',')
+                .append(transactionHistoryDTO.transactionType()).append(',');
+        appendNullable(transactionHistoryDTO.depositId());
+        appendNullable(transactionHistoryDTO.withdrawalId());
+        line.append(transactionHistoryDTO.amount()).append(',')
+                .append(transactionHistoryDTO.fee()).append(',');
+        DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(transactionHistoryDTO.createdAt(), line);
+        line.append(',');
+        DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(transactionHistoryDTO.updatedAt(), line);
+
+        try {
+            writeLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to write statement", e);
+        }
+        rowCount++;
+    }
+
+    @Override
+    public long rowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        drain();
+    }
+
+    private void appendNullable(Long value) {
+        if (value != null) {
+            line.append(value.longValue());
+        }
+        line.append(',');
+    }
+
+    private void writeLine() throws IOException {
+        line.append('\n');
+        if (buffer.remaining() < line.length()) {
+            drain();
+        }
+        for (int i = 0; i < line.length(); i++) {
+            buffer.put((byte) line.charAt(i));
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
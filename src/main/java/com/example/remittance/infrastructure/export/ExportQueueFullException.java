@@ -0,0 +1,15 @@
+package com.example.remittance.infrastructure.export;
+
+public class ExportQueueFullException extends IllegalStateException {
+
+    private final long retryAfterSeconds;
+
+    public ExportQueueFullException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.remittance.infrastructure.export;
+
+import com.example.remittance.application.dto.TransactionHistoryDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.GZIPOutputStream;
+
+final class NdjsonGzipStatementWriter implements StatementWriter {
+
+    private final ObjectMapper objectMapper;
+    private final GZIPOutputStream outputStream;
+    private long rowCount;
+
+    NdjsonGzipStatementWriter(WritableByteChannel channel, ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        this.outputStream = new GZIPOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+    }
+
+    @Override
+    public void write(TransactionHistoryDTO transactionHistoryDTO) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(transactionHistoryDTO));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to write statement", e);
+        }
+        rowCount++;
+    }
+
+    @Override
+    public long rowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        outputStream.finish();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.remittance.infrastructure.export;
+
+import com.example.remittance.application.dto.StatementFormat;
+import com.example.remittance.application.dto.TransactionHistoryDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes statement rows to a channel through a fixed-size buffer. Closing the writer flushes it and ends the format,
+ * but leaves the channel open for its owner.
+ */
+public interface StatementWriter extends Closeable {
+
+    int BUFFER_SIZE = 64 * 1024;
+
+    void write(TransactionHistoryDTO transactionHistoryDTO);
+
+    long rowCount();
+
+    static StatementWriter open(StatementFormat format, WritableByteChannel channel, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvStatementWriter(channel);
+            case NDJSON_GZIP -> new NdjsonGzipStatementWriter(channel, objectMapper);
+        };
+    }
+}
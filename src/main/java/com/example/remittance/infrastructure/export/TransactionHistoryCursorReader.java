@@ -0,0 +1,117 @@
+package com.example.remittance.infrastructure.export;
+
+import com.example.remittance.application.dto.TransactionHistoryDTO;
+import com.example.remittance.domain.model.TransactionType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads the hot transaction history through a forward-only, read-only JDBC cursor and hands each row to the caller
+ * without collecting them, so memory use does not depend on the number of rows.
+ * Drivers such as PostgreSQL only honour the fetch size inside a transaction, so callers should hold one.
+ */
+@Component
+public class TransactionHistoryCursorReader {
+
+    private static final String COLUMNS = "id, transaction_type, deposit_id, withdrawal_id, amount, fee, created_at, updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public TransactionHistoryCursorReader(JdbcTemplate jdbcTemplate, @Value("${remittance.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Rows created in {@code [fromAt, toAt)} that involve one of the accounts, or all rows when {@code accountIds} is empty,
+     * oldest first.
+     */
+    public void forEach(Collection<Long> accountIds, LocalDateTime fromAt, LocalDateTime toAt, Consumer<TransactionHistoryDTO> consumer) {
+        List<Object> parameters = new ArrayList<>();
+        String sql;
+
+        if (accountIds.isEmpty()) {
+            sql = "select " + COLUMNS + " from transaction_history "
+                    + "where created_at >= ? and created_at < ? "
+                    + "order by created_at, id";
+            parameters.add(fromAt);
+            parameters.add(toAt);
+        } else {
+            String placeholders = String.join(",", Collections.nCopies(accountIds.size(), "?"));
+            sql = "select " + COLUMNS + " from transaction_history "
+                    + "where withdrawal_id in (" + placeholders + ") "
+                    + " and created_at >= ? and created_at < ? "
+                    + "union all "
+                    + "select " + COLUMNS + " from transaction_history "
+                    + "where deposit_id in (" + placeholders + ") "
+                    + " and (withdrawal_id is null or withdrawal_id not in (" + placeholders + ")) "
+                    + " and created_at >= ? and created_at < ? "
+                    + "order by created_at, id";
+            parameters.addAll(accountIds);
+            parameters.add(fromAt);
+            parameters.add(toAt);
+            parameters.addAll(accountIds);
+            parameters.addAll(accountIds);
+            parameters.add(fromAt);
+            parameters.add(toAt);
+        }
+
+        query(sql, parameters, resultSet -> consumer.accept(toTransactionHistoryDTO(resultSet)));
+    }
+
+    /**
+     * Rows created in {@code [fromAt, toAt)} grouped by account in ascending account order, each account's rows newest first.
+     * A row that moves money between two accounts is passed once for each of them, together with the account it is passed for.
+     */
+    public void forEachByAccount(LocalDateTime fromAt, LocalDateTime toAt, BiConsumer<Long, TransactionHistoryDTO> consumer) {
+        String sql = "select withdrawal_id as account_id, " + COLUMNS + " from transaction_history "
+                + "where withdrawal_id is not null "
+                + " and created_at >= ? and created_at < ? "
+                + "union all "
+                + "select deposit_id as account_id, " + COLUMNS + " from transaction_history "
+                + "where deposit_id is not null "
+                + " and (withdrawal_id is null or withdrawal_id <> deposit_id) "
+                + " and created_at >= ? and created_at < ? "
+                + "order by account_id, created_at desc, id desc";
+
+        query(sql, List.of(fromAt, toAt, fromAt, toAt),
+                resultSet -> consumer.accept(resultSet.getLong("account_id"), toTransactionHistoryDTO(resultSet)));
+    }
+
+    private void query(String sql, List<Object> parameters, RowCallbackHandler rowCallbackHandler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement preparedStatement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            preparedStatement.setFetchSize(fetchSize);
+            for (int i = 0; i < parameters.size(); i++) {
+                preparedStatement.setObject(i + 1, parameters.get(i));
+            }
+            return preparedStatement;
+        }, rowCallbackHandler);
+    }
+
+    private static TransactionHistoryDTO toTransactionHistoryDTO(ResultSet resultSet) throws SQLException {
+        return TransactionHistoryDTO.of(
+                resultSet.getLong("id"),
+                TransactionType.valueOf(resultSet.getString("transaction_type")),
+                resultSet.getObject("deposit_id", Long.class),
+                resultSet.getObject("withdrawal_id", Long.class),
+                resultSet.getLong("amount"),
+                resultSet.getLong("fee"),
+                resultSet.getObject("created_at", LocalDateTime.class),
+                resultSet.getObject("updated_at", LocalDateTime.class)
+        );
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.remittance.infrastructure.idempotency;
+
+public class IdempotencyInProgressException extends IllegalStateException {
+
+    public IdempotencyInProgressException(String message) {
+        super(message);
+    }
+}
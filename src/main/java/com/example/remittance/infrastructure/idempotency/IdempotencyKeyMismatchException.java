@@ -0,0 +1,8 @@
+package com.example.remittance.infrastructure.idempotency;
+
+public class IdempotencyKeyMismatchException extends IllegalArgumentException {
+
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.remittance.infrastructure.idempotency;
+
+/**
+ * State of an idempotency key: the fingerprint of the request that reserved it and, once that request completed,
+ * the stored response. A {@code null} result means the request is still in flight.
+ */
+public record IdempotencyRecord(String fingerprint, String result) {
+
+    public static IdempotencyRecord inFlight(String fingerprint) {
+        return new IdempotencyRecord(fingerprint, null);
+    }
+
+    public static IdempotencyRecord completed(String fingerprint, String result) {
+        return new IdempotencyRecord(fingerprint, result);
+    }
+
+    public boolean isCompleted() {
+        return result != null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.remittance.infrastructure.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+public interface IdempotencyStore {
+
+    boolean tryReserve(String key, String fingerprint, Duration inFlightTtl);
+
+    /**
+     * Waits until the request holding the key completes, returning its record, or the in-flight record when the timeout
+     * passes first. Returns at once if the key was reserved with another fingerprint, and empty once the key is released.
+     */
+    Optional<IdempotencyRecord> awaitResult(String key, String fingerprint, Duration timeout) throws InterruptedException;
+
+    /**
+     * Extends the in-flight reservation while it is still held by a request with the fingerprint.
+     */
+    CompletionStage<Boolean> renewAsync(String key, String fingerprint, Duration inFlightTtl);
+
+    void complete(String key, String fingerprint, String result, Duration ttl);
+
+    void release(String key);
+}
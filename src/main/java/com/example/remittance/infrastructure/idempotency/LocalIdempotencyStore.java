@@ -0,0 +1,81 @@
+package com.example.remittance.infrastructure.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@ConditionalOnProperty(prefix = "remittance.redis", name = "enabled", havingValue = "false")
+@Component
+public class LocalIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, Entry> results;
+
+    public LocalIdempotencyStore(
+            @Value("${remittance.idempotency.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${remittance.idempotency.local-max-size:100000}") long maxSize
+    ) {
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    @Override
+    public boolean tryReserve(String key, String fingerprint, Duration inFlightTtl) {
+        return results.asMap().putIfAbsent(key, new Entry(fingerprint, new CompletableFuture<>())) == null;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> awaitResult(String key, String fingerprint, Duration timeout) throws InterruptedException {
+        Entry entry = results.getIfPresent(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!entry.fingerprint().equals(fingerprint)) {
+            return Optional.of(IdempotencyRecord.inFlight(entry.fingerprint()));
+        }
+
+        try {
+            String result = entry.result().get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return Optional.ofNullable(result).map(value -> IdempotencyRecord.completed(entry.fingerprint(), value));
+        } catch (TimeoutException e) {
+            return Optional.of(IdempotencyRecord.inFlight(entry.fingerprint()));
+        } catch (ExecutionException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public CompletionStage<Boolean> renewAsync(String key, String fingerprint, Duration inFlightTtl) {
+        Entry entry = results.getIfPresent(key);
+        return CompletableFuture.completedFuture(entry != null && entry.fingerprint().equals(fingerprint) && !entry.result().isDone());
+    }
+
+    @Override
+    public void complete(String key, String fingerprint, String result, Duration ttl) {
+        Entry inFlight = results.asMap().put(key, new Entry(fingerprint, CompletableFuture.completedFuture(result)));
+        if (inFlight != null) {
+            inFlight.result().complete(result);
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        Entry inFlight = results.asMap().remove(key);
+        if (inFlight != null) {
+            inFlight.result().complete(null);
+        }
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<String> result) {
+    }
+}
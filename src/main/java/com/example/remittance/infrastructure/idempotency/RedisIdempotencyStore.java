@@ -0,0 +1,93 @@
+package com.example.remittance.infrastructure.idempotency;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps each key as one string: {@code IN_FLIGHT:<fingerprint>} while the first request runs, then
+ * {@code <fingerprint>:<response>}. Fingerprints are hex digests, so the first colon always ends them.
+ */
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "remittance.redis", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String KEY = "idempotency:";
+    private static final String IN_FLIGHT = "IN_FLIGHT:";
+
+    private static final String RENEW_SCRIPT =
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "  return redis.call('pexpire', KEYS[1], ARGV[2]); "
+            + "end; "
+            + "return 0;";
+
+    private final RedissonClient redissonClient;
+
+    @Override
+    public boolean tryReserve(String key, String fingerprint, Duration inFlightTtl) {
+        return bucket(key).setIfAbsent(IN_FLIGHT + fingerprint, inFlightTtl);
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> awaitResult(String key, String fingerprint, Duration timeout) throws InterruptedException {
+        RBucket<String> bucket = bucket(key);
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while (true) {
+            String value = bucket.get();
+            if (value == null) {
+                return Optional.empty();
+            }
+
+            IdempotencyRecord record = decode(value);
+            if (record.isCompleted() || !record.fingerprint().equals(fingerprint) || System.nanoTime() >= deadline) {
+                return Optional.of(record);
+            }
+            Thread.sleep(ThreadLocalRandom.current().nextLong(10, 50));
+        }
+    }
+
+    @Override
+    public CompletionStage<Boolean> renewAsync(String key, String fingerprint, Duration inFlightTtl) {
+        return redissonClient.getScript(StringCodec.INSTANCE).<Long>evalAsync(
+                RScript.Mode.READ_WRITE,
+                RENEW_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(KEY + key),
+                IN_FLIGHT + fingerprint, inFlightTtl.toMillis()
+        ).thenApply(renewed -> renewed != null && renewed == 1L);
+    }
+
+    @Override
+    public void complete(String key, String fingerprint, String result, Duration ttl) {
+        bucket(key).set(fingerprint + ":" + result, ttl);
+    }
+
+    @Override
+    public void release(String key) {
+        bucket(key).delete();
+    }
+
+    private static IdempotencyRecord decode(String value) {
+        if (value.startsWith(IN_FLIGHT)) {
+            return IdempotencyRecord.inFlight(value.substring(IN_FLIGHT.length()));
+        }
+
+        int separator = value.indexOf(':');
+        return IdempotencyRecord.completed(value.substring(0, separator), value.substring(separator + 1));
+    }
+
+    private RBucket<String> bucket(String key) {
+        return redissonClient.getBucket(KEY + key, StringCodec.INSTANCE);
+    }
+}
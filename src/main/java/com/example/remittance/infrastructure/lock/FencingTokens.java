@@ -0,0 +1,46 @@
+package com.example.remittance.infrastructure.lock;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fencing tokens of the locks held by the current thread, keyed by lock key.
+ */
+public final class FencingTokens {
+
+    private static final ThreadLocal<Map<String, Long>> TOKENS = new ThreadLocal<>();
+
+    private FencingTokens() {
+    }
+
+    public static Long get(String key) {
+        Map<String, Long> tokens = TOKENS.get();
+        return tokens == null ? null : tokens.get(key);
+    }
+
+    /**
+     * Adds the tokens to the ones already bound and returns the previous binding for {@link #restore}.
+     */
+    public static Map<String, Long> bind(Map<String, Long> tokens) {
+        Map<String, Long> previous = TOKENS.get();
+        if (tokens.isEmpty()) {
+            return previous;
+        }
+
+        Map<String, Long> merged = new HashMap<>();
+        if (previous != null) {
+            merged.putAll(previous);
+        }
+        merged.putAll(tokens);
+        TOKENS.set(merged);
+        return previous;
+    }
+
+    public static void restore(Map<String, Long> previous) {
+        if (previous == null) {
+            TOKENS.remove();
+        } else {
+            TOKENS.set(previous);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.remittance.infrastructure.lock;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record HotLockKey(
+        String key,
+        long contentions,
+        long overestimate,
+        long waitMillis
+) {
+
+    static HotLockKey of(String key, long contentions, long overestimate, long waitNanos) {
+        return HotLockKey.builder()
+                .key(key)
+                .contentions(contentions)
+                .overestimate(overestimate)
+                .waitMillis(waitNanos / 1_000_000L)
+                .build();
+    }
+}
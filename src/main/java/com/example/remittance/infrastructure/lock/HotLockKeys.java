@@ -0,0 +1,82 @@
+package com.example.remittance.infrastructure.lock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Approximate top contended lock keys (space-saving). Counting a tracked key only touches its adders, so contended
+ * acquisitions of different keys do not serialize here; only admitting an untracked key takes the eviction lock.
+ * A count that races with the eviction of its key is dropped, which the estimate tolerates.
+ */
+@Component
+public class HotLockKeys {
+
+    private final int capacity;
+    private final Map<String, Entry> entries;
+    private final Object admission = new Object();
+
+    public HotLockKeys(@Value("${remittance.lock.metrics.hot-keys:20}") int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("hot keys capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.entries = new ConcurrentHashMap<>(capacity * 2);
+    }
+
+    public void record(String[] keys, long waitNanos) {
+        for (String key : keys) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                entry = admit(key);
+            }
+            entry.contentions.increment();
+            entry.waitNanos.add(waitNanos);
+        }
+    }
+
+    public List<HotLockKey> top() {
+        List<HotLockKey> hotKeys = new ArrayList<>(capacity);
+        entries.forEach((key, entry) -> hotKeys.add(HotLockKey.of(key, entry.contentions.sum(), entry.overestimate, entry.waitNanos.sum())));
+        hotKeys.sort(Comparator.comparingLong(HotLockKey::contentions).reversed());
+        return hotKeys;
+    }
+
+    private Entry admit(String key) {
+        synchronized (admission) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                return entry;
+            }
+
+            long overestimate = 0L;
+            if (entries.size() >= capacity) {
+                Map.Entry<String, Entry> evicted = entries.entrySet().stream()
+                        .min(Comparator.comparingLong(candidate -> candidate.getValue().contentions.sum()))
+                        .orElseThrow();
+                entries.remove(evicted.getKey());
+                overestimate = evicted.getValue().contentions.sum();
+            }
+
+            entry = new Entry(overestimate);
+            entries.put(key, entry);
+            return entry;
+        }
+    }
+
+    private static final class Entry {
+        private final LongAdder contentions = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final long overestimate;
+
+        private Entry(long overestimate) {
+            this.overestimate = overestimate;
+            this.contentions.add(overestimate);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.remittance.infrastructure.lock;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Endpoint(id = "lockhotkeys")
+@Component
+public class HotLockKeysEndpoint {
+
+    private final HotLockKeys hotLockKeys;
+
+    @ReadOperation
+    public List<HotLockKey> hotKeys() {
+        return hotLockKeys.top();
+    }
+}
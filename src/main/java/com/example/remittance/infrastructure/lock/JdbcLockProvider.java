@@ -0,0 +1,77 @@
+package com.example.remittance.infrastructure.lock;
+
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@RequiredArgsConstructor
+@Component
+public class JdbcLockProvider implements LockProvider {
+
+    public static final String NAME = "jdbc";
+
+    private static final LockHandle RELEASED_ON_COMPLETION = () -> {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    /**
+     * Locks account rows inside the caller's transaction, so keys must be account ids.
+     */
+    @Override
+    public boolean locksNamedKeys() {
+        return false;
+    }
+
+    @Override
+    public LockHandle lock(String[] keys, boolean multiLock, long waitTime, long leaseTime, TimeUnit unit) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("jdbc lock provider requires an active transaction");
+        }
+
+        long[] ids = Arrays.stream(keys)
+                .mapToLong(Long::parseLong)
+                .distinct()
+                .sorted()
+                .toArray();
+        if (ids.length == 0) {
+            return RELEASED_ON_COMPLETION;
+        }
+
+        String sql = "select id from account where id in ("
+                + String.join(",", Collections.nCopies(ids.length, "?"))
+                + ") order by id for update";
+        int timeoutSeconds = (int) Math.max(1, unit.toSeconds(waitTime));
+
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement preparedStatement = connection.prepareStatement(sql);
+                preparedStatement.setQueryTimeout(timeoutSeconds);
+                for (int i = 0; i < ids.length; i++) {
+                    preparedStatement.setLong(i + 1, ids[i]);
+                }
+                return preparedStatement;
+            }, resultSet -> {
+            });
+        } catch (QueryTimeoutException | PessimisticLockingFailureException e) {
+            throw new LockTimeoutException("not obtain lock: " + Arrays.toString(keys), e);
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("not obtain lock: " + Arrays.toString(keys), e);
+        }
+
+        return RELEASED_ON_COMPLETION;
+    }
+}
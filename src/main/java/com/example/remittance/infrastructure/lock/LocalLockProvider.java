@@ -0,0 +1,75 @@
+package com.example.remittance.infrastructure.lock;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LocalLockProvider implements LockProvider {
+
+    public static final String NAME = "local";
+
+    private final ReentrantLock[] stripes;
+
+    private final int mask;
+
+    public LocalLockProvider(@Value("${remittance.lock.local.stripes:1024}") int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public LockHandle lock(String[] keys, boolean multiLock, long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
+        int[] indexes = stripeIndexes(keys);
+        long deadline = System.nanoTime() + unit.toNanos(waitTime);
+        int acquired = 0;
+
+        try {
+            for (int index : indexes) {
+                if (!stripes[index].tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    throw new LockTimeoutException("not obtain lock: " + Arrays.toString(keys));
+                }
+                acquired++;
+            }
+        } catch (Throwable e) {
+            unlock(indexes, acquired);
+            throw e;
+        }
+
+        return () -> unlock(indexes, indexes.length);
+    }
+
+    private int[] stripeIndexes(String[] keys) {
+        int[] indexes = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            int hash = keys[i].hashCode();
+            indexes[i] = (hash ^ (hash >>> 16)) & mask;
+        }
+
+        return Arrays.stream(indexes)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    private void unlock(int[] indexes, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            ReentrantLock lock = stripes[indexes[i]];
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.remittance.infrastructure.lock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounds the number of callers waiting for the same lock key. Waiters are counted per node, and once a key
+ * already has a local queue also in a Redis sorted set shared by all nodes, so uncontended locks pay no extra
+ * round trip. A caller that would exceed either limit is rejected at once instead of parking for the wait time.
+ * Each cluster-wide waiter is its own member scored by its expiry, and every admission first prunes expired members,
+ * so a waiter whose release never reached Redis stops counting after {@code waiter-ttl-millis} instead of forever.
+ * The TTL should therefore exceed the longest lock wait time.
+ */
+@Slf4j
+@Component
+public class LockAdmission {
+
+    private static final String ADMIT_SCRIPT =
+            "redis.call('zremrangebyscore', KEYS[1], '-inf', ARGV[1]); "
+            + "if redis.call('zcard', KEYS[1]) >= tonumber(ARGV[2]) then "
+            + "  return 0; "
+            + "end; "
+            + "redis.call('zadd', KEYS[1], ARGV[3], ARGV[4]); "
+            + "redis.call('pexpireat', KEYS[1], redis.call('zrange', KEYS[1], -1, -1, 'withscores')[2]); "
+            + "return 1;";
+
+    private static final String RELEASE_SCRIPT =
+            "redis.call('zrem', KEYS[1], ARGV[1]); "
+            + "if redis.call('zcard', KEYS[1]) == 0 then "
+            + "  redis.call('del', KEYS[1]); "
+            + "end; "
+            + "return 1;";
+
+    private static final String WAITERS = ":waiters";
+
+    private static final Ticket NONE = () -> {
+    };
+
+    private final RedissonClient redissonClient;
+    private final boolean enabled;
+    private final int maxWaiters;
+    private final int clusterMaxWaiters;
+    private final long waiterTtlMillis;
+    private final long retryAfterSeconds;
+    private final Map<String, Integer> localWaiters = new ConcurrentHashMap<>();
+    private final String waiterPrefix = UUID.randomUUID() + ":";
+    private final AtomicLong waiterSequence = new AtomicLong();
+
+    public LockAdmission(
+            ObjectProvider<RedissonClient> redissonClient,
+            @Value("${remittance.lock.admission.enabled:true}") boolean enabled,
+            @Value("${remittance.lock.admission.max-waiters:32}") int maxWaiters,
+            @Value("${remittance.lock.admission.cluster-max-waiters:128}") int clusterMaxWaiters,
+            @Value("${remittance.lock.admission.waiter-ttl-millis:10000}") long waiterTtlMillis,
+            @Value("${remittance.lock.admission.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        if (maxWaiters < 1) {
+            throw new IllegalArgumentException("max waiters must be positive: " + maxWaiters);
+        }
+        this.redissonClient = clusterMaxWaiters > 0 ? redissonClient.getIfAvailable() : null;
+        this.enabled = enabled;
+        this.maxWaiters = maxWaiters;
+        this.clusterMaxWaiters = clusterMaxWaiters;
+        this.waiterTtlMillis = waiterTtlMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Registers the caller as a waiter on every distinct key, so a repeated key counts as one waiter. The returned ticket must be closed once the lock attempt
+     * is over, whether it succeeded or not.
+     */
+    public Ticket admit(String[] keys) {
+        if (!enabled) {
+            return NONE;
+        }
+
+        List<String> admitted = new ArrayList<>(keys.length);
+        List<String> queued = new ArrayList<>(keys.length);
+        try {
+            for (String key : new LinkedHashSet<>(Arrays.asList(keys))) {
+                int waiters = localWaiters.merge(key, 1, Integer::sum);
+                admitted.add(key);
+                if (waiters > maxWaiters) {
+                    throw rejected(key);
+                }
+                if (waiters > 1) {
+                    queued.add(key);
+                }
+            }
+
+            String waiter = waiterPrefix + waiterSequence.incrementAndGet();
+            List<String> counted = admitClusterWide(queued, waiter);
+            return () -> {
+                releaseClusterWide(counted, waiter);
+                releaseLocal(admitted);
+            };
+        } catch (RuntimeException e) {
+            releaseLocal(admitted);
+            throw e;
+        }
+    }
+
+    public int localWaiters(String key) {
+        return localWaiters.getOrDefault(key, 0);
+    }
+
+    private List<String> admitClusterWide(List<String> keys, String waiter) {
+        if (redissonClient == null || keys.isEmpty()) {
+            return List.of();
+        }
+
+        long now = System.currentTimeMillis();
+        RBatch batch = redissonClient.createBatch();
+        for (String key : keys) {
+            batch.getScript(StringCodec.INSTANCE).evalAsync(
+                    RScript.Mode.READ_WRITE,
+                    ADMIT_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    List.of(RedisLockNames.of(key) + WAITERS),
+                    now, clusterMaxWaiters, now + waiterTtlMillis, waiter
+            );
+        }
+        BatchResult<?> result = batch.execute();
+
+        List<String> counted = new ArrayList<>(keys.size());
+        String rejectedKey = null;
+        for (int i = 0; i < keys.size(); i++) {
+            if (((Long) result.getResponses().get(i)) == 1L) {
+                counted.add(keys.get(i));
+            } else if (rejectedKey == null) {
+                rejectedKey = keys.get(i);
+            }
+        }
+
+        if (rejectedKey != null) {
+            releaseClusterWide(counted, waiter);
+            throw rejected(rejectedKey);
+        }
+        return counted;
+    }
+
+    private void releaseClusterWide(List<String> keys, String waiter) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        for (String key : keys) {
+            batch.getScript(StringCodec.INSTANCE).evalAsync(
+                    RScript.Mode.READ_WRITE,
+                    RELEASE_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    List.of(RedisLockNames.of(key) + WAITERS),
+                    waiter
+            );
+        }
+        batch.executeAsync().whenComplete((result, e) -> {
+            if (e != null) {
+                log.warn("lock waiter release failed, it expires after {}ms keys={}", waiterTtlMillis, keys, e);
+            }
+        });
+    }
+
+    private void releaseLocal(List<String> keys) {
+        for (String key : keys) {
+            localWaiters.computeIfPresent(key, (k, waiters) -> waiters > 1 ? waiters - 1 : null);
+        }
+    }
+
+    private LockQueueFullException rejected(String key) {
+        return new LockQueueFullException("too many waiters for lock: " + key, retryAfterSeconds);
+    }
+
+    @FunctionalInterface
+    public interface Ticket extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
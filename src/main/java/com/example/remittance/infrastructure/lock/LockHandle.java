@@ -0,0 +1,39 @@
+package com.example.remittance.infrastructure.lock;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+@FunctionalInterface
+public interface LockHandle {
+
+    void unlock();
+
+    /**
+     * Extends the lease of every lock in the handle, returning false once any of them is no longer held.
+     * Called from the watchdog thread, not the thread that took the locks.
+     */
+    default boolean renew(long leaseTime, TimeUnit unit) {
+        return true;
+    }
+
+    /**
+     * Same as {@link #renew}, completing when the renewal is done. Handles backed by a remote store override this
+     * so the watchdog thread does not wait on the round trip.
+     */
+    default CompletionStage<Boolean> renewAsync(long leaseTime, TimeUnit unit) {
+        try {
+            return CompletableFuture.completedFuture(renew(leaseTime, unit));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Fencing token issued for each lock key on this acquisition, increasing with every acquisition of the key.
+     */
+    default Map<String, Long> fencingTokens() {
+        return Map.of();
+    }
+}
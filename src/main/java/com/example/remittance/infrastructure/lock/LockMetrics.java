@@ -0,0 +1,132 @@
+package com.example.remittance.infrastructure.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class LockMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final HotLockKeys hotLockKeys;
+    private final long contendedNanos;
+    private final int logSampleRate;
+    private final Map<MeterKey, MethodMetrics> methodMetrics = new ConcurrentHashMap<>();
+
+    public LockMetrics(
+            MeterRegistry meterRegistry,
+            HotLockKeys hotLockKeys,
+            @Value("${remittance.lock.metrics.contended-millis:1}") long contendedMillis,
+            @Value("${remittance.lock.metrics.log-sample-rate:100}") int logSampleRate
+    ) {
+        if (logSampleRate <= 0) {
+            throw new IllegalArgumentException("log sample rate must be positive: " + logSampleRate);
+        }
+        this.meterRegistry = meterRegistry;
+        this.hotLockKeys = hotLockKeys;
+        this.contendedNanos = TimeUnit.MILLISECONDS.toNanos(contendedMillis);
+        this.logSampleRate = logSampleRate;
+    }
+
+    public MethodMetrics forMethod(Method method, String provider) {
+        return methodMetrics.computeIfAbsent(new MeterKey(method, provider), this::register);
+    }
+
+    public void acquired(MethodMetrics metrics, String[] keys, long waitNanos) {
+        metrics.waitTimer().record(waitNanos, TimeUnit.NANOSECONDS);
+        if (waitNanos >= contendedNanos) {
+            hotLockKeys.record(keys, waitNanos);
+        }
+        if (sampled()) {
+            log.debug("obtain lock {} keys={} wait={}us", metrics.method(), Arrays.toString(keys), waitNanos / 1_000L);
+        }
+    }
+
+    public void timedOut(MethodMetrics metrics, String[] keys, long waitNanos) {
+        metrics.timeouts().increment();
+        hotLockKeys.record(keys, waitNanos);
+        if (log.isDebugEnabled()) {
+            log.debug("not obtain lock {} keys={} wait={}us", metrics.method(), Arrays.toString(keys), waitNanos / 1_000L);
+        }
+    }
+
+    public void released(MethodMetrics metrics, String[] keys, long holdNanos, long leaseNanos) {
+        metrics.holdTimer().record(holdNanos, TimeUnit.NANOSECONDS);
+        if (leaseNanos > 0 && holdNanos > leaseNanos) {
+            metrics.leaseExpired().increment();
+            log.warn("lock lease expired before unlock {} keys={} hold={}ms", metrics.method(), Arrays.toString(keys), holdNanos / 1_000_000L);
+            return;
+        }
+        if (sampled()) {
+            log.debug("unlock {} keys={} hold={}us", metrics.method(), Arrays.toString(keys), holdNanos / 1_000L);
+        }
+    }
+
+    public void rejected(MethodMetrics metrics, String[] keys) {
+        metrics.rejections().increment();
+        if (log.isDebugEnabled()) {
+            log.debug("reject lock waiter {} keys={}", metrics.method(), Arrays.toString(keys));
+        }
+    }
+
+    public void leaseLost(MethodMetrics metrics, String[] keys) {
+        metrics.leaseExpired().increment();
+        log.warn("lock lease lost before unlock {} keys={}", metrics.method(), Arrays.toString(keys));
+    }
+
+    private boolean sampled() {
+        return log.isDebugEnabled() && ThreadLocalRandom.current().nextInt(logSampleRate) == 0;
+    }
+
+    private MethodMetrics register(MeterKey meterKey) {
+        String method = meterKey.method().getDeclaringClass().getSimpleName() + "." + meterKey.method().getName();
+
+        return new MethodMetrics(
+                method,
+                Timer.builder("remittance.lock.wait")
+                        .description("time spent waiting to acquire a lock")
+                        .tag("method", method)
+                        .tag("provider", meterKey.provider())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Timer.builder("remittance.lock.hold")
+                        .description("time a lock was held until unlock")
+                        .tag("method", method)
+                        .tag("provider", meterKey.provider())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Counter.builder("remittance.lock.timeouts")
+                        .description("lock acquisitions that gave up after the wait time")
+                        .tag("method", method)
+                        .tag("provider", meterKey.provider())
+                        .register(meterRegistry),
+                Counter.builder("remittance.lock.lease.expired")
+                        .description("locks held longer than their lease time")
+                        .tag("method", method)
+                        .tag("provider", meterKey.provider())
+                        .register(meterRegistry),
+                Counter.builder("remittance.lock.rejections")
+                        .description("lock attempts rejected because too many callers were already waiting")
+                        .tag("method", method)
+                        .tag("provider", meterKey.provider())
+                        .register(meterRegistry)
+        );
+    }
+
+    private record MeterKey(Method method, String provider) {
+    }
+
+    public record MethodMetrics(String method, Timer waitTimer, Timer holdTimer, Counter timeouts, Counter leaseExpired,
+                                Counter rejections) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.remittance.infrastructure.lock;
+
+import java.util.concurrent.TimeUnit;
+
+public interface LockProvider {
+
+    String name();
+
+    default boolean leased() {
+        return false;
+    }
+
+    /**
+     * Whether the provider can lock arbitrary named keys outside a transaction, as the scheduled cluster jobs need.
+     */
+    default boolean locksNamedKeys() {
+        return true;
+    }
+
+    LockHandle lock(String[] keys, boolean multiLock, long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException;
+}
@@ -0,0 +1,54 @@
+package com.example.remittance.infrastructure.lock;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LockProviderRegistry {
+
+    private final Map<String, LockProvider> lockProviders;
+
+    private final String defaultProvider;
+
+    public LockProviderRegistry(List<LockProvider> lockProviders,
+                                @Value("${remittance.lock.provider:redisson}") String defaultProvider) {
+        this.lockProviders = lockProviders.stream()
+                .collect(Collectors.toUnmodifiableMap(LockProvider::name, Function.identity()));
+        this.defaultProvider = defaultProvider;
+    }
+
+    public LockProvider get(String name) {
+        String providerName = name.isEmpty() ? defaultProvider : name;
+
+        LockProvider lockProvider = lockProviders.get(providerName);
+        if (lockProvider == null) {
+            throw new IllegalStateException("not registered lock provider: " + providerName);
+        }
+
+        return lockProvider;
+    }
+
+    /**
+     * Resolves the provider of a job that locks a named key such as {@code outbox-relay}. When no provider is named and the
+     * default only locks account rows, the job falls back to redisson.
+     *
+     * @throws IllegalStateException if the resolved provider cannot lock named keys and there is nothing to fall back to
+     */
+    public LockProvider getForNamedKeys(String name) {
+        LockProvider lockProvider = get(name);
+        if (lockProvider.locksNamedKeys()) {
+            return lockProvider;
+        }
+
+        LockProvider fallback = lockProviders.get(RedissonLockProvider.NAME);
+        if (name.isEmpty() && fallback != null) {
+            return fallback;
+        }
+        throw new IllegalStateException("lock provider cannot lock named keys: " + lockProvider.name()
+                + ", configure redisson or local for scheduled jobs");
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.remittance.infrastructure.lock;
+
+public class LockQueueFullException extends IllegalStateException {
+
+    private final long retryAfterSeconds;
+
+    public LockQueueFullException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
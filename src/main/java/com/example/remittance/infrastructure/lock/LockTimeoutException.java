@@ -0,0 +1,12 @@
+package com.example.remittance.infrastructure.lock;
+
+public class LockTimeoutException extends IllegalStateException {
+
+    public LockTimeoutException(String message) {
+        super(message);
+    }
+
+    public LockTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
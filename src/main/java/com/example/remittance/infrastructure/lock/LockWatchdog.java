@@ -0,0 +1,142 @@
+package com.example.remittance.infrastructure.lock;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps leased locks alive while their holder is still running by renewing the lease every third of it,
+ * so leases can be short enough that a crashed node releases its accounts quickly.
+ * Renewals are sent asynchronously, so one thread keeps many locks alive without waiting on each round trip,
+ * and a lock whose previous renewal has not completed yet skips the tick instead of queueing another one.
+ */
+@Slf4j
+@Component
+public class LockWatchdog {
+
+    private final boolean enabled;
+    private final long leaseMillis;
+    private final long renewIntervalMillis;
+    private final ScheduledExecutorService scheduler;
+
+    public LockWatchdog(
+            @Value("${remittance.lock.watchdog.enabled:true}") boolean enabled,
+            @Value("${remittance.lock.watchdog.lease-millis:1000}") long leaseMillis,
+            @Value("${remittance.lock.watchdog.threads:1}") int threads
+    ) {
+        if (leaseMillis < 3) {
+            throw new IllegalArgumentException("watchdog lease must be at least 3ms: " + leaseMillis);
+        }
+        this.enabled = enabled;
+        this.leaseMillis = leaseMillis;
+        this.renewIntervalMillis = leaseMillis / 3;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.scheduler = Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "lock-watchdog-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long leaseMillis() {
+        return leaseMillis;
+    }
+
+    /**
+     * Renews the handle until it is unlocked. {@code onLost} runs once if a renewal finds the lock taken over.
+     */
+    public LockHandle watch(LockHandle lockHandle, Runnable onLost) {
+        Renewal renewal = new Renewal(lockHandle, onLost);
+        renewal.future = scheduler.scheduleWithFixedDelay(renewal, renewIntervalMillis, renewIntervalMillis, TimeUnit.MILLISECONDS);
+
+        return new LockHandle() {
+            @Override
+            public void unlock() {
+                renewal.stop();
+                lockHandle.unlock();
+            }
+
+            @Override
+            public boolean renew(long leaseTime, TimeUnit unit) {
+                return lockHandle.renew(leaseTime, unit);
+            }
+
+            @Override
+            public CompletionStage<Boolean> renewAsync(long leaseTime, TimeUnit unit) {
+                return lockHandle.renewAsync(leaseTime, unit);
+            }
+
+            @Override
+            public Map<String, Long> fencingTokens() {
+                return lockHandle.fencingTokens();
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private final class Renewal implements Runnable {
+
+        private final LockHandle lockHandle;
+        private final Runnable onLost;
+        private final AtomicBoolean renewing = new AtomicBoolean();
+        private volatile boolean stopped;
+        private volatile ScheduledFuture<?> future;
+
+        private Renewal(LockHandle lockHandle, Runnable onLost) {
+            this.lockHandle = lockHandle;
+            this.onLost = onLost;
+        }
+
+        @Override
+        public void run() {
+            if (stopped || !renewing.compareAndSet(false, true)) {
+                return;
+            }
+
+            CompletionStage<Boolean> renewal;
+            try {
+                renewal = lockHandle.renewAsync(leaseMillis, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                renewing.set(false);
+                log.warn("lock lease renewal failed", e);
+                return;
+            }
+
+            renewal.whenComplete((renewed, failure) -> {
+                renewing.set(false);
+                if (failure != null) {
+                    log.warn("lock lease renewal failed", failure);
+                } else if (!renewed && !stopped) {
+                    stop();
+                    onLost.run();
+                }
+            });
+        }
+
+        private void stop() {
+            stopped = true;
+            ScheduledFuture<?> scheduled = future;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.remittance.infrastructure.lock;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis lock names hash-tagged by lock key, so a lock hash, its Redisson pub/sub channel and every
+ * other lock sharing the tag live on the same cluster slot.
+ */
+public final class RedisLockNames {
+
+    public static final int SLOT_COUNT = 16384;
+
+    private static final String LOCK = "lock:";
+
+    private RedisLockNames() {
+    }
+
+    public static String of(String key) {
+        if (key.indexOf('{') >= 0) {
+            return LOCK + key;
+        }
+        return LOCK + "{" + key + "}";
+    }
+
+    public static int slotOf(String name) {
+        int start = name.indexOf('{');
+        if (start >= 0) {
+            int end = name.indexOf('}', start + 1);
+            if (end > start + 1) {
+                name = name.substring(start + 1, end);
+            }
+        }
+        return crc16(name.getBytes(StandardCharsets.UTF_8)) % SLOT_COUNT;
+    }
+
+    private static int crc16(byte[] bytes) {
+        int crc = 0;
+        for (byte b : bytes) {
+            crc ^= (b & 0xff) << 8;
+            for (int i = 0; i < 8; i++) {
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+            }
+        }
+        return crc & 0xffff;
+    }
+}
@@ -0,0 +1,295 @@
+package com.example.remittance.infrastructure.lock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.redisson.api.RScript;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Takes several Redisson-compatible locks in a single Lua round trip per cluster slot.
+ * Lock hashes use the same layout as {@link org.redisson.api.RLock}, so a key locked here
+ * also excludes {@code RLock} holders of the same name and vice versa.
+ * Every acquisition also increments a fencing counter stored next to each lock, which is seeded from the
+ * clock when missing so that tokens keep increasing even after Redis loses the counter.
+ * A single lock waits for the unlock message on the {@code RLock} channel, as {@code RLock} does, while several locks
+ * retry with a short random backoff since no one message announces that all of them are free.
+ */
+@ConditionalOnProperty(prefix = "remittance.redis", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class RedisMultiLock {
+
+    private static final String ACQUIRE_SCRIPT =
+            "local n = #KEYS / 2; "
+            + "for i = 1, n do "
+            + "  if redis.call('exists', KEYS[i]) == 1 and redis.call('hexists', KEYS[i], ARGV[2]) == 0 then "
+            + "    return {math.max(redis.call('pttl', KEYS[i]), 1)}; "
+            + "  end; "
+            + "end; "
+            + "local tokens = {0}; "
+            + "for i = 1, n do "
+            + "  redis.call('hincrby', KEYS[i], ARGV[2], 1); "
+            + "  redis.call('pexpire', KEYS[i], ARGV[1]); "
+            + "  if redis.call('exists', KEYS[n + i]) == 0 then "
+            + "    redis.call('set', KEYS[n + i], ARGV[3]); "
+            + "  end; "
+            + "  tokens[i + 1] = redis.call('incr', KEYS[n + i]); "
+            + "end; "
+            + "return tokens;";
+
+    private static final String RENEW_SCRIPT =
+            "for i = 1, #KEYS do "
+            + "  if redis.call('hexists', KEYS[i], ARGV[2]) == 0 then "
+            + "    return 0; "
+            + "  end; "
+            + "end; "
+            + "for i = 1, #KEYS do "
+            + "  redis.call('pexpire', KEYS[i], ARGV[1]); "
+            + "end; "
+            + "return 1;";
+
+    private static final String RELEASE_SCRIPT =
+            "local n = #KEYS / 2; "
+            + "for i = 1, n do "
+            + "  if redis.call('hexists', KEYS[i], ARGV[2]) == 1 then "
+            + "    local counter = redis.call('hincrby', KEYS[i], ARGV[2], -1); "
+            + "    if counter > 0 then "
+            + "      redis.call('pexpire', KEYS[i], ARGV[1]); "
+            + "    else "
+            + "      redis.call('del', KEYS[i]); "
+            + "      redis.call('publish', KEYS[n + i], ARGV[3]); "
+            + "    end; "
+            + "  end; "
+            + "end; "
+            + "return 1;";
+
+    private static final String LOCK_CHANNEL = "redisson_lock__channel";
+
+    private static final String FENCE = ":fence";
+
+    private static final long UNLOCK_MESSAGE = 0L;
+
+    private static final long MAX_RETRY_INTERVAL_MILLIS = 20L;
+
+    private final RedissonClient redissonClient;
+    private final boolean clustered;
+
+    public RedisMultiLock(RedissonClient redissonClient) {
+        this.redissonClient = redissonClient;
+        this.clustered = redissonClient.getConfig().isClusterConfig();
+    }
+
+    /**
+     * Lock owner of the current thread, in the form {@code RLock} uses.
+     */
+    public String owner() {
+        return redissonClient.getId() + ":" + Thread.currentThread().threadId();
+    }
+
+    /**
+     * Takes all locks or none, returning the fencing token issued for each lock name.
+     */
+    public Map<String, Long> lock(List<String> names, String owner, long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
+        long leaseMillis = unit.toMillis(leaseTime);
+        long deadline = System.nanoTime() + unit.toNanos(waitTime);
+
+        List<List<String>> groups = slotGroups(names);
+        Map<String, Long> fencingTokens = new HashMap<>(names.size() * 2);
+        int locked = 0;
+        try {
+            for (List<String> group : groups) {
+                if (!tryLockGroup(group, owner, leaseMillis, deadline, fencingTokens)) {
+                    break;
+                }
+                locked++;
+            }
+        } finally {
+            if (locked < groups.size()) {
+                for (List<String> group : groups.subList(0, locked)) {
+                    release(group, owner, leaseMillis);
+                }
+            }
+        }
+
+        if (locked < groups.size()) {
+            throw new LockTimeoutException("not obtain lock: " + names);
+        }
+        return fencingTokens;
+    }
+
+    public boolean renew(List<String> names, String owner, long leaseTime, TimeUnit unit) {
+        long leaseMillis = unit.toMillis(leaseTime);
+
+        for (List<String> group : slotGroups(names)) {
+            Long renewed = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    RENEW_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    new ArrayList<>(group),
+                    leaseMillis, owner
+            );
+            if (renewed == null || renewed == 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same as {@link #renew}, without blocking the caller on the round trips.
+     */
+    public CompletionStage<Boolean> renewAsync(List<String> names, String owner, long leaseTime, TimeUnit unit) {
+        long leaseMillis = unit.toMillis(leaseTime);
+
+        List<CompletableFuture<Long>> renewals = new ArrayList<>();
+        for (List<String> group : slotGroups(names)) {
+            renewals.add(redissonClient.getScript(StringCodec.INSTANCE).<Long>evalAsync(
+                    RScript.Mode.READ_WRITE,
+                    RENEW_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    new ArrayList<>(group),
+                    leaseMillis, owner
+            ).toCompletableFuture());
+        }
+
+        return CompletableFuture.allOf(renewals.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> renewals.stream()
+                        .map(CompletableFuture::join)
+                        .allMatch(renewed -> renewed != null && renewed != 0L));
+    }
+
+    public void unlock(List<String> names, String owner, long leaseTime, TimeUnit unit) {
+        long leaseMillis = unit.toMillis(leaseTime);
+
+        for (List<String> group : slotGroups(names)) {
+            release(group, owner, leaseMillis);
+        }
+    }
+
+    private boolean tryLockGroup(List<String> names, String owner, long leaseMillis, long deadline,
+                                 Map<String, Long> fencingTokens) throws InterruptedException {
+        List<Object> keys = new ArrayList<>(names.size() * 2);
+        keys.addAll(names);
+        for (String name : names) {
+            keys.add(name + FENCE);
+        }
+        long fenceSeed = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+
+        while (true) {
+            long ttl = tryAcquire(names, keys, owner, leaseMillis, fenceSeed, fencingTokens);
+            if (ttl == 0L) {
+                return true;
+            }
+
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                return false;
+            }
+            if (names.size() == 1) {
+                return awaitUnlock(names.get(0), keys, owner, leaseMillis, fenceSeed, deadline, fencingTokens);
+            }
+
+            long backoff = Math.min(ThreadLocalRandom.current().nextLong(1, MAX_RETRY_INTERVAL_MILLIS + 1), ttl);
+            Thread.sleep(Math.min(backoff, remainingMillis));
+        }
+    }
+
+    /**
+     * Subscribes to the unlock channel of the lock before retrying, so a release between the retry and the wait is not missed,
+     * then retries once per unlock message or when the holder's lease runs out.
+     */
+    private boolean awaitUnlock(String name, List<Object> keys, String owner, long leaseMillis, long fenceSeed, long deadline,
+                                Map<String, Long> fencingTokens) throws InterruptedException {
+        Semaphore unlocked = new Semaphore(0);
+        RTopic topic = redissonClient.getTopic(channelName(name), StringCodec.INSTANCE);
+        int listenerId = topic.addListener(String.class, (channel, message) -> unlocked.release());
+        try {
+            while (true) {
+                long ttl = tryAcquire(List.of(name), keys, owner, leaseMillis, fenceSeed, fencingTokens);
+                if (ttl == 0L) {
+                    return true;
+                }
+
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    return false;
+                }
+                unlocked.tryAcquire(Math.min(ttl, remainingMillis), TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            topic.removeListener(listenerId);
+        }
+    }
+
+    /**
+     * @return 0 when every lock was taken, otherwise the remaining lease of a lock held by someone else
+     */
+    private long tryAcquire(List<String> names, List<Object> keys, String owner, long leaseMillis, long fenceSeed,
+                            Map<String, Long> fencingTokens) {
+        List<Long> result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                ACQUIRE_SCRIPT,
+                RScript.ReturnType.MULTI,
+                keys,
+                leaseMillis, owner, fenceSeed
+        );
+
+        long ttl = result.get(0);
+        if (ttl == 0L) {
+            for (int i = 0; i < names.size(); i++) {
+                fencingTokens.put(names.get(i), result.get(i + 1));
+            }
+        }
+        return ttl;
+    }
+
+    private void release(List<String> names, String owner, long leaseMillis) {
+        List<Object> keys = new ArrayList<>(names.size() * 2);
+        keys.addAll(names);
+        for (String name : names) {
+            keys.add(channelName(name));
+        }
+
+        redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                RELEASE_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                keys,
+                leaseMillis, owner, UNLOCK_MESSAGE
+        );
+    }
+
+    /**
+     * A Lua script may only touch keys of one cluster slot, so on a cluster the names are split by slot and
+     * the groups are taken one after another in slot order. Names sharing a hash tag stay in one round trip.
+     */
+    private List<List<String>> slotGroups(List<String> names) {
+        if (!clustered) {
+            return List.of(names);
+        }
+
+        Map<Integer, List<String>> groups = new TreeMap<>();
+        for (String name : names) {
+            groups.computeIfAbsent(RedisLockNames.slotOf(name), slot -> new ArrayList<>()).add(name);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private static String channelName(String name) {
+        if (name.contains("{")) {
+            return LOCK_CHANNEL + ":" + name;
+        }
+        return LOCK_CHANNEL + ":{" + name + "}";
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.remittance.infrastructure.lock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "remittance.redis", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class RedissonLockProvider implements LockProvider {
+
+    public static final String NAME = "redisson";
+
+    private final RedisMultiLock redisMultiLock;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean leased() {
+        return true;
+    }
+
+    @Override
+    public LockHandle lock(String[] keys, boolean multiLock, long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
+        return multiLock
+                ? lockAll(keys, waitTime, leaseTime, unit)
+                : lockEach(keys, waitTime, leaseTime, unit);
+    }
+
+    private LockHandle lockEach(String[] keys, long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
+        String owner = redisMultiLock.owner();
+        List<String> names = new ArrayList<>(keys.length);
+        Map<String, Long> fencingTokens = new HashMap<>(keys.length * 2);
+
+        try {
+            for (String key : keys) {
+                String name = RedisLockNames.of(key);
+                Map<String, Long> tokens = redisMultiLock.lock(List.of(name), owner, waitTime, leaseTime, unit);
+                names.add(name);
+                fencingTokens.put(key, tokens.get(name));
+            }
+        } catch (Throwable e) {
+            redisMultiLock.unlock(names, owner, leaseTime, unit);
+            throw e;
+        }
+
+        return new RedisLockHandle(names, owner, fencingTokens, leaseTime, unit);
+    }
+
+    private LockHandle lockAll(String[] keys, long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
+        String owner = redisMultiLock.owner();
+        List<String> sortedKeys = Arrays.stream(keys)
+                .distinct()
+                .sorted()
+                .toList();
+        List<String> names = sortedKeys.stream()
+                .map(RedisLockNames::of)
+                .toList();
+
+        Map<String, Long> tokens = redisMultiLock.lock(names, owner, waitTime, leaseTime, unit);
+
+        Map<String, Long> fencingTokens = new HashMap<>(names.size() * 2);
+        for (int i = 0; i < names.size(); i++) {
+            fencingTokens.put(sortedKeys.get(i), tokens.get(names.get(i)));
+        }
+        return new RedisLockHandle(names, owner, fencingTokens, leaseTime, unit);
+    }
+
+    private final class RedisLockHandle implements LockHandle {
+
+        private final List<String> names;
+        private final String owner;
+        private final Map<String, Long> fencingTokens;
+        private final long leaseTime;
+        private final TimeUnit unit;
+
+        private RedisLockHandle(List<String> names, String owner, Map<String, Long> fencingTokens, long leaseTime, TimeUnit unit) {
+            this.names = names;
+            this.owner = owner;
+            this.fencingTokens = fencingTokens;
+            this.leaseTime = leaseTime;
+            this.unit = unit;
+        }
+
+        @Override
+        public void unlock() {
+            redisMultiLock.unlock(names, owner, leaseTime, unit);
+        }
+
+        @Override
+        public boolean renew(long leaseTime, TimeUnit unit) {
+            return redisMultiLock.renew(names, owner, leaseTime, unit);
+        }
+
+        @Override
+        public CompletionStage<Boolean> renewAsync(long leaseTime, TimeUnit unit) {
+            return redisMultiLock.renewAsync(names, owner, leaseTime, unit);
+        }
+
+        @Override
+        public Map<String, Long> fencingTokens() {
+            return fencingTokens;
+        }
+    }
+}
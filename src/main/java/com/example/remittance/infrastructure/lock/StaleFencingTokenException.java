@@ -0,0 +1,8 @@
+package com.example.remittance.infrastructure.lock;
+
+public class StaleFencingTokenException extends IllegalStateException {
+
+    public StaleFencingTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.remittance.infrastructure.outbox;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps only the latest {@code capacity} messages, so older events are dropped once the relay has deleted them
+ * from the outbox. Meant for tests and local runs, not for deployments that consume the events.
+ */
+@ConditionalOnProperty(prefix = "remittance.outbox", name = "sink", havingValue = "memory")
+@Component
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final int capacity;
+    private final Deque<OutboxMessage> messages = new ArrayDeque<>();
+
+    public InMemoryOutboxSink(@Value("${remittance.outbox.memory.capacity:10000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> batch) {
+        for (OutboxMessage message : batch) {
+            if (messages.size() == capacity) {
+                messages.pollFirst();
+            }
+            messages.addLast(message);
+        }
+    }
+
+    public synchronized List<OutboxMessage> drain() {
+        List<OutboxMessage> drained = new ArrayList<>(messages);
+        messages.clear();
+        return drained;
+    }
+}
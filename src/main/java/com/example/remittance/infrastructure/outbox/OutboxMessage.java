@@ -0,0 +1,25 @@
+package com.example.remittance.infrastructure.outbox;
+
+import com.example.remittance.domain.model.OutboxEvent;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record OutboxMessage(
+        Long id,
+        String eventType,
+        Long aggregateId,
+        String payload,
+        LocalDateTime createdAt
+) {
+    public static OutboxMessage from(OutboxEvent outboxEvent) {
+        return OutboxMessage.builder()
+                .id(outboxEvent.getId())
+                .eventType(outboxEvent.getEventType().name())
+                .aggregateId(outboxEvent.getAggregateId())
+                .payload(outboxEvent.getPayload())
+                .createdAt(outboxEvent.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.remittance.infrastructure.outbox;
+
+import com.example.remittance.domain.model.OutboxEvent;
+import com.example.remittance.domain.repository.OutboxEventRepository;
+import com.example.remittance.infrastructure.lock.LockHandle;
+import com.example.remittance.infrastructure.lock.LockProvider;
+import com.example.remittance.infrastructure.lock.LockProviderRegistry;
+import com.example.remittance.infrastructure.lock.LockTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@ConditionalOnProperty(prefix = "remittance.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class OutboxRelay {
+
+    private static final String[] RELAY_KEYS = {"outbox-relay"};
+    private static final long RELAY_LEASE_SECONDS = 30L;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final LockProvider lockProvider;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Clock clock;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Timer batchTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+
+    @Autowired
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            OutboxSink outboxSink,
+            LockProviderRegistry lockProviderRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${remittance.outbox.relay.lock-provider:}") String lockProvider,
+            @Value("${remittance.outbox.relay.batch-size:500}") int batchSize,
+            @Value("${remittance.outbox.relay.max-batches:20}") int maxBatches
+    ) {
+        this(outboxEventRepository, outboxSink, lockProviderRegistry, meterRegistry, lockProvider, batchSize, maxBatches, Clock.systemDefaultZone());
+    }
+
+    OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxSink outboxSink, LockProviderRegistry lockProviderRegistry,
+                MeterRegistry meterRegistry, String lockProvider, int batchSize, int maxBatches, Clock clock) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSink = outboxSink;
+        this.lockProvider = lockProviderRegistry.getForNamedKeys(lockProvider);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.clock = clock;
+
+        TimeGauge.builder("remittance.outbox.relay.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("age of the oldest unpublished outbox event")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("remittance.outbox.relay.batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("remittance.outbox.relay.batch.size")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("remittance.outbox.relay.published")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("remittance.outbox.relay.failures")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${remittance.outbox.relay.interval-ms:200}")
+    public void relay() throws InterruptedException {
+        LockHandle lockHandle;
+        try {
+            lockHandle = lockProvider.lock(RELAY_KEYS, false, 0L, RELAY_LEASE_SECONDS, TimeUnit.SECONDS);
+        } catch (LockTimeoutException e) {
+            return;
+        }
+
+        try {
+            for (int batches = 0; batches < maxBatches; batches++) {
+                if (relayBatch() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.warn("failed to relay outbox events", e);
+        } finally {
+            lockHandle.unlock();
+        }
+    }
+
+    int relayBatch() {
+        List<OutboxEvent> outboxEvents = outboxEventRepository.findOldest(batchSize);
+        if (outboxEvents.isEmpty()) {
+            lagMillis.set(0L);
+            return 0;
+        }
+
+        LocalDateTime oldest = outboxEvents.get(0).getCreatedAt();
+        lagMillis.set(Math.max(0L, Duration.between(oldest, LocalDateTime.now(clock)).toMillis()));
+
+        long start = System.nanoTime();
+        outboxSink.publish(outboxEvents.stream()
+                .map(OutboxMessage::from)
+                .toList());
+        outboxEventRepository.deleteAllByIdInBatch(outboxEvents.stream()
+                .map(OutboxEvent::getId)
+                .toList());
+        batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        batchSizeSummary.record(outboxEvents.size());
+        publishedCounter.increment(outboxEvents.size());
+
+        return outboxEvents.size();
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.remittance.infrastructure.outbox;
+
+import java.util.List;
+
+public interface OutboxSink {
+
+    void publish(List<OutboxMessage> messages);
+}
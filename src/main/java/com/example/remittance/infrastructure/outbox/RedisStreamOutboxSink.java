@@ -0,0 +1,48 @@
+package com.example.remittance.infrastructure.outbox;
+
+import java.util.List;
+import java.util.Map;
+import org.redisson.api.RBatch;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@ConditionalOnProperty(prefix = "remittance.outbox", name = "sink", havingValue = "redis-stream")
+@Component
+public class RedisStreamOutboxSink implements OutboxSink {
+
+    private final RedissonClient redissonClient;
+    private final String stream;
+    private final int maxLength;
+
+    public RedisStreamOutboxSink(
+            RedissonClient redissonClient,
+            @Value("${remittance.outbox.redis-stream.name:remittance:transactions}") String stream,
+            @Value("${remittance.outbox.redis-stream.max-length:1000000}") int maxLength
+    ) {
+        this.redissonClient = redissonClient;
+        this.stream = stream;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        RBatch batch = redissonClient.createBatch();
+        RStreamAsync<String, String> streamAsync = batch.getStream(stream, StringCodec.INSTANCE);
+
+        for (OutboxMessage message : messages) {
+            streamAsync.addAsync(StreamAddArgs.<String, String>entries(Map.of(
+                    "id", String.valueOf(message.id()),
+                    "eventType", message.eventType(),
+                    "aggregateId", String.valueOf(message.aggregateId()),
+                    "payload", message.payload()
+            )).trimNonStrict().maxLen(maxLength).noLimit());
+        }
+
+        batch.execute();
+    }
+}
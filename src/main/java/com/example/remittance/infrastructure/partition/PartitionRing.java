@@ -0,0 +1,91 @@
+package com.example.remittance.infrastructure.partition;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Consistent-hash assignment of partitions to nodes. Adding or removing a node only moves the
+ * partitions whose ring points fall between it and its predecessor.
+ * Without an explicit node list nothing tells this node that it runs alone, so it owns no partition
+ * and writers keep taking the distributed lock.
+ */
+public final class PartitionRing {
+
+    private final String nodeId;
+    private final String[] owners;
+
+    private PartitionRing(String nodeId, String[] owners) {
+        this.nodeId = nodeId;
+        this.owners = owners;
+    }
+
+    public static PartitionRing of(String nodeId, List<String> nodes, int partitionCount, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            return new PartitionRing(nodeId, new String[partitionCount]);
+        }
+
+        if (!nodes.contains(nodeId)) {
+            throw new IllegalArgumentException("node is not a member of the partition ring: " + nodeId);
+        }
+
+        TreeMap<Long, String> ring = new TreeMap<>();
+        for (String member : nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(member + "#" + i), member);
+            }
+        }
+
+        String[] owners = new String[partitionCount];
+        for (int partition = 0; partition < partitionCount; partition++) {
+            Map.Entry<Long, String> entry = ring.ceilingEntry(hash("partition-" + partition));
+            owners[partition] = (entry == null ? ring.firstEntry() : entry).getValue();
+        }
+
+        return new PartitionRing(nodeId, owners);
+    }
+
+    public String ownerOf(int partition) {
+        return owners[partition];
+    }
+
+    public boolean ownsAll(int[] partitions) {
+        for (int partition : partitions) {
+            if (!nodeId.equals(owners[partition])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public List<Integer> ownedPartitions() {
+        List<Integer> partitions = new ArrayList<>();
+        for (int partition = 0; partition < owners.length; partition++) {
+            if (nodeId.equals(owners[partition])) {
+                partitions.add(partition);
+            }
+        }
+        return partitions;
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionRing{nodeId=" + nodeId + ", owners=" + Arrays.toString(owners) + "}";
+    }
+
+    // 64-bit FNV-1a followed by a murmur3 finalizer so that similar names spread over the ring
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
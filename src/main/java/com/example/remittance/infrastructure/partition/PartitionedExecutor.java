@@ -0,0 +1,212 @@
+package com.example.remittance.infrastructure.partition;
+
+import com.example.remittance.infrastructure.lock.LockTimeoutException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs every mutation of an account on one single-threaded partition chosen by hash of the account id.
+ * Operations on several partitions hand off from the lowest partition to the highest, each partition
+ * thread staying parked until the operation finishes or its wait time runs out, so the ordering rules out
+ * deadlocks the same way ordered lock acquisition does.
+ */
+@Slf4j
+@Component
+public class PartitionedExecutor {
+
+    private static final int PENDING = 0;
+    private static final int RUNNING = 1;
+    private static final int CANCELLED = 2;
+
+    private static final ThreadLocal<int[]> HELD_PARTITIONS = new ThreadLocal<>();
+
+    private final ThreadPoolExecutor[] partitions;
+    private final PartitionRing partitionRing;
+    private final boolean rebalancing;
+
+    public PartitionedExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${remittance.partition.count:16}") int partitionCount,
+            @Value("${remittance.partition.queue-capacity:10000}") int queueCapacity,
+            @Value("${remittance.partition.node-id:local}") String nodeId,
+            @Value("${remittance.partition.nodes:}") List<String> nodes,
+            @Value("${remittance.partition.virtual-nodes:64}") int virtualNodes,
+            @Value("${remittance.partition.rebalancing:false}") boolean rebalancing
+    ) {
+        if (partitionCount < 1) {
+            throw new IllegalArgumentException("partition count must be positive: " + partitionCount);
+        }
+
+        this.partitions = new ThreadPoolExecutor[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            String threadName = "account-partition-" + i;
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), runnable -> new Thread(runnable, threadName));
+            Gauge.builder("remittance.partition.queue", executor, e -> e.getQueue().size())
+                    .tag("partition", String.valueOf(i))
+                    .register(meterRegistry);
+            this.partitions[i] = executor;
+        }
+
+        this.partitionRing = PartitionRing.of(nodeId, nodes.stream().map(String::trim).filter(node -> !node.isEmpty()).toList(),
+                partitionCount, virtualNodes);
+        this.rebalancing = rebalancing;
+        log.debug("account partitions: owned={} rebalancing={}", partitionRing.ownedPartitions(), rebalancing);
+    }
+
+    public int partitionOf(String key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return Math.floorMod(hash, partitions.length);
+    }
+
+    public int[] partitionsOf(String[] keys) {
+        return Arrays.stream(keys)
+                .mapToInt(this::partitionOf)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * True when the current thread runs inside every partition of the keys and the ring assigns those
+     * partitions to this node, i.e. no other node writes the same accounts and no cross-node lock is needed.
+     */
+    public boolean isLocallyOwned(String[] keys) {
+        int[] keyPartitions = partitionsOf(keys);
+        return !rebalancing && holds(keyPartitions) && partitionRing.ownsAll(keyPartitions);
+    }
+
+    /**
+     * Runs the task on the partitions of the keys. Waiting for the partitions is bounded by {@code waitTime},
+     * both for the caller and for every partition thread parked while the next partition is busy, so a slow
+     * partition cannot stall the queues of the partitions handing off to it; once the task has started the
+     * caller waits for its result. Calls made from a partition thread that already holds the partitions run
+     * inline, and calls needing partitions the thread does not hold run inline as well so that handoff order
+     * is never reversed.
+     */
+    public <T> T execute(String[] keys, long waitTime, TimeUnit unit, PartitionTask<T> task) throws Throwable {
+        int[] keyPartitions = partitionsOf(keys);
+        if (HELD_PARTITIONS.get() != null) {
+            return task.run();
+        }
+
+        long deadline = System.nanoTime() + unit.toNanos(waitTime);
+        AtomicInteger state = new AtomicInteger(PENDING);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        handoff(keyPartitions, 0, deadline, state, task, result);
+
+        return awaitHandoff(result, keyPartitions, deadline, state);
+    }
+
+    private <T> void handoff(int[] keyPartitions, int index, long deadline, AtomicInteger state,
+                             PartitionTask<T> task, CompletableFuture<T> result) {
+        try {
+            partitions[keyPartitions[index]].execute(() -> {
+                boolean last = index == keyPartitions.length - 1;
+                if (last ? !state.compareAndSet(PENDING, RUNNING) : state.get() == CANCELLED) {
+                    result.completeExceptionally(timeout(keyPartitions));
+                    return;
+                }
+
+                HELD_PARTITIONS.set(Arrays.copyOf(keyPartitions, index + 1));
+                try {
+                    if (last) {
+                        result.complete(task.run());
+                        return;
+                    }
+
+                    CompletableFuture<T> next = new CompletableFuture<>();
+                    handoff(keyPartitions, index + 1, deadline, state, task, next);
+                    result.complete(awaitHandoff(next, keyPartitions, deadline, state));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    HELD_PARTITIONS.remove();
+                }
+            });
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Waits until the deadline for the task to start on its last partition. If it has not started by then it is
+     * cancelled, and partitions that pick it up later skip it; once it runs, its result is awaited without a bound.
+     */
+    private static <T> T awaitHandoff(CompletableFuture<T> result, int[] keyPartitions, long deadline, AtomicInteger state) throws Throwable {
+        try {
+            return result.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (state.compareAndSet(PENDING, CANCELLED) || state.get() == CANCELLED) {
+                throw timeout(keyPartitions);
+            }
+            return awaitResult(result);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static LockTimeoutException timeout(int[] keyPartitions) {
+        return new LockTimeoutException("not obtain partition: " + Arrays.toString(keyPartitions));
+    }
+
+    private static <T> T awaitResult(CompletableFuture<T> result) throws Throwable {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return result.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    throw e.getCause();
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static boolean holds(int[] keyPartitions) {
+        int[] held = HELD_PARTITIONS.get();
+        if (held == null) {
+            return false;
+        }
+        for (int partition : keyPartitions) {
+            if (Arrays.binarySearch(held, partition) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ThreadPoolExecutor partition : partitions) {
+            partition.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    public interface PartitionTask<T> {
+        T run() throws Throwable;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.remittance.infrastructure.r2dbc;
+
+import com.example.remittance.application.dto.AccountDTO;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+@Profile("reactive")
+@Repository
+public class AccountR2dbcRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<AccountDTO> findById(Long id) {
+        return databaseClient.sql("select id, balance_amount, created_at, updated_at from account where id = :id")
+                .bind("id", id)
+                .map(AccountR2dbcRepository::toAccountDTO)
+                .one();
+    }
+
+    public Flux<Long> insert(int count) {
+        LocalDateTime nowAt = LocalDateTime.now();
+
+        return databaseClient.sql("select next value for account_seq from system_range(1, :count)")
+                .bind("count", count)
+                .map(row -> row.get(0, Long.class))
+                .all()
+                .collectList()
+                .flatMapMany(Flux::fromIterable)
+                .concatMap(id -> databaseClient.sql(
+                                "insert into account (id, balance_amount, version, fencing_token, slot_count, created_at, updated_at) "
+                                + "values (:id, 0, 0, 0, 0, :nowAt, :nowAt)")
+                        .bind("id", id)
+                        .bind("nowAt", nowAt)
+                        .then()
+                        .thenReturn(id));
+    }
+
+    public Mono<Long> deposit(Long id, long amount, LocalDateTime nowAt) {
+        return databaseClient.sql(
+                        "update account "
+                        + "set balance_amount = balance_amount + :amount, version = version + 1, updated_at = :nowAt "
+                        + "where id = :id")
+                .bind("id", id)
+                .bind("amount", amount)
+                .bind("nowAt", nowAt)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> withdrawal(Long id, long amount, LocalDateTime nowAt) {
+        return databaseClient.sql(
+                        "update account "
+                        + "set balance_amount = balance_amount - :amount, version = version + 1, updated_at = :nowAt "
+                        + "where id = :id "
+                        + " and balance_amount >= :amount")
+                .bind("id", id)
+                .bind("amount", amount)
+                .bind("nowAt", nowAt)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteIfEmpty(Long id) {
+        return databaseClient.sql("delete from account where id = :id and balance_amount = 0 and slot_count = 0")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static AccountDTO toAccountDTO(Readable row) {
+        return AccountDTO.of(
+                row.get("id", Long.class),
+                row.get("balance_amount", Long.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class)
+        );
+    }
+}
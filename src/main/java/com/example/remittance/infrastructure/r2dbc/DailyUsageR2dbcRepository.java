@@ -0,0 +1,58 @@
+package com.example.remittance.infrastructure.r2dbc;
+
+import com.example.remittance.domain.model.TransactionType;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+@Profile("reactive")
+@Repository
+public class DailyUsageR2dbcRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Long> findAmount(Long accountId, LocalDate usageDate, TransactionType transactionType) {
+        return databaseClient.sql(
+                        "select amount from daily_usage "
+                        + "where account_id = :accountId "
+                        + " and usage_date = :usageDate "
+                        + " and transaction_type = :transactionType")
+                .bind("accountId", accountId)
+                .bind("usageDate", usageDate)
+                .bind("transactionType", transactionType.name())
+                .map(row -> row.get("amount", Long.class))
+                .one();
+    }
+
+    public Mono<Void> insert(Long accountId, LocalDate usageDate, TransactionType transactionType, long amount) {
+        return databaseClient.sql(
+                        "insert into daily_usage (id, account_id, usage_date, transaction_type, amount, updated_at) "
+                        + "values (next value for daily_usage_seq, :accountId, :usageDate, :transactionType, :amount, :nowAt)")
+                .bind("accountId", accountId)
+                .bind("usageDate", usageDate)
+                .bind("transactionType", transactionType.name())
+                .bind("amount", amount)
+                .bind("nowAt", LocalDateTime.now())
+                .then();
+    }
+
+    public Mono<Void> accumulate(Long accountId, LocalDate usageDate, TransactionType transactionType, long amount) {
+        return databaseClient.sql(
+                        "update daily_usage "
+                        + "set amount = amount + :amount, updated_at = :nowAt "
+                        + "where account_id = :accountId "
+                        + " and usage_date = :usageDate "
+                        + " and transaction_type = :transactionType")
+                .bind("accountId", accountId)
+                .bind("usageDate", usageDate)
+                .bind("transactionType", transactionType.name())
+                .bind("amount", amount)
+                .bind("nowAt", LocalDateTime.now())
+                .then();
+    }
+}
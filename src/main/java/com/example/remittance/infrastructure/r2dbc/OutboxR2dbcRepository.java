@@ -0,0 +1,27 @@
+package com.example.remittance.infrastructure.r2dbc;
+
+import com.example.remittance.domain.model.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+@Profile("reactive")
+@Repository
+public class OutboxR2dbcRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Void> save(OutboxEvent outboxEvent) {
+        return databaseClient.sql(
+                        "insert into outbox_event (id, event_type, aggregate_id, payload, created_at) "
+                        + "values (next value for outbox_event_seq, :eventType, :aggregateId, :payload, :createdAt)")
+                .bind("eventType", outboxEvent.getEventType().name())
+                .bind("aggregateId", outboxEvent.getAggregateId())
+                .bind("payload", outboxEvent.getPayload())
+                .bind("createdAt", outboxEvent.getCreatedAt())
+                .then();
+    }
+}
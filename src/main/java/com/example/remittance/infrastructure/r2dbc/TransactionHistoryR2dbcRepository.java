@@ -0,0 +1,114 @@
+package com.example.remittance.infrastructure.r2dbc;
+
+import com.example.remittance.application.dto.TransactionHistoryDTO;
+import com.example.remittance.domain.model.TransactionType;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+@Profile("reactive")
+@Repository
+public class TransactionHistoryR2dbcRepository {
+
+    private static final String ACCOUNT_HISTORY =
+            "select * "
+            + "from transaction_history as a "
+            + "where withdrawal_id = :accountId "
+            + " and created_at >= :fromAt "
+            + " and (created_at < :cursorAt or (created_at = :cursorAt and id < :cursorId)) "
+            + "union all "
+            + "select * "
+            + "from transaction_history as b "
+            + "where deposit_id = :accountId "
+            + " and (withdrawal_id is null or withdrawal_id <> :accountId) "
+            + " and created_at >= :fromAt "
+            + " and (created_at < :cursorAt or (created_at = :cursorAt and id < :cursorId)) "
+            + "order by created_at desc, id desc";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<TransactionHistoryDTO> save(TransactionType transactionType, Long depositId, Long withdrawalId,
+                                            long amount, long fee, LocalDateTime createdAt) {
+        return databaseClient.sql("select next value for transaction_history_seq")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .flatMap(id -> {
+                    GenericExecuteSpec insert = databaseClient.sql(
+                                    "insert into transaction_history "
+                                    + "(id, transaction_type, deposit_id, withdrawal_id, amount, fee, created_at, updated_at) "
+                                    + "values (:id, :transactionType, :depositId, :withdrawalId, :amount, :fee, :createdAt, :createdAt)")
+                            .bind("id", id)
+                            .bind("transactionType", transactionType.name());
+                    insert = bindNullable(insert, "depositId", depositId);
+                    insert = bindNullable(insert, "withdrawalId", withdrawalId);
+
+                    return insert.bind("amount", amount)
+                            .bind("fee", fee)
+                            .bind("createdAt", createdAt)
+                            .then()
+                            .thenReturn(TransactionHistoryDTO.of(id, transactionType, depositId, withdrawalId, amount, fee, createdAt, createdAt));
+                });
+    }
+
+    public Mono<Long> findSumAmountByWithdrawalIdAndTransactionType(Long withdrawalId, TransactionType transactionType,
+                                                                    LocalDateTime fromAt, LocalDateTime toAt) {
+        return databaseClient.sql(
+                        "select coalesce(sum(a.amount), 0) as amount "
+                        + "from transaction_history as a "
+                        + "where withdrawal_id = :withdrawalId "
+                        + " and transaction_type = :transactionType "
+                        + " and created_at >= :fromAt "
+                        + " and created_at < :toAt")
+                .bind("withdrawalId", withdrawalId)
+                .bind("transactionType", transactionType.name())
+                .bind("fromAt", fromAt)
+                .bind("toAt", toAt)
+                .map(row -> row.get("amount", Long.class))
+                .one();
+    }
+
+    public Flux<TransactionHistoryDTO> findPageByAccountId(Long accountId, LocalDateTime fromAt, LocalDateTime cursorAt, Long cursorId, int limit) {
+        return databaseClient.sql(ACCOUNT_HISTORY + " limit :limit")
+                .bind("accountId", accountId)
+                .bind("fromAt", fromAt)
+                .bind("cursorAt", cursorAt)
+                .bind("cursorId", cursorId)
+                .bind("limit", limit)
+                .map(TransactionHistoryR2dbcRepository::toTransactionHistoryDTO)
+                .all();
+    }
+
+    public Flux<TransactionHistoryDTO> streamByAccountId(Long accountId, LocalDateTime fromAt, LocalDateTime toAt) {
+        return databaseClient.sql(ACCOUNT_HISTORY)
+                .bind("accountId", accountId)
+                .bind("fromAt", fromAt)
+                .bind("cursorAt", toAt)
+                .bind("cursorId", Long.MIN_VALUE)
+                .map(TransactionHistoryR2dbcRepository::toTransactionHistoryDTO)
+                .all();
+    }
+
+    private static GenericExecuteSpec bindNullable(GenericExecuteSpec spec, String name, Long value) {
+        return value == null ? spec.bindNull(name, Long.class) : spec.bind(name, value);
+    }
+
+    private static TransactionHistoryDTO toTransactionHistoryDTO(Readable row) {
+        return TransactionHistoryDTO.of(
+                row.get("id", Long.class),
+                TransactionType.valueOf(row.get("transaction_type", String.class)),
+                row.get("deposit_id", Long.class),
+                row.get("withdrawal_id", Long.class),
+                row.get("amount", Long.class),
+                row.get("fee", Long.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class)
+        );
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.remittance.presentation;
 
 
+import com.example.remittance.infrastructure.export.ExportQueueFullException;
+import com.example.remittance.infrastructure.idempotency.IdempotencyInProgressException;
+import com.example.remittance.infrastructure.idempotency.IdempotencyKeyMismatchException;
+import com.example.remittance.infrastructure.lock.LockQueueFullException;
 import com.example.remittance.presentation.response.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -11,6 +17,36 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    @ExceptionHandler(LockQueueFullException.class)
+    public ResponseEntity<ApiResponse<?>> handleLockQueueFull(LockQueueFullException ex) {
+        log.debug("lock queue full: " + ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.of(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage()));
+    }
+
+    @ExceptionHandler(ExportQueueFullException.class)
+    public ResponseEntity<ApiResponse<?>> handleExportQueueFull(ExportQueueFullException ex) {
+        log.debug("export queue full: " + ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.of(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()));
+    }
+
+    @ExceptionHandler(IdempotencyInProgressException.class)
+    public ResponseEntity<ApiResponse<?>> handleIdempotencyInProgress(IdempotencyInProgressException ex) {
+        log.debug("idempotency key in progress: " + ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.of(HttpStatus.CONFLICT, ex.getMessage()));
+    }
+
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<ApiResponse<?>> handleIdempotencyKeyMismatch(IdempotencyKeyMismatchException ex) {
+        log.debug("idempotency key mismatch: " + ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(ApiResponse.of(HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ApiResponse<?> handleException(Exception ex) {
         log.error("exception occurred: " + ex);
@@ -1,28 +1,53 @@
 package com.example.remittance.presentation.controller;
 
 import com.example.remittance.application.dto.AccountDTO;
-import com.example.remittance.application.dto.TransactionHistoryDTO;
+import com.example.remittance.application.dto.LedgerEntryDTO;
+import com.example.remittance.application.dto.TransactionHistoryPageDTO;
+import com.example.remittance.application.dto.TransferCommand;
+import com.example.remittance.application.dto.TransferResultDTO;
 import com.example.remittance.application.service.AccountService;
+import com.example.remittance.application.service.HotAccountService;
+import com.example.remittance.application.service.LedgerService;
+import com.example.remittance.application.service.TransactionHistoryService;
 
+import com.example.remittance.presentation.annotation.Idempotent;
 import com.example.remittance.presentation.response.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RequiredArgsConstructor
+@Profile("!reactive")
 @RestController
 @RequestMapping("/api/account")
 public class AccountController {
 
     private final AccountService accountService;
+    private final HotAccountService hotAccountService;
+    private final TransactionHistoryService transactionHistoryService;
+    private final LedgerService ledgerService;
+    private final ObjectMapper objectMapper;
 
+    @Idempotent
     @PostMapping
     public ApiResponse<?> createAccount() {
         accountService.createAccount();
@@ -30,6 +55,21 @@ public class AccountController {
         return ApiResponse.of(HttpStatus.OK, "account creation is success");
     }
 
+    @Idempotent
+    @PostMapping("/bulk")
+    public ApiResponse<?> createAccounts(@RequestParam int count) {
+        List<Long> accountIds = accountService.createAccounts(count);
+
+        return ApiResponse.of(HttpStatus.OK, "bulk account creation is success", accountIds);
+    }
+
+    @GetMapping("/{id}")
+    public ApiResponse<?> getAccount(@PathVariable Long id) {
+        AccountDTO accountDTO = accountService.getAccount(id);
+
+        return ApiResponse.of(HttpStatus.OK, "account inquiry is success", accountDTO);
+    }
+
     @DeleteMapping("/{id}")
     public ApiResponse<?> deleteAccount(@PathVariable Long id) {
         accountService.deleteAccount(id);
@@ -37,13 +77,24 @@ public class AccountController {
         return ApiResponse.of(HttpStatus.OK, "account deletion is success");
     }
 
+    @PostMapping("{id}/slots")
+    public ApiResponse<?> enableSlots(@PathVariable Long id, @RequestParam int count) {
+        AccountDTO accountDTO = hotAccountService.enableSlots(id, count);
+
+        return ApiResponse.of(HttpStatus.OK, "hot account slots are enabled", accountDTO);
+    }
+
+    @Idempotent
     @PatchMapping("{id}/deposit/{amount}")
     public ApiResponse<?> deposit(@PathVariable Long id, @PathVariable Long amount) {
-        AccountDTO accountDTO = accountService.deposit(id, amount);
+        AccountDTO accountDTO = hotAccountService.isHot(id)
+                ? hotAccountService.deposit(id, amount).orElseGet(() -> accountService.deposit(id, amount))
+                : accountService.deposit(id, amount);
 
         return ApiResponse.of(HttpStatus.OK, "deposit is success", accountDTO);
     }
 
+    @Idempotent
     @PatchMapping("{id}/withdrawal/{amount}")
     public ApiResponse<?> withdrawal(@PathVariable Long id, @PathVariable Long amount) {
         AccountDTO accountDTO = accountService.withdrawal(id, amount);
@@ -51,6 +102,7 @@ public class AccountController {
         return ApiResponse.of(HttpStatus.OK, "withdrawal is success", accountDTO);
     }
 
+    @Idempotent
     @PatchMapping("{transferId}/transfer/{depositId}/{amount}")
     public ApiResponse<?> transfer(@PathVariable Long transferId, @PathVariable Long depositId, @PathVariable Long amount) {
         List<AccountDTO> accountDTOList = accountService.transfer(transferId, depositId, amount);
@@ -58,11 +110,51 @@ public class AccountController {
         return ApiResponse.of(HttpStatus.OK, "transfer is success", accountDTOList);
     }
 
+    @Idempotent
+    @PostMapping("/transfers")
+    public ApiResponse<?> transferBatch(@RequestBody List<TransferCommand> transfers) {
+        List<TransferResultDTO> transferResultDTOList = accountService.transferBatch(transfers);
+
+        return ApiResponse.of(HttpStatus.OK, "batch transfer is success", transferResultDTOList);
+    }
+
     @GetMapping("{id}/transaction-history")
-    public ApiResponse<?> transactionHistory(@PathVariable Long id) {
-        List<TransactionHistoryDTO> transactionHistoryDTOList = accountService.getTransactionHistory(id);
+    public ApiResponse<?> transactionHistory(@PathVariable Long id,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(defaultValue = "100") int size,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to) {
+        TransactionHistoryPageDTO transactionHistoryPageDTO = transactionHistoryService.getTransactionHistoryPage(id, cursor, size, from, to);
+
+        return ApiResponse.of(HttpStatus.OK, "transaction-history is success", transactionHistoryPageDTO);
+    }
+
+    @GetMapping("{id}/ledger")
+    public ApiResponse<?> ledger(@PathVariable Long id,
+                                 @RequestParam(required = false) Long before,
+                                 @RequestParam(defaultValue = "100") int size) {
+        List<LedgerEntryDTO> ledgerEntryDTOList = ledgerService.getLedger(id, before, size);
+
+        return ApiResponse.of(HttpStatus.OK, "ledger is success", ledgerEntryDTOList);
+    }
 
-        return ApiResponse.of(HttpStatus.OK, "transaction-history is success", transactionHistoryDTOList);
+    @GetMapping(value = "{id}/transaction-history/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTransactionHistory(@PathVariable Long id,
+                                                                          @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+                                                                          @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to) {
+        StreamingResponseBody body = outputStream ->
+                transactionHistoryService.streamTransactionHistory(id, from, to, transactionHistoryDTO -> {
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(transactionHistoryDTO));
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
 }
@@ -0,0 +1,101 @@
+package com.example.remittance.presentation.controller;
+
+import com.example.remittance.application.dto.TransactionHistoryDTO;
+import com.example.remittance.application.dto.TransferCommand;
+import com.example.remittance.application.service.ReactiveAccountService;
+import com.example.remittance.application.service.ReactiveTransactionHistoryService;
+import com.example.remittance.presentation.response.ApiResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+@Profile("reactive")
+@RestController
+@RequestMapping("/api/account")
+public class ReactiveAccountController {
+
+    private final ReactiveAccountService accountService;
+    private final ReactiveTransactionHistoryService transactionHistoryService;
+
+    @PostMapping
+    public Mono<ApiResponse<?>> createAccount() {
+        return accountService.createAccount()
+                .thenReturn(ApiResponse.of(HttpStatus.OK, "account creation is success"));
+    }
+
+    @PostMapping("/bulk")
+    public Mono<ApiResponse<?>> createAccounts(@RequestParam int count) {
+        return accountService.createAccounts(count)
+                .map(accountIds -> ApiResponse.of(HttpStatus.OK, "bulk account creation is success", accountIds));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ApiResponse<?>> getAccount(@PathVariable Long id) {
+        return accountService.getAccount(id)
+                .map(accountDTO -> ApiResponse.of(HttpStatus.OK, "account inquiry is success", accountDTO));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ApiResponse<?>> deleteAccount(@PathVariable Long id) {
+        return accountService.deleteAccount(id)
+                .thenReturn(ApiResponse.of(HttpStatus.OK, "account deletion is success"));
+    }
+
+    @PatchMapping("{id}/deposit/{amount}")
+    public Mono<ApiResponse<?>> deposit(@PathVariable Long id, @PathVariable Long amount) {
+        return accountService.deposit(id, amount)
+                .map(accountDTO -> ApiResponse.of(HttpStatus.OK, "deposit is success", accountDTO));
+    }
+
+    @PatchMapping("{id}/withdrawal/{amount}")
+    public Mono<ApiResponse<?>> withdrawal(@PathVariable Long id, @PathVariable Long amount) {
+        return accountService.withdrawal(id, amount)
+                .map(accountDTO -> ApiResponse.of(HttpStatus.OK, "withdrawal is success", accountDTO));
+    }
+
+    @PatchMapping("{transferId}/transfer/{depositId}/{amount}")
+    public Mono<ApiResponse<?>> transfer(@PathVariable Long transferId, @PathVariable Long depositId, @PathVariable Long amount) {
+        return accountService.transfer(transferId, depositId, amount)
+                .map(accountDTOList -> ApiResponse.of(HttpStatus.OK, "transfer is success", accountDTOList));
+    }
+
+    @PostMapping("/transfers")
+    public Mono<ApiResponse<?>> transferBatch(@RequestBody List<TransferCommand> transfers) {
+        return accountService.transferBatch(transfers)
+                .map(transferResultDTOList -> ApiResponse.of(HttpStatus.OK, "batch transfer is success", transferResultDTOList));
+    }
+
+    @GetMapping("{id}/transaction-history")
+    public Mono<ApiResponse<?>> transactionHistory(@PathVariable Long id,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "100") int size,
+                                                   @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+                                                   @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to) {
+        return transactionHistoryService.getTransactionHistoryPage(id, cursor, size, from, to)
+                .map(transactionHistoryPageDTO -> ApiResponse.of(HttpStatus.OK, "transaction-history is success", transactionHistoryPageDTO));
+    }
+
+    @GetMapping(value = "{id}/transaction-history/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TransactionHistoryDTO> streamTransactionHistory(@PathVariable Long id,
+                                                                @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+                                                                @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to) {
+        return transactionHistoryService.streamTransactionHistory(id, from, to);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.remittance.presentation.controller;
+
+import com.example.remittance.application.dto.StatementExportCommand;
+import com.example.remittance.application.dto.StatementExportJobDTO;
+import com.example.remittance.application.dto.StatementFormat;
+import com.example.remittance.application.service.StatementExportJobService;
+import com.example.remittance.application.service.StatementExportService;
+import com.example.remittance.infrastructure.export.StatementWriter;
+import com.example.remittance.presentation.response.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RequiredArgsConstructor
+@Profile("!reactive")
+@RestController
+@RequestMapping("/api/statements")
+public class StatementController {
+
+    private final StatementExportService statementExportService;
+    private final StatementExportJobService statementExportJobService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(required = false) List<Long> accountIds,
+                                                        @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+                                                        @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to,
+                                                        @RequestParam(defaultValue = "CSV") StatementFormat format) {
+        StatementExportCommand command = new StatementExportCommand(accountIds, from, to, format);
+        statementExportService.verifySynchronous(command);
+
+        StreamingResponseBody body = outputStream -> {
+            WritableByteChannel channel = Channels.newChannel(outputStream);
+            try (StatementWriter writer = StatementWriter.open(command.format(), channel, objectMapper)) {
+                statementExportService.export(command, writer);
+            }
+        };
+
+        return attachment("statement" + command.format().extension(), command.format())
+                .body(body);
+    }
+
+    @PostMapping("/export-jobs")
+    public ResponseEntity<ApiResponse<?>> submitExportJob(@RequestBody StatementExportCommand command) {
+        StatementExportJobDTO statementExportJobDTO = statementExportJobService.submit(command);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.of(HttpStatus.ACCEPTED, "export job is accepted", statementExportJobDTO));
+    }
+
+    @GetMapping("/export-jobs/{jobId}")
+    public ApiResponse<?> getExportJob(@PathVariable String jobId) {
+        StatementExportJobDTO statementExportJobDTO = statementExportJobService.getJob(jobId);
+
+        return ApiResponse.of(HttpStatus.OK, "export job inquiry is success", statementExportJobDTO);
+    }
+
+    @GetMapping("/export-jobs/{jobId}/file")
+    public ResponseEntity<StreamingResponseBody> downloadExportJob(@PathVariable String jobId) {
+        StatementExportJobDTO statementExportJobDTO = statementExportJobService.getJob(jobId);
+        Path file = statementExportJobService.getFile(jobId);
+
+        StreamingResponseBody body = outputStream -> {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(outputStream);
+                long position = 0;
+                long size = channel.size();
+                while (position < size) {
+                    position += channel.transferTo(position, size - position, target);
+                }
+            }
+        };
+
+        return attachment(file.getFileName().toString(), statementExportJobDTO.format())
+                .contentLength(fileSize(file))
+                .body(body);
+    }
+
+    private static ResponseEntity.BodyBuilder attachment(String fileName, StatementFormat format) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString());
+    }
+
+    private static long fileSize(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to read export file: " + file, e);
+        }
+    }
+}
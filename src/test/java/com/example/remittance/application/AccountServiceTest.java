@@ -1,15 +1,24 @@
 package com.example.remittance.application;
 
-import com.example.remittance.application.dto.TransactionHistoryDTO;
+import com.example.remittance.application.dto.AccountDTO;
+import com.example.remittance.application.dto.TransferCommand;
+import com.example.remittance.application.dto.TransferResultDTO;
 import com.example.remittance.application.service.AccountService;
+import com.example.remittance.application.service.DailyUsageService;
+import com.example.remittance.application.service.FeePolicy;
+import com.example.remittance.application.service.FencingService;
+import com.example.remittance.application.service.HotAccountService;
+import com.example.remittance.application.service.LedgerService;
+import com.example.remittance.application.service.OutboxService;
 import com.example.remittance.domain.model.Account;
-import com.example.remittance.domain.model.TransactionHistory;
+import com.example.remittance.domain.model.DailyUsage;
+import com.example.remittance.domain.model.TransactionType;
 import com.example.remittance.domain.repository.AccountRepository;
 import com.example.remittance.domain.repository.TransactionHistoryRepository;
-import java.time.LocalDateTime;
-import java.util.Arrays;
+import com.example.remittance.infrastructure.cache.AccountBalanceCache;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,6 +31,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
@@ -40,6 +52,27 @@ class AccountServiceTest {
     @Mock
     private TransactionHistoryRepository transactionHistoryRepository;
 
+    @Mock
+    private AccountBalanceCache accountBalanceCache;
+
+    @Mock
+    private DailyUsageService dailyUsageService;
+
+    @Mock
+    private HotAccountService hotAccountService;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private FencingService fencingService;
+
+    @Mock
+    private FeePolicy feePolicy;
+
     @Spy
     private Account account;
 
@@ -55,6 +88,27 @@ class AccountServiceTest {
         then(accountRepository).should(times(1)).save(any());
     }
 
+    @Test
+    @DisplayName("계좌를 한 번에 여러 개 생성하고 생성된 ID를 반환한다")
+    void success_create_accounts() {
+        given(accountRepository.saveAll(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        List<Long> accountIds = accountService.createAccounts(3);
+
+        assertThat(accountIds).hasSize(3);
+        then(accountRepository).should(times(1)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("계좌 일괄 생성 개수가 허용 범위를 벗어나면 생성할 수 없다")
+    void fail_create_accounts_when_count_out_of_range() {
+        assertThatThrownBy(() -> accountService.createAccounts(AccountService.MAX_BULK_ACCOUNT_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("bulk account size must be between 1 and " + AccountService.MAX_BULK_ACCOUNT_SIZE);
+
+        then(accountRepository).should(never()).saveAll(any());
+    }
+
     @Test
     @DisplayName("계좌의 잔액이 0원이면 계좌를 삭제 할 수 있다")
     void success_delete_account_when_balance_zero() {
@@ -87,19 +141,44 @@ class AccountServiceTest {
         account.deposit(500L);
         given(accountRepository.findById(any())).willReturn(Optional.of(account));
 
-        accountService.deposit(any(), 1000L);
+        accountService.deposit(1L, 1000L);
 
         assertThat(account.getBalanceAmount()).isEqualTo(1500L);
         then(accountRepository).should(times(1)).findById(any());
         then(transactionHistoryRepository).should(times(1)).save(any());
+        then(outboxService).should(times(1)).append(any());
+
+    }
+
+    @Test
+    @DisplayName("입금하면 커밋 후 계좌 잔액 캐시를 비운다")
+    void evict_balance_cache_after_deposit() {
+        given(accountRepository.findById(1L)).willReturn(Optional.of(account));
+
+        accountService.deposit(1L, 1000L);
+
+        then(accountBalanceCache).should(times(1)).evictAfterCommit(1L);
+    }
+
+    @Test
+    @DisplayName("잔액 조회는 캐시에 없을 때만 계좌를 읽는다")
+    void success_get_account_through_cache() {
+        account.deposit(700L);
+        given(accountRepository.findById(1L)).willReturn(Optional.of(account));
+        given(accountBalanceCache.get(eq(1L), any())).willAnswer(invocation ->
+                invocation.<Function<Long, AccountDTO>>getArgument(1).apply(1L));
 
+        AccountDTO accountDTO = accountService.getAccount(1L);
+
+        assertThat(accountDTO.balanceAmount()).isEqualTo(700L);
+        then(accountRepository).should(times(1)).findById(1L);
     }
 
     @Test
     @DisplayName("계좌가 존재하지 않으면 돈을 입금할 수 없다")
     void fail_deposit() {
 
-        assertThatThrownBy(() -> accountService.deposit(any(), 1000L))
+        assertThatThrownBy(() -> accountService.deposit(1L, 1000L))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("not found account");
 
@@ -111,14 +190,17 @@ class AccountServiceTest {
     @DisplayName("계좌가 존재하고 출금한도에 도달하지 않으면 출금할 수 있다")
     void success_withdrawal() {
         account.deposit(1_000_000L);
+        DailyUsage dailyUsage = dailyUsage(TransactionType.WITHDRAWAL, 500_000L);
         given(accountRepository.findById(any())).willReturn(Optional.of(account));
-        given(transactionHistoryRepository.findSumWidrawalDay(any(), any())).willReturn(500_000L);
+        given(dailyUsageService.getDailyUsage(any(), eq(TransactionType.WITHDRAWAL), any())).willReturn(dailyUsage);
+        given(dailyUsageService.getDailyUsage(any(), eq(TransactionType.TRANSFER), any())).willReturn(dailyUsage(TransactionType.TRANSFER, 0L));
 
-        accountService.withdrawal(any(), 400_000L);
+        accountService.withdrawal(1L, 400_000L);
 
         assertThat(account.getBalanceAmount()).isEqualTo(600_000L);
+        assertThat(dailyUsage.getAmount()).isEqualTo(900_000L);
         then(accountRepository).should(times(1)).findById(any());
-        then(transactionHistoryRepository).should(times(1)).findSumWidrawalDay(any(), any());
+        then(dailyUsageService).should(times(2)).getDailyUsage(any(), any(), any());
         then(transactionHistoryRepository).should(times(1)).save(any());
 
     }
@@ -128,10 +210,11 @@ class AccountServiceTest {
     void fail_withdrawal_exceed_amount() {
         account.deposit(1_000_000L);
         given(accountRepository.findById(any())).willReturn(Optional.of(account));
-        given(transactionHistoryRepository.findSumWidrawalDay(any(), any())).willReturn(500_000L);
+        given(dailyUsageService.getDailyUsage(any(), eq(TransactionType.WITHDRAWAL), any())).willReturn(dailyUsage(TransactionType.WITHDRAWAL, 500_000L));
+        given(dailyUsageService.getDailyUsage(any(), eq(TransactionType.TRANSFER), any())).willReturn(dailyUsage(TransactionType.TRANSFER, 0L));
 
         //when
-        assertThatThrownBy(() -> accountService.withdrawal(any(), 600_000L))
+        assertThatThrownBy(() -> accountService.withdrawal(1L, 600_000L))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("exceed limit withdrawal-amount");
 
@@ -140,12 +223,28 @@ class AccountServiceTest {
         then(transactionHistoryRepository).should(never()).save(any());
     }
 
+    @Test
+    @DisplayName("출금한도는 그날의 이체 금액까지 합해서 계산한다")
+    void fail_withdrawal_exceed_amount_with_transfers() {
+        account.deposit(1_000_000L);
+        given(accountRepository.findById(any())).willReturn(Optional.of(account));
+        given(dailyUsageService.getDailyUsage(any(), eq(TransactionType.WITHDRAWAL), any())).willReturn(dailyUsage(TransactionType.WITHDRAWAL, 300_000L));
+        given(dailyUsageService.getDailyUsage(any(), eq(TransactionType.TRANSFER), any())).willReturn(dailyUsage(TransactionType.TRANSFER, 500_000L));
+
+        assertThatThrownBy(() -> accountService.withdrawal(1L, 300_000L))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("exceed limit withdrawal-amount");
+
+        assertThat(account.getBalanceAmount()).isEqualTo(1_000_000L);
+        then(transactionHistoryRepository).should(never()).save(any());
+    }
+
     @Test
     @DisplayName("계좌가 존재하지 않으면 출금할 수 없다")
     void fail_withdrawal_not_exists_account() {
 
         //when
-        assertThatThrownBy(() -> accountService.withdrawal(any(), 1000L))
+        assertThatThrownBy(() -> accountService.withdrawal(1L, 1000L))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("not found account");
 
@@ -160,16 +259,21 @@ class AccountServiceTest {
 
         given(accountRepository.findById(1L)).willReturn(Optional.of(account));
         given(accountRepository.findById(2L)).willReturn(Optional.of(depositedAccount));
-        given(transactionHistoryRepository.findSumWidrawalDay(any(), any())).willReturn(500_000L);
+        DailyUsage dailyUsage = dailyUsage(TransactionType.TRANSFER, 500_000L);
+        given(dailyUsageService.getDailyUsage(any(), eq(TransactionType.TRANSFER), any())).willReturn(dailyUsage);
+        given(dailyUsageService.getDailyUsage(any(), eq(TransactionType.WITHDRAWAL), any())).willReturn(dailyUsage(TransactionType.WITHDRAWAL, 0L));
+        givenOnePercentFee();
 
         //when
         accountService.transfer(1L, 2L, 100_000L);
 
         assertThat(account.getBalanceAmount()).isEqualTo(899_000L);
         assertThat(depositedAccount.getBalanceAmount()).isEqualTo(100_000L);
+        assertThat(dailyUsage.getAmount()).isEqualTo(600_000L);
 
         then(accountRepository).should(times(2)).findById(any());
-        then(transactionHistoryRepository).should(times(1)).save(any());
+        then(feePolicy).should(times(1)).feeOf(1L, 100_000L);
+        then(transactionHistoryRepository).should(times(1)).save(argThat(history -> history.getFee() == 1_000L));
     }
 
     @Test
@@ -178,7 +282,8 @@ class AccountServiceTest {
         account.deposit(1_000_000L);
         given(accountRepository.findById(1L)).willReturn(Optional.of(account));
         given(accountRepository.findById(2L)).willReturn(Optional.of(depositedAccount));
-        given(transactionHistoryRepository.findSumWidrawalDay(any(), any())).willReturn(2_600_000L);
+        given(dailyUsageService.getDailyUsage(any(), eq(TransactionType.TRANSFER), any())).willReturn(dailyUsage(TransactionType.TRANSFER, 2_000_000L));
+        given(dailyUsageService.getDailyUsage(any(), eq(TransactionType.WITHDRAWAL), any())).willReturn(dailyUsage(TransactionType.WITHDRAWAL, 600_000L));
 
         //when
         assertThatThrownBy(() -> accountService.transfer(1L, 2L, 500_000L))
@@ -217,46 +322,69 @@ class AccountServiceTest {
         then(transactionHistoryRepository).should(never()).save(any());
     }
 
-    @Spy
-    TransactionHistory transactionHistory1;
-
-    @Spy
-    TransactionHistory transactionHistory2;
-
     @Test
-    @DisplayName("계좌의 거래 내역을 조회할 수 있다")
-    void success_get_transaction_history() {
-        given(transactionHistory1.getCreatedAt()).willReturn(LocalDateTime.now().minusDays(1));
-        given(transactionHistory2.getCreatedAt()).willReturn(LocalDateTime.now());
-
-        List<TransactionHistory> transactionHistoryList = Arrays.asList(transactionHistory2, transactionHistory1);
-
-        given(accountRepository.findById(any())).willReturn(Optional.of(account));
-        given(transactionHistoryRepository.findAllByAccountId(any())).willReturn(transactionHistoryList);
-
-        List<TransactionHistoryDTO> result = accountService.getTransactionHistory(any());
-
-        // Then
-        assertThat(result).isNotNull();
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).createdAt()).isAfter(result.get(1).createdAt());
-
-        then(accountRepository).should(times(1)).findById(any());
-        then(transactionHistoryRepository).should(times(1)).findAllByAccountId(any());
+    @DisplayName("여러 건의 이체를 한 번에 처리하고 건별 결과를 반환한다")
+    void success_transfer_batch() {
+        account.deposit(1_000_000L);
+        given(account.getId()).willReturn(1L);
+        given(depositedAccount.getId()).willReturn(2L);
+        given(accountRepository.findAllById(any())).willReturn(List.of(account, depositedAccount));
+        DailyUsage dailyUsage = dailyUsage(TransactionType.TRANSFER, 0L);
+        given(dailyUsageService.getDailyUsage(any(), eq(TransactionType.TRANSFER), any())).willReturn(dailyUsage);
+        given(dailyUsageService.getDailyUsage(any(), eq(TransactionType.WITHDRAWAL), any())).willReturn(dailyUsage(TransactionType.WITHDRAWAL, 0L));
+        givenOnePercentFee();
+
+        List<TransferResultDTO> results = accountService.transferBatch(List.of(
+                new TransferCommand(1L, 2L, 100_000L),
+                new TransferCommand(1L, 2L, 200_000L)
+        ));
+
+        assertThat(results).extracting(TransferResultDTO::success).containsExactly(true, true);
+        assertThat(account.getBalanceAmount()).isEqualTo(697_000L);
+        assertThat(depositedAccount.getBalanceAmount()).isEqualTo(300_000L);
+        assertThat(dailyUsage.getAmount()).isEqualTo(300_000L);
+        then(accountRepository).should(times(1)).findAllById(any());
+        then(dailyUsageService).should(times(1)).getDailyUsage(any(), eq(TransactionType.TRANSFER), any());
+        then(dailyUsageService).should(times(1)).getDailyUsage(any(), eq(TransactionType.WITHDRAWAL), any());
+        then(transactionHistoryRepository).should(times(1)).saveAll(argThat(list -> ((List<?>) list).size() == 2));
     }
 
     @Test
-    @DisplayName("계좌가 존재하지 않으면 거래 내역을 조회할 수 없다")
-    void fail_get_transaction_history_when_account_not_found() {
-
-        given(accountRepository.findById(any())).willReturn(Optional.empty());
+    @DisplayName("일괄 이체 중 실패한 건은 반영하지 않고 나머지 건은 처리한다")
+    void partial_failure_transfer_batch() {
+        account.deposit(1_000_000L);
+        given(account.getId()).willReturn(1L);
+        given(depositedAccount.getId()).willReturn(2L);
+        given(accountRepository.findAllById(any())).willReturn(List.of(account, depositedAccount));
+        given(dailyUsageService.getDailyUsage(any(), eq(TransactionType.TRANSFER), any())).willReturn(dailyUsage(TransactionType.TRANSFER, 0L));
+        given(dailyUsageService.getDailyUsage(any(), eq(TransactionType.WITHDRAWAL), any())).willReturn(dailyUsage(TransactionType.WITHDRAWAL, 0L));
+        givenOnePercentFee();
+
+        List<TransferResultDTO> results = accountService.transferBatch(List.of(
+                new TransferCommand(1L, 3L, 100_000L),
+                new TransferCommand(1L, 2L, 2_000_000L),
+                new TransferCommand(1L, 2L, 100_000L)
+        ));
+
+        assertThat(results).extracting(TransferResultDTO::message).containsExactly(
+                "not found deposit-account",
+                "impossible transfer amount is greater than balance amount",
+                "transfer is success"
+        );
+        assertThat(account.getBalanceAmount()).isEqualTo(899_000L);
+        assertThat(depositedAccount.getBalanceAmount()).isEqualTo(100_000L);
+        then(transactionHistoryRepository).should(times(1)).saveAll(argThat(list -> ((List<?>) list).size() == 1));
+    }
 
-        assertThatThrownBy(() -> accountService.getTransactionHistory(any()))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessage("not found account");
+    private DailyUsage dailyUsage(TransactionType transactionType, long amount) {
+        return DailyUsage.builder()
+                .transactionType(transactionType)
+                .amount(amount)
+                .build();
+    }
 
-        then(accountRepository).should(times(1)).findById(any());
-        then(transactionHistoryRepository).should(never()).findAllByAccountId(any());
+    private void givenOnePercentFee() {
+        given(feePolicy.feeOf(anyLong(), anyLong())).willAnswer(invocation -> invocation.getArgument(1, Long.class) / 100);
     }
 
 }
@@ -0,0 +1,76 @@
+package com.example.remittance.application;
+
+import com.example.remittance.application.service.DailyUsageService;
+import com.example.remittance.domain.model.DailyUsage;
+import com.example.remittance.domain.model.TransactionType;
+import com.example.remittance.domain.repository.DailyUsageRepository;
+import com.example.remittance.domain.repository.TransactionHistoryRepository;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class DailyUsageServiceTest {
+
+    @InjectMocks
+    private DailyUsageService dailyUsageService;
+
+    @Mock
+    private DailyUsageRepository dailyUsageRepository;
+
+    @Mock
+    private TransactionHistoryRepository transactionHistoryRepository;
+
+    private final LocalDate today = LocalDate.of(2023, 10, 2);
+
+    @Test
+    @DisplayName("일일 사용량이 있으면 거래 내역을 다시 집계하지 않는다")
+    void get_existing_daily_usage() {
+        DailyUsage dailyUsage = DailyUsage.builder()
+                .accountId(1L)
+                .usageDate(today)
+                .transactionType(TransactionType.WITHDRAWAL)
+                .amount(300L)
+                .build();
+        given(dailyUsageRepository.findByAccountIdAndUsageDateAndTransactionType(1L, today, TransactionType.WITHDRAWAL))
+                .willReturn(Optional.of(dailyUsage));
+
+        DailyUsage result = dailyUsageService.getDailyUsage(1L, TransactionType.WITHDRAWAL, today);
+
+        assertThat(result.getAmount()).isEqualTo(300L);
+        then(transactionHistoryRepository).should(never())
+                .findSumAmountByWithdrawalIdAndTransactionType(any(), any(), any(), any());
+        then(dailyUsageRepository).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("일일 사용량이 없으면 당일 거래 내역으로 다시 만든다")
+    void rebuild_missing_daily_usage() {
+        given(dailyUsageRepository.findByAccountIdAndUsageDateAndTransactionType(1L, today, TransactionType.TRANSFER))
+                .willReturn(Optional.empty());
+        given(transactionHistoryRepository.findSumAmountByWithdrawalIdAndTransactionType(
+                1L, TransactionType.TRANSFER, today.atStartOfDay(), today.plusDays(1).atStartOfDay()))
+                .willReturn(700L);
+        given(dailyUsageRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        DailyUsage result = dailyUsageService.getDailyUsage(1L, TransactionType.TRANSFER, today);
+
+        assertThat(result.getAccountId()).isEqualTo(1L);
+        assertThat(result.getUsageDate()).isEqualTo(today);
+        assertThat(result.getAmount()).isEqualTo(700L);
+        then(dailyUsageRepository).should(times(1)).save(any());
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.remittance.application;
+
+import com.example.remittance.application.service.FeePolicy;
+import com.example.remittance.domain.model.FeeTier;
+import com.example.remittance.domain.repository.FeeTierRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class FeePolicyTest {
+
+    @Mock
+    private FeeTierRepository feeTierRepository;
+
+    @Test
+    @DisplayName("수수료표를 불러오기 전에는 기본 요율을 적용한다")
+    void default_rate_before_load() {
+        FeePolicy feePolicy = new FeePolicy(feeTierRepository, 100);
+
+        assertThat(feePolicy.feeOf(1L, 100_000L)).isEqualTo(1_000L);
+    }
+
+    @Test
+    @DisplayName("갱신하면 새 수수료표로 한 번에 교체한다")
+    void refresh_swaps_schedules() {
+        FeePolicy feePolicy = new FeePolicy(feeTierRepository, 100);
+        given(feeTierRepository.findAll())
+                .willReturn(List.of(tier(1L, 0L, 30)))
+                .willReturn(List.of(tier(1L, 0L, 20), tier(null, 0L, 80)));
+
+        feePolicy.load();
+        assertThat(feePolicy.feeOf(1L, 100_000L)).isEqualTo(300L);
+        assertThat(feePolicy.feeOf(2L, 100_000L)).isEqualTo(1_000L);
+
+        feePolicy.refresh();
+        assertThat(feePolicy.feeOf(1L, 100_000L)).isEqualTo(200L);
+        assertThat(feePolicy.feeOf(2L, 100_000L)).isEqualTo(800L);
+    }
+
+    @Test
+    @DisplayName("갱신에 실패하면 이전 수수료표를 유지한다")
+    void keep_schedules_when_refresh_fails() {
+        FeePolicy feePolicy = new FeePolicy(feeTierRepository, 100);
+        given(feeTierRepository.findAll())
+                .willReturn(List.of(tier(1L, 0L, 30)))
+                .willReturn(List.of(tier(1L, 0L, 20_000)));
+
+        feePolicy.load();
+        feePolicy.refresh();
+
+        assertThat(feePolicy.feeOf(1L, 100_000L)).isEqualTo(300L);
+    }
+
+    private FeeTier tier(Long accountId, long minAmount, int basisPoints) {
+        return FeeTier.builder()
+                .accountId(accountId)
+                .minAmount(minAmount)
+                .basisPoints(basisPoints)
+                .build();
+    }
+}
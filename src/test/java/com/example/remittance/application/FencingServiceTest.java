@@ -0,0 +1,75 @@
+package com.example.remittance.application;
+
+import com.example.remittance.application.service.FencingService;
+import com.example.remittance.domain.repository.AccountRepository;
+import com.example.remittance.infrastructure.lock.FencingTokens;
+import com.example.remittance.infrastructure.lock.StaleFencingTokenException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class FencingServiceTest {
+
+    @InjectMocks
+    private FencingService fencingService;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private Map<String, Long> previousTokens;
+
+    @AfterEach
+    void tearDown() {
+        FencingTokens.restore(previousTokens);
+    }
+
+    @Test
+    @DisplayName("락의 펜싱 토큰을 계좌 id 순서대로 기록한다")
+    void fence_in_account_order() {
+        previousTokens = FencingTokens.bind(Map.of("1", 11L, "2", 12L));
+        given(accountRepository.fence(2L, 12L)).willReturn(1);
+        given(accountRepository.fence(1L, 11L)).willReturn(1);
+
+        fencingService.fence(List.of(2L, 1L));
+
+        InOrder inOrder = inOrder(accountRepository);
+        inOrder.verify(accountRepository).fence(1L, 11L);
+        inOrder.verify(accountRepository).fence(2L, 12L);
+    }
+
+    @Test
+    @DisplayName("더 새로운 토큰이 이미 기록된 계좌는 쓰기를 거부한다")
+    void reject_stale_token() {
+        previousTokens = FencingTokens.bind(Map.of("1", 11L));
+        given(accountRepository.fence(1L, 11L)).willReturn(0);
+        given(accountRepository.existsById(1L)).willReturn(true);
+
+        assertThatThrownBy(() -> fencingService.fence(List.of(1L)))
+                .isInstanceOf(StaleFencingTokenException.class)
+                .hasMessage("stale fencing token: account=1 token=11");
+    }
+
+    @Test
+    @DisplayName("토큰을 발급하지 않는 락이면 펜싱하지 않는다")
+    void skip_without_token() {
+        fencingService.fence(List.of(1L));
+
+        then(accountRepository).should(never()).fence(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.remittance.application;
+
+import com.example.remittance.application.dto.TransactionHistoryDTO;
+import com.example.remittance.application.service.HistoryArchiveService;
+import com.example.remittance.domain.model.HistoryPartition;
+import com.example.remittance.domain.model.HistoryPartitionUnit;
+import com.example.remittance.domain.model.TransactionType;
+import com.example.remittance.domain.repository.HistoryPartitionRepository;
+import com.example.remittance.domain.repository.TransactionHistoryRepository;
+import com.example.remittance.infrastructure.archive.HistoryArchiveStore;
+import com.example.remittance.infrastructure.export.TransactionHistoryCursorReader;
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class HistoryArchiveServiceTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2024, 1, 1);
+    private static final LocalDate FEBRUARY = LocalDate.of(2024, 2, 1);
+
+    @InjectMocks
+    private HistoryArchiveService historyArchiveService;
+
+    @Mock
+    private HistoryPartitionRepository historyPartitionRepository;
+
+    @Mock
+    private TransactionHistoryRepository transactionHistoryRepository;
+
+    @Mock
+    private HistoryArchiveStore historyArchiveStore;
+
+    @Mock
+    private TransactionHistoryCursorReader transactionHistoryCursorReader;
+
+    @Test
+    @DisplayName("가장 오래된 닫힌 구간을 계좌별로 읽어 보관하고 목록에 기록한다")
+    void archive_oldest_closed_partition() {
+        TransactionHistoryDTO transfer = TransactionHistoryDTO.of(1L, TransactionType.TRANSFER, 2L, 1L, 1_000L, 0L,
+                JANUARY.atTime(10, 0), JANUARY.atTime(10, 0));
+        HistoryArchiveStore.PartitionWriter writer = mock(HistoryArchiveStore.PartitionWriter.class);
+        given(historyPartitionRepository.findArchivedUntil()).willReturn(Optional.empty());
+        given(transactionHistoryRepository.findFirstCreatedAtFrom(any())).willReturn(Optional.of(transfer.createdAt()));
+        given(historyArchiveStore.openPartition(JANUARY)).willReturn(writer);
+        willAnswer(invocation -> {
+            BiConsumer<Long, TransactionHistoryDTO> consumer = invocation.getArgument(2);
+            consumer.accept(1L, transfer);
+            consumer.accept(2L, transfer);
+            return null;
+        }).given(transactionHistoryCursorReader).forEachByAccount(eq(JANUARY.atStartOfDay()), eq(FEBRUARY.atStartOfDay()), any());
+        given(writer.commit()).willReturn(new HistoryArchiveStore.WriteResult(1, 1L));
+        given(historyPartitionRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        Optional<HistoryPartition> partition = historyArchiveService.archiveNext(HistoryPartitionUnit.MONTHLY, FEBRUARY);
+
+        assertThat(partition).hasValueSatisfying(archived -> {
+            assertThat(archived.getStartDate()).isEqualTo(JANUARY);
+            assertThat(archived.getEndDate()).isEqualTo(FEBRUARY);
+            assertThat(archived.getRowCount()).isEqualTo(1L);
+            assertThat(archived.getSegmentCount()).isEqualTo(1);
+        });
+        then(writer).should().write(1L, transfer);
+        then(writer).should().write(2L, transfer);
+        then(writer).should().close();
+    }
+
+    @Test
+    @DisplayName("보관 기준일이 지나지 않은 구간은 보관하지 않는다")
+    void skip_open_partition() {
+        given(historyPartitionRepository.findArchivedUntil()).willReturn(Optional.of(JANUARY));
+        given(transactionHistoryRepository.findFirstCreatedAtFrom(JANUARY.atStartOfDay()))
+                .willReturn(Optional.of(LocalDateTime.of(2024, 1, 20, 10, 0)));
+
+        Optional<HistoryPartition> partition = historyArchiveService.archiveNext(HistoryPartitionUnit.MONTHLY, JANUARY);
+
+        assertThat(partition).isEmpty();
+        then(historyArchiveStore).should(never()).openPartition(any());
+    }
+
+    @Test
+    @DisplayName("보관된 구간을 최신 순으로 읽어 페이지가 차면 더 읽지 않는다")
+    void find_page_across_partitions() {
+        HistoryPartition january = partition(JANUARY, FEBRUARY);
+        HistoryPartition february = partition(FEBRUARY, FEBRUARY.plusMonths(1));
+        given(historyPartitionRepository.findAllOverlapping(any(), any())).willReturn(List.of(february, january));
+        List<Long> decoded = new ArrayList<>();
+        givenArchived(FEBRUARY, decoded, row(3L, FEBRUARY.atTime(12, 0)));
+        givenArchived(JANUARY, decoded, row(2L, JANUARY.atTime(12, 0)), row(1L, JANUARY.atTime(9, 0)));
+
+        List<TransactionHistoryDTO> page = historyArchiveService.findPage(1L, LocalDateTime.of(2023, 1, 1, 0, 0), FEBRUARY.plusMonths(1).atStartOfDay(), Long.MAX_VALUE, 2);
+
+        assertThat(page).extracting(TransactionHistoryDTO::id).containsExactly(3L, 2L);
+        assertThat(decoded).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("조회 시작 일시보다 오래된 보관 거래내역을 만나면 읽기를 멈춘다")
+    void stream_stops_before_from_at() {
+        HistoryPartition january = partition(JANUARY, FEBRUARY);
+        given(historyPartitionRepository.findAllOverlapping(any(), any())).willReturn(List.of(january));
+        List<Long> decoded = new ArrayList<>();
+        givenArchived(JANUARY, decoded, row(3L, JANUARY.atTime(12, 0)), row(2L, JANUARY.atTime(9, 0)), row(1L, JANUARY.atTime(8, 0)));
+
+        List<TransactionHistoryDTO> rows = new ArrayList<>();
+        historyArchiveService.stream(1L, JANUARY.atTime(9, 0), FEBRUARY.atStartOfDay(), rows::add);
+
+        assertThat(rows).extracting(TransactionHistoryDTO::id).containsExactly(3L, 2L);
+        assertThat(decoded).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("보관 후 유예 시간이 지난 구간만 핫 테이블에서 삭제한다")
+    void purge_archived_partitions() {
+        HistoryPartition january = partition(JANUARY, FEBRUARY);
+        LocalDateTime archivedBefore = LocalDateTime.now();
+        given(historyPartitionRepository.findPurgeCandidates(archivedBefore)).willReturn(List.of(january));
+
+        int purged = historyArchiveService.purge(archivedBefore);
+
+        assertThat(purged).isEqualTo(1);
+        assertThat(january.isPurged()).isTrue();
+        then(historyArchiveStore).should().verify(JANUARY);
+        then(transactionHistoryRepository).should().deleteAllBetween(JANUARY.atStartOfDay(), FEBRUARY.atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("보관 파일을 읽을 수 없으면 핫 테이블의 거래내역을 삭제하지 않는다")
+    void keep_hot_rows_when_archive_missing() {
+        HistoryPartition january = partition(JANUARY, FEBRUARY);
+        LocalDateTime archivedBefore = LocalDateTime.now();
+        given(historyPartitionRepository.findPurgeCandidates(archivedBefore)).willReturn(List.of(january));
+        willThrow(new UncheckedIOException("archived history partition is missing", new NoSuchFileException("segments")))
+                .given(historyArchiveStore).verify(JANUARY);
+
+        assertThatThrownBy(() -> historyArchiveService.purge(archivedBefore))
+                .isInstanceOf(UncheckedIOException.class);
+
+        assertThat(january.isPurged()).isFalse();
+        then(transactionHistoryRepository).should(never()).deleteAllBetween(any(), any());
+    }
+
+    private HistoryPartition partition(LocalDate startDate, LocalDate endDate) {
+        return HistoryPartition.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+
+    private void givenArchived(LocalDate partition, List<Long> decoded, TransactionHistoryDTO... rows) {
+        willAnswer(invocation -> {
+            Predicate<TransactionHistoryDTO> consumer = invocation.getArgument(2);
+            for (TransactionHistoryDTO row : rows) {
+                decoded.add(row.id());
+                if (!consumer.test(row)) {
+                    break;
+                }
+            }
+            return null;
+        }).given(historyArchiveStore).readAccount(eq(partition), anyLong(), any());
+    }
+
+    private TransactionHistoryDTO row(Long id, LocalDateTime createdAt) {
+        return TransactionHistoryDTO.of(id, TransactionType.DEPOSIT, 1L, null, 100L, 0L, createdAt, createdAt);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.remittance.application;
+
+import com.example.remittance.application.service.AccountService;
+import com.example.remittance.application.service.HotAccountService;
+import com.example.remittance.domain.repository.AccountRepository;
+import com.example.remittance.domain.repository.AccountSlotRepository;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestConstructor;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@ActiveProfiles("single")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class HotAccountDepositBenchmark {
+
+    private static final int THREAD_COUNT = 32;
+    private static final int ITERATIONS_PER_THREAD = 300;
+    private static final int[] SLOT_COUNTS = {0, 1, 4, 16, 64};
+    private static final long AMOUNT = 100L;
+
+    private final AccountService accountService;
+    private final HotAccountService hotAccountService;
+    private final AccountRepository accountRepository;
+    private final AccountSlotRepository accountSlotRepository;
+
+    HotAccountDepositBenchmark(AccountService accountService, HotAccountService hotAccountService,
+                               AccountRepository accountRepository, AccountSlotRepository accountSlotRepository) {
+        this.accountService = accountService;
+        this.hotAccountService = hotAccountService;
+        this.accountRepository = accountRepository;
+        this.accountSlotRepository = accountSlotRepository;
+    }
+
+    @Test
+    @DisplayName("핫 계좌의 슬롯 수를 늘리면 한 계좌에 대한 입금 처리량이 늘어난다")
+    void depositThroughputBySlotCount() throws InterruptedException {
+        for (int slotCount : SLOT_COUNTS) {
+            Long id = accountService.createAccounts(1).get(0);
+            if (slotCount > 0) {
+                hotAccountService.enableSlots(id, slotCount);
+            }
+
+            run(id, slotCount);
+        }
+    }
+
+    private void run(Long id, int slotCount) throws InterruptedException {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        try (ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT)) {
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                executorService.submit(() -> {
+                    try {
+                        startLatch.await();
+                        for (int j = 0; j < ITERATIONS_PER_THREAD; j++) {
+                            try {
+                                hotAccountService.deposit(id, AMOUNT)
+                                        .orElseGet(() -> accountService.deposit(id, AMOUNT));
+                                successCount.incrementAndGet();
+                            } catch (RuntimeException e) {
+                                failures.incrementAndGet();
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        endLatch.countDown();
+                    }
+                });
+            }
+
+            long start = System.nanoTime();
+            startLatch.countDown();
+            endLatch.await();
+            long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+            System.out.printf("slots=%d throughput=%.0f deposits/s failures=%d%n",
+                    slotCount, successCount.get() * 1_000.0 / elapsedMillis, failures.get());
+        }
+
+        long balanceAmount = accountRepository.findById(id).orElseThrow().getBalanceAmount()
+                + accountSlotRepository.sumBalanceAmountByAccountId(id);
+        assertThat(balanceAmount).isEqualTo(successCount.get() * AMOUNT);
+    }
+}
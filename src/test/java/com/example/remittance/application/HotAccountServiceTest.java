@@ -0,0 +1,168 @@
+package com.example.remittance.application;
+
+import com.example.remittance.application.service.FencingService;
+import com.example.remittance.application.service.HotAccountService;
+import com.example.remittance.application.service.LedgerService;
+import com.example.remittance.application.service.OutboxService;
+import com.example.remittance.domain.model.Account;
+import com.example.remittance.domain.model.AccountSlot;
+import com.example.remittance.domain.repository.AccountRepository;
+import com.example.remittance.domain.repository.AccountSlotRepository;
+import com.example.remittance.domain.repository.TransactionHistoryRepository;
+import com.example.remittance.infrastructure.cache.AccountBalanceCache;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class HotAccountServiceTest {
+
+    @InjectMocks
+    private HotAccountService hotAccountService;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountSlotRepository accountSlotRepository;
+
+    @Mock
+    private TransactionHistoryRepository transactionHistoryRepository;
+
+    @Mock
+    private AccountBalanceCache accountBalanceCache;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private FencingService fencingService;
+
+    @Spy
+    private Account account;
+
+    @Test
+    @DisplayName("슬롯을 활성화하면 슬롯 수만큼 슬롯 행을 만든다")
+    void success_enable_slots() {
+        given(accountRepository.findById(1L)).willReturn(Optional.of(account));
+
+        hotAccountService.enableSlots(1L, 4);
+
+        assertThat(account.isHot()).isTrue();
+        then(accountSlotRepository).should(times(1)).saveAll(argThat(list -> ((List<?>) list).size() == 4));
+    }
+
+    @Test
+    @DisplayName("슬롯 수가 허용 범위를 벗어나면 활성화할 수 없다")
+    void fail_enable_slots_out_of_range() {
+        assertThatThrownBy(() -> hotAccountService.enableSlots(1L, HotAccountService.MAX_SLOT_COUNT + 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("slot count must be between 1 and " + HotAccountService.MAX_SLOT_COUNT);
+    }
+
+    @Test
+    @DisplayName("슬롯이 없는 계좌는 슬롯 입금을 하지 않는다")
+    void skip_deposit_when_not_hot() {
+        given(accountSlotRepository.deposit(eq(1L), anyInt(), eq(1000L))).willReturn(0);
+
+        assertThat(hotAccountService.deposit(1L, 1000L)).isEmpty();
+        then(transactionHistoryRepository).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("기본 잔액이 충분하면 슬롯을 건드리지 않는다")
+    void reserve_from_base_balance() {
+        account.deposit(1000L);
+
+        hotAccountService.reserve(account, 500L);
+
+        assertThat(account.getBalanceAmount()).isEqualTo(1000L);
+        then(accountSlotRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("부족한 금액을 가진 슬롯 하나에서 기본 잔액으로 옮긴다")
+    void reserve_from_single_slot() {
+        given(account.getId()).willReturn(1L);
+        account.deposit(200L);
+        given(accountSlotRepository.findSlotWithBalance(1L, 300L)).willReturn(Optional.of(2));
+        given(accountSlotRepository.withdrawal(1L, 2, 300L)).willReturn(1);
+
+        hotAccountService.reserve(account, 500L);
+
+        assertThat(account.getBalanceAmount()).isEqualTo(500L);
+        then(accountSlotRepository).should(never()).findAllForUpdateByAccountId(any());
+    }
+
+    @Test
+    @DisplayName("부족한 금액을 가진 슬롯이 없으면 모든 슬롯을 기본 잔액으로 합친다")
+    void reserve_by_consolidating_slots() {
+        given(account.getId()).willReturn(1L);
+        given(accountSlotRepository.findSlotWithBalance(1L, 500L)).willReturn(Optional.empty());
+        given(accountSlotRepository.findAllForUpdateByAccountId(1L)).willReturn(List.of(
+                slot(0, 200L), slot(1, 300L)
+        ));
+
+        hotAccountService.reserve(account, 500L);
+
+        assertThat(account.getBalanceAmount()).isEqualTo(500L);
+        then(accountSlotRepository).should(never()).withdrawal(any(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("핫 계좌 여부는 잠시 캐시해 입금마다 조회하지 않는다")
+    void cache_hot_flag() {
+        given(accountRepository.findSlotCountById(1L)).willReturn(Optional.of(4));
+        given(accountRepository.findSlotCountById(2L)).willReturn(Optional.of(0));
+
+        assertThat(hotAccountService.isHot(1L)).isTrue();
+        assertThat(hotAccountService.isHot(1L)).isTrue();
+        assertThat(hotAccountService.isHot(2L)).isFalse();
+
+        then(accountRepository).should(times(1)).findSlotCountById(1L);
+    }
+
+    @Test
+    @DisplayName("슬롯 잔액은 슬롯 행을 잠근 뒤 합산한다")
+    void lock_slot_balance_amount() {
+        given(accountSlotRepository.findAllForUpdateByAccountId(1L)).willReturn(List.of(
+                slot(0, 200L), slot(1, 300L)
+        ));
+
+        assertThat(hotAccountService.lockSlotBalanceAmount(1L)).isEqualTo(500L);
+        then(accountSlotRepository).should(never()).sumBalanceAmountByAccountId(any());
+    }
+
+    private AccountSlot slot(int slot, long balanceAmount) {
+        AccountSlot accountSlot = AccountSlot.builder()
+                .accountId(1L)
+                .slot(slot)
+                .slots(2)
+                .build();
+        ReflectionTestUtils.setField(accountSlot, "balanceAmount", balanceAmount);
+        return accountSlot;
+    }
+}
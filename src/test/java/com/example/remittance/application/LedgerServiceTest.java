@@ -0,0 +1,189 @@
+package com.example.remittance.application;
+
+import com.example.remittance.application.service.LedgerService;
+import com.example.remittance.domain.model.BalanceSnapshot;
+import com.example.remittance.domain.model.LedgerEntry;
+import com.example.remittance.domain.model.LedgerEntryType;
+import com.example.remittance.domain.repository.BalanceSnapshotRepository;
+import com.example.remittance.domain.repository.LedgerEntryRepository;
+import com.example.remittance.infrastructure.aop.ConcurrencyModeResolver;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerServiceTest {
+
+    @Mock
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Mock
+    private BalanceSnapshotRepository balanceSnapshotRepository;
+
+    private LedgerService ledgerService() {
+        return new LedgerService(ledgerEntryRepository, balanceSnapshotRepository, true, new ConcurrencyModeResolver(new MockEnvironment(), "lock"));
+    }
+
+    private void givenSavedWithIds(long firstId) {
+        AtomicLong ids = new AtomicLong(firstId);
+        given(ledgerEntryRepository.save(any())).willAnswer(invocation -> {
+            LedgerEntry ledgerEntry = invocation.getArgument(0);
+            ReflectionTestUtils.setField(ledgerEntry, "id", ids.getAndIncrement());
+            return ledgerEntry;
+        });
+    }
+
+    private static long sumSigned(List<LedgerEntry> entries) {
+        return entries.stream().mapToLong(LedgerEntry::signedAmount).sum();
+    }
+
+    @Test
+    @DisplayName("잔액은 최근 스냅샷과 이후 원장 항목의 합이다")
+    void balance_from_snapshot_and_entries() {
+        BalanceSnapshot snapshot = new BalanceSnapshot(1L);
+        snapshot.advance(10_000L, 7L);
+        given(balanceSnapshotRepository.findById(1L)).willReturn(Optional.of(snapshot));
+        given(ledgerEntryRepository.sumSignedAmountAfter(1L, 7L)).willReturn(-3_000L);
+
+        assertThat(ledgerService().balanceOf(1L)).isEqualTo(7_000L);
+    }
+
+    @Test
+    @DisplayName("입금은 계좌의 대변과 결제 계정의 차변을 한 쌍으로 남긴다")
+    void deposit_posts_balanced_pair() {
+        given(ledgerEntryRepository.findLastAccountSeq(1L)).willReturn(3L);
+        givenSavedWithIds(100L);
+
+        ledgerService().deposit(1L, 10_000L);
+
+        ArgumentCaptor<LedgerEntry> captor = ArgumentCaptor.forClass(LedgerEntry.class);
+        then(ledgerEntryRepository).should(times(2)).save(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(LedgerEntry::getAccountId, LedgerEntry::getAccountSeq, LedgerEntry::getEntryType, LedgerEntry::getCounterpartyId)
+                .containsExactly(
+                        tuple(1L, 4L, LedgerEntryType.CREDIT, LedgerService.CLEARING_ACCOUNT_ID),
+                        tuple(LedgerService.CLEARING_ACCOUNT_ID, 100L, LedgerEntryType.DEBIT, 1L)
+                );
+        assertThat(sumSigned(captor.getAllValues())).isZero();
+    }
+
+    @Test
+    @DisplayName("출금은 계좌의 차변과 결제 계정의 대변을 한 쌍으로 남긴다")
+    void withdrawal_posts_balanced_pair() {
+        given(balanceSnapshotRepository.findById(1L)).willReturn(Optional.empty());
+        given(ledgerEntryRepository.sumSignedAmountAfter(1L, 0L)).willReturn(100_000L);
+        given(ledgerEntryRepository.findLastAccountSeq(1L)).willReturn(3L);
+        givenSavedWithIds(100L);
+
+        ledgerService().withdrawal(1L, 10_000L);
+
+        ArgumentCaptor<LedgerEntry> captor = ArgumentCaptor.forClass(LedgerEntry.class);
+        then(ledgerEntryRepository).should(times(2)).save(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(LedgerEntry::getAccountId, LedgerEntry::getAccountSeq, LedgerEntry::getEntryType)
+                .containsExactly(
+                        tuple(1L, 4L, LedgerEntryType.DEBIT),
+                        tuple(LedgerService.CLEARING_ACCOUNT_ID, 100L, LedgerEntryType.CREDIT)
+                );
+        assertThat(sumSigned(captor.getAllValues())).isZero();
+    }
+
+    @Test
+    @DisplayName("이체는 출금 계좌의 차변과 수수료, 수수료 수익 계정의 대변, 입금 계좌의 대변을 순서대로 남긴다")
+    void transfer_appends_debit_fee_credit() {
+        given(balanceSnapshotRepository.findById(1L)).willReturn(Optional.empty());
+        given(ledgerEntryRepository.sumSignedAmountAfter(1L, 0L)).willReturn(100_000L);
+        given(ledgerEntryRepository.findLastAccountSeq(1L)).willReturn(3L);
+        given(ledgerEntryRepository.findLastAccountSeq(2L)).willReturn(0L);
+        givenSavedWithIds(100L);
+
+        ledgerService().transfer(1L, 2L, 10_000L, 100L);
+
+        ArgumentCaptor<LedgerEntry> captor = ArgumentCaptor.forClass(LedgerEntry.class);
+        then(ledgerEntryRepository).should(times(4)).save(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(LedgerEntry::getAccountId, LedgerEntry::getAccountSeq, LedgerEntry::getEntryType, LedgerEntry::getAmount)
+                .containsExactly(
+                        tuple(1L, 4L, LedgerEntryType.DEBIT, 10_000L),
+                        tuple(1L, 5L, LedgerEntryType.FEE, 100L),
+                        tuple(LedgerService.FEE_REVENUE_ACCOUNT_ID, 101L, LedgerEntryType.CREDIT, 100L),
+                        tuple(2L, 1L, LedgerEntryType.CREDIT, 10_000L)
+                );
+        assertThat(sumSigned(captor.getAllValues())).isZero();
+    }
+
+    @Test
+    @DisplayName("원장 잔액이 이체 금액과 수수료보다 적으면 이체할 수 없다")
+    void fail_transfer_when_balance_not_enough() {
+        given(balanceSnapshotRepository.findById(1L)).willReturn(Optional.empty());
+        given(ledgerEntryRepository.sumSignedAmountAfter(1L, 0L)).willReturn(10_000L);
+
+        assertThatThrownBy(() -> ledgerService().transfer(1L, 2L, 10_000L, 100L))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("impossible transfer amount is greater than balance amount");
+
+        then(ledgerEntryRepository).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("스냅샷은 마지막 원장 항목까지의 잔액으로 앞당겨진다")
+    void snapshot_advances_to_last_entry() {
+        given(balanceSnapshotRepository.findById(1L)).willReturn(Optional.empty());
+        given(ledgerEntryRepository.findLastAccountSeq(1L)).willReturn(12L);
+        given(ledgerEntryRepository.sumSignedAmountAfter(1L, 0L)).willReturn(5_000L);
+
+        ledgerService().snapshot(1L);
+
+        ArgumentCaptor<BalanceSnapshot> captor = ArgumentCaptor.forClass(BalanceSnapshot.class);
+        then(balanceSnapshotRepository).should(times(1)).save(captor.capture());
+        assertThat(captor.getValue().getBalanceAmount()).isEqualTo(5_000L);
+        assertThat(captor.getValue().getLastAccountSeq()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("원장 모드는 낙관적 동시성 모드와 함께 쓸 수 없다")
+    void fail_ledger_with_optimistic_mode() {
+        assertThatThrownBy(() -> new LedgerService(ledgerEntryRepository, balanceSnapshotRepository, true,
+                new ConcurrencyModeResolver(new MockEnvironment(), "optimistic")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("ledger mode requires lock concurrency mode");
+    }
+
+    @Test
+    @DisplayName("원장 모드는 연산별로 낙관적 동시성 모드를 지정한 설정과도 함께 쓸 수 없다")
+    void fail_ledger_with_optimistic_operation() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("remittance.concurrency.operations.AccountService#deposit", "optimistic");
+
+        assertThatThrownBy(() -> new LedgerService(ledgerEntryRepository, balanceSnapshotRepository, true,
+                new ConcurrencyModeResolver(environment, "lock")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("ledger mode requires lock concurrency mode: AccountService#deposit");
+    }
+
+    @Test
+    @DisplayName("원장 항목은 최신 순으로 조회된다")
+    void get_ledger_page() {
+        given(ledgerEntryRepository.findPageByAccountId(1L, Long.MAX_VALUE, 10)).willReturn(List.of());
+
+        assertThat(ledgerService().getLedger(1L, null, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.remittance.application;
+
+import com.example.remittance.application.dto.StatementExportCommand;
+import com.example.remittance.application.dto.StatementFormat;
+import com.example.remittance.application.service.StatementExportJobService;
+import com.example.remittance.application.service.StatementExportService;
+import com.example.remittance.infrastructure.export.ExportQueueFullException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class StatementExportJobServiceTest {
+
+    private static final StatementExportCommand COMMAND = new StatementExportCommand(
+            List.of(), LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 6, 1, 0, 0), StatementFormat.CSV);
+
+    @Mock
+    private StatementExportService statementExportService;
+
+    @TempDir
+    private Path directory;
+
+    private StatementExportJobService statementExportJobService;
+
+    @AfterEach
+    void tearDown() {
+        statementExportJobService.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 다시 시도할 시간과 함께 작업 등록을 거절한다")
+    void reject_when_queue_full() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(statementExportService).export(any(), any());
+        statementExportJobService = new StatementExportJobService(statementExportService, new ObjectMapper(), directory.toString(), 1, 1, 60, 30);
+
+        statementExportJobService.submit(COMMAND);
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        statementExportJobService.submit(COMMAND);
+
+        try {
+            assertThatThrownBy(() -> statementExportJobService.submit(COMMAND))
+                    .isInstanceOf(ExportQueueFullException.class)
+                    .hasMessage("too many export jobs in progress")
+                    .extracting(e -> ((ExportQueueFullException) e).getRetryAfterSeconds())
+                    .isEqualTo(30L);
+        } finally {
+            release.countDown();
+        }
+    }
+}
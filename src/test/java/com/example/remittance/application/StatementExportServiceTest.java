@@ -0,0 +1,164 @@
+package com.example.remittance.application;
+
+import com.example.remittance.application.dto.StatementExportCommand;
+import com.example.remittance.application.dto.StatementFormat;
+import com.example.remittance.application.dto.TransactionHistoryDTO;
+import com.example.remittance.application.service.HistoryArchiveService;
+import com.example.remittance.application.service.StatementExportService;
+import com.example.remittance.domain.model.HistoryPartition;
+import com.example.remittance.domain.model.TransactionType;
+import com.example.remittance.domain.repository.HistoryPartitionRepository;
+import com.example.remittance.domain.repository.TransactionHistoryRepository;
+import com.example.remittance.infrastructure.archive.HistoryArchiveStore;
+import com.example.remittance.infrastructure.export.StatementWriter;
+import com.example.remittance.infrastructure.export.TransactionHistoryCursorReader;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class StatementExportServiceTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2024, 1, 1);
+    private static final LocalDateTime ARCHIVED_UNTIL = LocalDateTime.of(2024, 2, 1, 0, 0);
+
+    private StatementExportService statementExportService;
+
+    @Mock
+    private TransactionHistoryCursorReader transactionHistoryCursorReader;
+
+    @Mock
+    private HistoryArchiveService historyArchiveService;
+
+    @Mock
+    private StatementWriter statementWriter;
+
+    @BeforeEach
+    void setUp() {
+        statementExportService = new StatementExportService(transactionHistoryCursorReader, historyArchiveService, 10, 31);
+    }
+
+    @Test
+    @DisplayName("보관 구간을 먼저 내보내고 그 이후를 핫 테이블에서 이어서 내보낸다")
+    void export_archive_then_hot_table() {
+        LocalDateTime from = LocalDateTime.of(2024, 1, 15, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 2, 15, 0, 0);
+        given(historyArchiveService.archivedUntil()).willReturn(ARCHIVED_UNTIL);
+
+        statementExportService.export(new StatementExportCommand(List.of(7L), from, to, StatementFormat.CSV), statementWriter);
+
+        InOrder inOrder = inOrder(historyArchiveService, transactionHistoryCursorReader);
+        inOrder.verify(historyArchiveService).forEachArchived(eq(Set.of(7L)), eq(from), eq(ARCHIVED_UNTIL), any());
+        inOrder.verify(transactionHistoryCursorReader).forEach(eq(Set.of(7L)), eq(ARCHIVED_UNTIL), eq(to), any());
+    }
+
+    @Test
+    @DisplayName("보관 구간과 핫 테이블을 이어 붙여도 생성 시각과 ID 순으로 내보낸다")
+    void export_rows_in_created_order_across_archive_and_hot_table(@TempDir Path directory) {
+        HistoryPartitionRepository historyPartitionRepository = mock(HistoryPartitionRepository.class);
+        HistoryArchiveStore historyArchiveStore = new HistoryArchiveStore(directory.toString(), 100);
+        HistoryArchiveService realArchiveService = new HistoryArchiveService(
+                historyPartitionRepository, mock(TransactionHistoryRepository.class), historyArchiveStore, transactionHistoryCursorReader);
+        StatementExportService service = new StatementExportService(transactionHistoryCursorReader, realArchiveService, 10, 31);
+
+        LocalDateTime january = LocalDateTime.of(2024, 1, 10, 9, 0);
+        TransactionHistoryDTO first = row(1L, 7L, null, january);
+        TransactionHistoryDTO second = row(2L, null, 8L, january.plusMinutes(1));
+        TransactionHistoryDTO third = row(3L, 8L, 7L, january.plusMinutes(2));
+        TransactionHistoryDTO fourth = row(4L, 7L, null, january.plusDays(3));
+        TransactionHistoryDTO hot = row(10L, null, 7L, ARCHIVED_UNTIL.plusDays(1));
+        try (HistoryArchiveStore.PartitionWriter writer = historyArchiveStore.openPartition(JANUARY)) {
+            writer.write(7L, fourth);
+            writer.write(7L, third);
+            writer.write(7L, first);
+            writer.write(8L, third);
+            writer.write(8L, second);
+            writer.commit();
+        }
+        given(historyPartitionRepository.findArchivedUntil()).willReturn(Optional.of(ARCHIVED_UNTIL.toLocalDate()));
+        given(historyPartitionRepository.findAllOverlapping(any(), any()))
+                .willReturn(List.of(HistoryPartition.builder().startDate(JANUARY).endDate(ARCHIVED_UNTIL.toLocalDate()).build()));
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionHistoryDTO>>getArgument(3).accept(hot);
+            return null;
+        }).given(transactionHistoryCursorReader).forEach(any(), any(), any(), any());
+
+        service.export(new StatementExportCommand(List.of(7L, 8L), JANUARY.atStartOfDay(), ARCHIVED_UNTIL.plusDays(5), StatementFormat.CSV),
+                statementWriter);
+
+        ArgumentCaptor<TransactionHistoryDTO> written = ArgumentCaptor.forClass(TransactionHistoryDTO.class);
+        then(statementWriter).should(times(5)).write(written.capture());
+        assertThat(written.getAllValues()).containsExactly(first, second, third, fourth, hot);
+    }
+
+    @Test
+    @DisplayName("보관되지 않은 기간만 내보내면 보관 파일을 읽지 않는다")
+    void export_hot_table_only() {
+        LocalDateTime from = LocalDateTime.of(2024, 2, 5, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 2, 15, 0, 0);
+        given(historyArchiveService.archivedUntil()).willReturn(ARCHIVED_UNTIL);
+
+        statementExportService.export(new StatementExportCommand(List.of(), from, to, StatementFormat.CSV), statementWriter);
+
+        then(historyArchiveService).should().archivedUntil();
+        then(historyArchiveService).shouldHaveNoMoreInteractions();
+        then(transactionHistoryCursorReader).should().forEach(eq(Set.of()), eq(from), eq(to), any());
+    }
+
+    @Test
+    @DisplayName("전체 계좌를 기간 없이 내보낼 수 없다")
+    void export_all_accounts_needs_range() {
+        StatementExportCommand command = new StatementExportCommand(List.of(), null, null, StatementFormat.CSV);
+
+        assertThatThrownBy(() -> statementExportService.export(command, statementWriter))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("export of all accounts needs both from and to");
+    }
+
+    @Test
+    @DisplayName("바로 내려받기에 너무 큰 범위는 내보내기 작업으로 등록해야 한다")
+    void verify_synchronous_rejects_large_export() {
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        StatementExportCommand longRange = new StatementExportCommand(List.of(), from, from.plusDays(32), StatementFormat.CSV);
+        StatementExportCommand manyAccounts = new StatementExportCommand(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L), null, null, StatementFormat.CSV);
+        StatementExportCommand small = new StatementExportCommand(List.of(1L), null, null, StatementFormat.CSV);
+
+        assertThatThrownBy(() -> statementExportService.verifySynchronous(longRange))
+                .hasMessage("export is too large to stream, submit an export job instead");
+        assertThatThrownBy(() -> statementExportService.verifySynchronous(manyAccounts))
+                .hasMessage("export is too large to stream, submit an export job instead");
+        assertThatCode(() -> statementExportService.verifySynchronous(small)).doesNotThrowAnyException();
+    }
+
+    private TransactionHistoryDTO row(Long id, Long depositId, Long withdrawalId, LocalDateTime createdAt) {
+        TransactionType transactionType = depositId == null ? TransactionType.WITHDRAWAL
+                : withdrawalId == null ? TransactionType.DEPOSIT : TransactionType.TRANSFER;
+        return TransactionHistoryDTO.of(id, transactionType, depositId, withdrawalId, 100L, 0L, createdAt, createdAt);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.remittance.application;
+
+import com.example.remittance.application.service.HistoryArchiveService;
+import com.example.remittance.application.service.TransactionHistoryArchiver;
+import com.example.remittance.domain.model.HistoryPartitionUnit;
+import com.example.remittance.infrastructure.lock.JdbcLockProvider;
+import com.example.remittance.infrastructure.lock.LocalLockProvider;
+import com.example.remittance.infrastructure.lock.LockProviderRegistry;
+import com.example.remittance.infrastructure.lock.LockWatchdog;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+class TransactionHistoryArchiverTest {
+
+    private final HistoryArchiveService historyArchiveService = mock(HistoryArchiveService.class);
+    private final LockWatchdog lockWatchdog = mock(LockWatchdog.class);
+    private final JdbcLockProvider jdbcLockProvider = new JdbcLockProvider(mock(JdbcTemplate.class));
+
+    @Test
+    @DisplayName("이름 있는 키를 잠글 수 없는 락 제공자로는 보관 작업을 시작하지 않는다")
+    void reject_provider_without_named_keys() {
+        LockProviderRegistry jdbcOnly = new LockProviderRegistry(List.of(jdbcLockProvider), "jdbc");
+
+        assertThatThrownBy(() -> archiver(jdbcOnly, ""))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("lock provider cannot lock named keys: jdbc");
+    }
+
+    @Test
+    @DisplayName("기본 락 제공자가 jdbc여도 지정한 락 제공자로 보관 작업을 실행한다")
+    void archive_under_named_provider() throws InterruptedException {
+        LockProviderRegistry registry = new LockProviderRegistry(List.of(jdbcLockProvider, new LocalLockProvider(16)), "jdbc");
+        given(historyArchiveService.archiveNext(any(), any())).willReturn(Optional.empty());
+
+        archiver(registry, "local").archive();
+
+        then(historyArchiveService).should().purge(any());
+    }
+
+    private TransactionHistoryArchiver archiver(LockProviderRegistry registry, String lockProvider) {
+        return new TransactionHistoryArchiver(historyArchiveService, registry, lockWatchdog, lockProvider, 3600L,
+                HistoryPartitionUnit.MONTHLY, 3, 1, 300L);
+    }
+}
@@ -55,7 +55,7 @@ class AccountTest {
     void success_transfer_when_balance_greater_than_transfer_amount() {
         account.deposit(1000L);
 
-        account.transfer(300L);
+        account.transfer(300L, 3L);
 
         assertThat(account.getBalanceAmount()).isEqualTo(697L);
     }
@@ -65,10 +65,19 @@ class AccountTest {
     void fail_withdrawal_when_balance_less_than_transfer_amount() {
         account.deposit(1000L);
 
-        assertThatThrownBy(() -> account.transfer(1000L))
+        assertThatThrownBy(() -> account.transfer(995L, 10L))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("impossible transfer amount is greater than balance amount");
     }
 
+    @Test
+    @DisplayName("이미 슬롯이 활성화된 계좌는 다시 활성화할 수 없다")
+    void fail_enable_slots_twice() {
+        account.enableSlots(4);
 
+        assertThatThrownBy(() -> account.enableSlots(8))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("already hot account");
+        assertThat(account.getSlotCount()).isEqualTo(4);
+    }
 }
@@ -0,0 +1,83 @@
+package com.example.remittance.domain.model;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeeScheduleTest {
+
+    @Test
+    @DisplayName("수수료는 베이시스 포인트로 계산하고 원 단위 미만은 버린다")
+    void fee_in_basis_points_rounded_down() {
+        FeeSchedule schedule = FeeSchedule.flat(100);
+
+        assertThat(schedule.feeOf(300L)).isEqualTo(3L);
+        assertThat(schedule.feeOf(99L)).isEqualTo(0L);
+        assertThat(schedule.feeOf(12_345L)).isEqualTo(123L);
+        assertThat(schedule.feeOf(0L)).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("큰 금액도 오버플로 없이 계산한다")
+    void fee_without_overflow() {
+        FeeSchedule schedule = FeeSchedule.flat(FeeSchedule.BASIS_POINTS);
+
+        assertThat(schedule.feeOf(Long.MAX_VALUE)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("금액이 도달한 가장 높은 구간의 요율을 적용한다")
+    void fee_of_highest_reached_tier() {
+        FeeSchedule schedule = FeeSchedule.of(new long[]{1_000L, 100_000L, 1_000_000L}, new int[]{100, 50, 25});
+
+        assertThat(schedule.feeOf(999L)).isEqualTo(0L);
+        assertThat(schedule.feeOf(1_000L)).isEqualTo(10L);
+        assertThat(schedule.feeOf(99_999L)).isEqualTo(999L);
+        assertThat(schedule.feeOf(100_000L)).isEqualTo(500L);
+        assertThat(schedule.feeOf(2_000_000L)).isEqualTo(5_000L);
+    }
+
+    @Test
+    @DisplayName("구간 금액이 오름차순이 아니면 수수료표를 만들 수 없다")
+    void fail_when_tiers_not_ascending() {
+        assertThatThrownBy(() -> FeeSchedule.of(new long[]{1_000L, 1_000L}, new int[]{100, 50}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("fee tiers must be ascending: [1000, 1000]");
+    }
+
+    @Test
+    @DisplayName("요율이 0 ~ 10000 베이시스 포인트를 벗어나면 수수료표를 만들 수 없다")
+    void fail_when_rate_out_of_range() {
+        assertThatThrownBy(() -> FeeSchedule.flat(10_001))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("fee rate must be between 0 and 10000 basis points: 10001");
+    }
+
+    @Test
+    @DisplayName("계좌별 수수료표가 없으면 기본 수수료표를 사용한다")
+    void schedules_fall_back_to_default() {
+        FeeSchedules schedules = FeeSchedules.from(List.of(
+                tier(2L, 0L, 50),
+                tier(2L, 1_000_000L, 10),
+                tier(null, 0L, 200)
+        ), FeeSchedule.flat(100));
+
+        assertThat(schedules.accountCount()).isEqualTo(1);
+        assertThat(schedules.scheduleOf(1L).feeOf(10_000L)).isEqualTo(200L);
+        assertThat(schedules.scheduleOf(2L).feeOf(10_000L)).isEqualTo(50L);
+        assertThat(schedules.scheduleOf(2L).feeOf(1_000_000L)).isEqualTo(1_000L);
+        assertThat(FeeSchedules.from(List.of(), FeeSchedule.flat(100)).scheduleOf(2L).feeOf(10_000L)).isEqualTo(100L);
+    }
+
+    private FeeTier tier(Long accountId, long minAmount, int basisPoints) {
+        return FeeTier.builder()
+                .accountId(accountId)
+                .minAmount(minAmount)
+                .basisPoints(basisPoints)
+                .build();
+    }
+}
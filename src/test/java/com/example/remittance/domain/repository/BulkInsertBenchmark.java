@@ -0,0 +1,117 @@
+package com.example.remittance.domain.repository;
+
+import com.example.remittance.domain.model.Account;
+import com.example.remittance.domain.model.TransactionHistory;
+import com.example.remittance.domain.model.TransactionType;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestConstructor;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class BulkInsertBenchmark {
+
+    private static final int ROW_COUNT = 20_000;
+    private static final int BATCH_SIZE = 50;
+
+    private final EntityManager entityManager;
+    private final AccountRepository accountRepository;
+    private final TransactionHistoryRepository transactionHistoryRepository;
+
+    BulkInsertBenchmark(EntityManager entityManager, AccountRepository accountRepository,
+                        TransactionHistoryRepository transactionHistoryRepository) {
+        this.entityManager = entityManager;
+        this.accountRepository = accountRepository;
+        this.transactionHistoryRepository = transactionHistoryRepository;
+    }
+
+    @Test
+    @DisplayName("거래 내역은 배치 insert가 건별 insert보다 초당 처리량이 높다")
+    void bulk_transaction_history_insert() {
+        double perRow = rowsPerSecond("transaction_history per-row", i -> {
+            transactionHistoryRepository.save(history(i));
+            entityManager.flush();
+        });
+        double batched = rowsPerSecond("transaction_history batched", this::saveHistoryChunk);
+
+        assertThat(batched).isGreaterThan(perRow);
+    }
+
+    @Test
+    @DisplayName("계좌 일괄 생성은 배치 insert가 건별 insert보다 초당 처리량이 높다")
+    void bulk_account_insert() {
+        double perRow = rowsPerSecond("account per-row", i -> {
+            accountRepository.save(new Account());
+            entityManager.flush();
+        });
+        double batched = rowsPerSecond("account batched", this::saveAccountChunk);
+
+        assertThat(batched).isGreaterThan(perRow);
+    }
+
+    private void saveHistoryChunk(int i) {
+        if (i % BATCH_SIZE != 0) {
+            return;
+        }
+
+        List<TransactionHistory> chunk = new ArrayList<>(BATCH_SIZE);
+        for (int j = i; j < i + BATCH_SIZE; j++) {
+            chunk.add(history(j));
+        }
+        transactionHistoryRepository.saveAll(chunk);
+        entityManager.flush();
+    }
+
+    private void saveAccountChunk(int i) {
+        if (i % BATCH_SIZE != 0) {
+            return;
+        }
+
+        List<Account> chunk = new ArrayList<>(BATCH_SIZE);
+        for (int j = i; j < i + BATCH_SIZE; j++) {
+            chunk.add(new Account());
+        }
+        accountRepository.saveAll(chunk);
+        entityManager.flush();
+    }
+
+    private double rowsPerSecond(String name, IntConsumer insert) {
+        long start = System.nanoTime();
+
+        for (int i = 0; i < ROW_COUNT; i++) {
+            insert.accept(i);
+            if (i % 1_000 == 999) {
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        double rowsPerSecond = ROW_COUNT * 1_000.0 / elapsedMillis;
+        System.out.printf("[%s] %d rows in %dms (%.0f rows/sec)%n", name, ROW_COUNT, elapsedMillis, rowsPerSecond);
+
+        return rowsPerSecond;
+    }
+
+    private TransactionHistory history(int i) {
+        return TransactionHistory.builder()
+                .transactionType(TransactionType.DEPOSIT)
+                .depositId((long) (i % 100) + 1)
+                .amount(100L)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
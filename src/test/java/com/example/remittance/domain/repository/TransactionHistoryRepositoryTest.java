@@ -1,5 +1,6 @@
 package com.example.remittance.domain.repository;
 
+import com.example.remittance.application.dto.TransactionHistoryCursor;
 import com.example.remittance.domain.model.TransactionHistory;
 import com.example.remittance.domain.model.TransactionType;
 import org.junit.jupiter.api.BeforeEach;
@@ -60,46 +61,92 @@ public class TransactionHistoryRepositoryTest {
     }
 
     @Test
-    @DisplayName("일자기준 계좌의 출금액 합계를 조회한다")
-    public void testFindSumWithdrawalDay() {
+    @DisplayName("기간 안의 계좌 출금액 합계를 거래 유형별로 조회한다")
+    public void testFindSumAmountByWithdrawalIdAndTransactionType() {
         // Given
         Long withdrawalId = 1L;
-        LocalDateTime stdDate = LocalDateTime.of(2023, 10, 2, 0, 0);
+        LocalDateTime fromAt = LocalDateTime.of(2023, 10, 2, 0, 0);
+        LocalDateTime toAt = LocalDateTime.of(2023, 10, 3, 0, 0);
 
         // When
-        long sumWithdrawalAmount = transactionHistoryRepository.findSumWidrawalDay(withdrawalId, stdDate);
+        long withdrawalAmount = transactionHistoryRepository.findSumAmountByWithdrawalIdAndTransactionType(
+                withdrawalId, TransactionType.WITHDRAWAL, fromAt, toAt);
+        long transferAmount = transactionHistoryRepository.findSumAmountByWithdrawalIdAndTransactionType(
+                withdrawalId, TransactionType.TRANSFER, fromAt, toAt);
 
         // Then
-        assertThat(sumWithdrawalAmount).isEqualTo(700L);
+        assertThat(withdrawalAmount).isEqualTo(500L);
+        assertThat(transferAmount).isEqualTo(200L);
     }
 
     @Test
-    @DisplayName("해당 날짜에 출금 내역이 없으면 0원을 반환한다")
-    public void testFindSumWithdrawalDay_NoTransactions() {
+    @DisplayName("기간 안에 출금 내역이 없으면 0원을 반환한다")
+    public void testFindSumAmountByWithdrawalIdAndTransactionType_NoTransactions() {
         // Given
         Long withdrawalId = 1L;
-        LocalDateTime stdDate = LocalDateTime.of(2023, 10, 3, 0, 0);
+        LocalDateTime fromAt = LocalDateTime.of(2023, 10, 3, 0, 0);
+        LocalDateTime toAt = LocalDateTime.of(2023, 10, 4, 0, 0);
 
         // When
-        long sumWithdrawalAmount = transactionHistoryRepository.findSumWidrawalDay(withdrawalId, stdDate);
+        long sumWithdrawalAmount = transactionHistoryRepository.findSumAmountByWithdrawalIdAndTransactionType(
+                withdrawalId, TransactionType.WITHDRAWAL, fromAt, toAt);
 
         // Then
-        assertThat(sumWithdrawalAmount).isEqualTo(0L); // 해당 날짜에 거래 내역이 없어야 함
+        assertThat(sumWithdrawalAmount).isEqualTo(0L); // 해당 기간에 거래 내역이 없어야 함
     }
 
     @Test
-    @DisplayName("계좌의 거래내역을 최신 순으로 조회할 수 있다")
-    public void testFindAllByAccountId() {
+    @DisplayName("커서 기준으로 다음 페이지의 거래내역을 조회할 수 있다")
+    public void testFindPageByAccountId() {
+        // When
+        List<TransactionHistory> firstPage = transactionHistoryRepository.findPageByAccountId(
+                1L, LocalDateTime.of(2023, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 1, 0, 0), Long.MAX_VALUE, 2);
+        TransactionHistory last = firstPage.get(firstPage.size() - 1);
+        List<TransactionHistory> secondPage = transactionHistoryRepository.findPageByAccountId(
+                1L, LocalDateTime.of(2023, 1, 1, 0, 0), last.getCreatedAt(), last.getId(), 2);
+
+        // Then
+        assertThat(firstPage).containsExactly(transaction3, transaction2);
+        assertThat(secondPage).containsExactly(transaction1);
+    }
+
+    @Test
+    @DisplayName("조회 시작 일시 이전의 거래내역은 페이지에 포함되지 않는다")
+    public void testFindPageByAccountId_FromAt() {
+        // When
+        List<TransactionHistory> result = transactionHistoryRepository.findPageByAccountId(
+                1L, LocalDateTime.of(2023, 10, 2, 0, 0), LocalDateTime.of(2024, 1, 1, 0, 0), Long.MAX_VALUE, 10);
+
+        // Then
+        assertThat(result).containsExactly(transaction3, transaction2);
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 조회 종료 일시와 같은 시각의 거래내역을 포함하지 않는다")
+    public void testFindPageByAccountId_ToAtExclusive() {
+        // Given
+        TransactionHistoryCursor firstCursor = TransactionHistoryCursor.before(transaction3.getCreatedAt());
+
+        // When
+        List<TransactionHistory> result = transactionHistoryRepository.findPageByAccountId(
+                1L, LocalDateTime.of(2023, 1, 1, 0, 0), firstCursor.createdAt(), firstCursor.id(), 10);
+
+        // Then
+        assertThat(result).containsExactly(transaction2, transaction1);
+    }
+
+    @Test
+    @DisplayName("보관된 구간의 거래내역을 삭제할 수 있다")
+    public void testDeleteAllBetween() {
         // Given
-        Long accountId = 1L;
+        LocalDateTime fromAt = LocalDateTime.of(2023, 10, 1, 0, 0);
+        LocalDateTime toAt = LocalDateTime.of(2023, 10, 2, 12, 0);
 
         // When
-        List<TransactionHistory> result = transactionHistoryRepository.findAllByAccountId(accountId);
+        int deleted = transactionHistoryRepository.deleteAllBetween(fromAt, toAt);
 
         // Then
-        assertThat(result).hasSize(3); // 3개의 거래 내역이 조회되어야 함
-        assertThat(result.get(0)).isEqualTo(transaction3); // 가장 최신 거래 내역이 첫 번째로 오는지 확인
-        assertThat(result.get(1)).isEqualTo(transaction2);
-        assertThat(result.get(2)).isEqualTo(transaction1);
+        assertThat(deleted).isEqualTo(2);
+        assertThat(transactionHistoryRepository.findFirstCreatedAtFrom(fromAt)).contains(transaction3.getCreatedAt());
     }
 }
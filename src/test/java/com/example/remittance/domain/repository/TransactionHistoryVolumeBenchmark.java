@@ -0,0 +1,129 @@
+package com.example.remittance.domain.repository;
+
+import com.example.remittance.domain.model.TransactionType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class TransactionHistoryVolumeBenchmark {
+
+    private static final long ROW_COUNT = Long.getLong("benchmark.history.rows", 2_000_000L);
+    private static final long ACCOUNT_COUNT = 10_000L;
+    private static final int SAMPLES = 200;
+    private static final long MAX_P99_MILLIS = 50L;
+
+    private static final LocalDateTime BASE_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime MIN_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TransactionHistoryRepository transactionHistoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    TransactionHistoryVolumeBenchmark(TransactionHistoryRepository transactionHistoryRepository, JdbcTemplate jdbcTemplate) {
+        this.transactionHistoryRepository = transactionHistoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @BeforeAll
+    void seed() {
+        long start = System.nanoTime();
+
+        jdbcTemplate.update(
+                "insert into transaction_history "
+                + "(id, transaction_type, deposit_id, withdrawal_id, amount, fee, created_at, updated_at) "
+                + "select x, "
+                + " case when mod(x, 2) = 0 then 'DEPOSIT' else 'WITHDRAWAL' end, "
+                + " case when mod(x, 2) = 0 then mod(x, " + ACCOUNT_COUNT + ") + 1 end, "
+                + " case when mod(x, 2) = 1 then mod(x, " + ACCOUNT_COUNT + ") + 1 end, "
+                + " 100, 0, "
+                + " dateadd('SECOND', -x, timestamp '2024-01-01 00:00:00'), "
+                + " dateadd('SECOND', -x, timestamp '2024-01-01 00:00:00') "
+                + "from system_range(1, " + ROW_COUNT + ")"
+        );
+
+        System.out.printf("seeded %d rows in %dms%n", ROW_COUNT, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Test
+    @DisplayName("일일 사용량을 다시 만드는 출금 합계 조회는 출금 인덱스를 사용한다")
+    void sum_withdrawal_amount_uses_index() {
+        String plan = explain(
+                "select coalesce(sum(a.amount), 0) from transaction_history as a "
+                + "where withdrawal_id = 42 "
+                + " and transaction_type = 'WITHDRAWAL' "
+                + " and created_at >= timestamp '2023-12-31 00:00:00' "
+                + " and created_at < timestamp '2024-01-01 00:00:00'"
+        );
+
+        assertThat(plan).containsIgnoringCase("idx_transaction_history_withdrawal_created_at");
+
+        long p99 = p99Millis(accountId -> transactionHistoryRepository.findSumAmountByWithdrawalIdAndTransactionType(
+                accountId, TransactionType.WITHDRAWAL, BASE_AT.minusDays(1), BASE_AT));
+        System.out.printf("findSumAmountByWithdrawalIdAndTransactionType p99=%dms%n", p99);
+        assertThat(p99).isLessThan(MAX_P99_MILLIS);
+    }
+
+    @Test
+    @DisplayName("계좌별 거래 내역 페이지 조회는 입금/출금 인덱스를 모두 사용한다")
+    void find_page_by_account_id_uses_indexes() {
+        String plan = explain(
+                "select * from transaction_history as a where withdrawal_id = 42 "
+                + " and created_at >= timestamp '1970-01-01 00:00:00' "
+                + " and (created_at < timestamp '2024-01-01 00:00:00' or (created_at = timestamp '2024-01-01 00:00:00' and id < 0)) "
+                + "union all "
+                + "select * from transaction_history as b where deposit_id = 42 "
+                + " and (withdrawal_id is null or withdrawal_id <> 42) "
+                + " and created_at >= timestamp '1970-01-01 00:00:00' "
+                + " and (created_at < timestamp '2024-01-01 00:00:00' or (created_at = timestamp '2024-01-01 00:00:00' and id < 0)) "
+                + "order by created_at desc, id desc "
+                + "limit 20"
+        );
+
+        assertThat(plan)
+                .containsIgnoringCase("idx_transaction_history_withdrawal_created_at")
+                .containsIgnoringCase("idx_transaction_history_deposit_created_at");
+
+        long p99 = p99Millis(accountId -> transactionHistoryRepository.findPageByAccountId(accountId, MIN_AT, BASE_AT, 0L, 20));
+        System.out.printf("findPageByAccountId p99=%dms%n", p99);
+        assertThat(p99).isLessThan(MAX_P99_MILLIS);
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class));
+    }
+
+    private long p99Millis(LongConsumer query) {
+        List<Long> latencies = new ArrayList<>(SAMPLES);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            long accountId = ThreadLocalRandom.current().nextLong(1, ACCOUNT_COUNT + 1);
+            long start = System.nanoTime();
+            query.accept(accountId);
+            latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+
+        Collections.sort(latencies);
+        return latencies.get((int) (SAMPLES * 0.99));
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.remittance.infrastructure.aop;
+
+import com.example.remittance.application.service.AccountService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@Testcontainers
+abstract class ConcurrencyModeBenchmarkSupport {
+
+    private static final int THREAD_COUNT = 32;
+    private static final int ITERATIONS_PER_THREAD = 200;
+    private static final int[] ACCOUNT_COUNTS = {1, 8, 1_000};
+    private static final long AMOUNT = 100L;
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7.0"))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.redis.host", redis::getHost);
+        registry.add("spring.redis.port", () -> redis.getMappedPort(6379).toString());
+    }
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    protected abstract String mode();
+
+    @Test
+    @DisplayName("계좌 수로 경합 수준을 바꿔가며 입금 처리량과 p99 지연 시간을 측정한다")
+    void measureDepositsByContention() throws InterruptedException {
+        for (int accountCount : ACCOUNT_COUNTS) {
+            run(accountService.createAccounts(accountCount));
+        }
+    }
+
+    private void run(List<Long> accountIds) throws InterruptedException {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(THREAD_COUNT);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger failures = new AtomicInteger();
+        double conflictsBefore = conflicts();
+
+        try (ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT)) {
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                int offset = i;
+                executorService.submit(() -> {
+                    try {
+                        startLatch.await();
+                        for (int j = 0; j < ITERATIONS_PER_THREAD; j++) {
+                            Long id = accountIds.get((offset + j) % accountIds.size());
+                            long start = System.nanoTime();
+                            try {
+                                accountService.deposit(id, AMOUNT);
+                            } catch (RuntimeException e) {
+                                failures.incrementAndGet();
+                            }
+                            latencies.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        endLatch.countDown();
+                    }
+                });
+            }
+
+            long start = System.nanoTime();
+            startLatch.countDown();
+            endLatch.await();
+            long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            long p99 = sorted.get((int) (sorted.size() * 0.99));
+            int operations = THREAD_COUNT * ITERATIONS_PER_THREAD;
+
+            System.out.printf("[%s] accounts=%d throughput=%.0f ops/s p99=%dus failures=%d conflicts=%.0f%n",
+                    mode(), accountIds.size(), operations * 1_000.0 / elapsedMillis, p99, failures.get(), conflicts() - conflictsBefore);
+
+            assertThat(latencies).hasSize(operations);
+        }
+    }
+
+    private double conflicts() {
+        return meterRegistry.find("remittance.concurrency.optimistic.conflicts").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.remittance.infrastructure.aop;
+
+import com.example.remittance.application.service.AccountService;
+import com.example.remittance.application.service.ReactiveAccountService;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.mock.env.MockEnvironment;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyModeResolverTest {
+
+    @Test
+    @DisplayName("연산별 설정이 없으면 전역 모드를 따른다")
+    void resolve_default_mode() throws NoSuchMethodException {
+        ConcurrencyModeResolver resolver = new ConcurrencyModeResolver(new MockEnvironment(), "lock");
+
+        assertThat(resolver.resolve(AccountService.class.getMethod("deposit", Long.class, Long.class)))
+                .isEqualTo(ConcurrencyMode.LOCK);
+    }
+
+    @Test
+    @DisplayName("연산별 설정이 전역 모드보다 우선한다")
+    void resolve_operation_mode() throws NoSuchMethodException {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("remittance.concurrency.operations.AccountService#deposit", "optimistic");
+        ConcurrencyModeResolver resolver = new ConcurrencyModeResolver(environment, "lock");
+
+        assertThat(resolver.resolve(AccountService.class.getMethod("deposit", Long.class, Long.class)))
+                .isEqualTo(ConcurrencyMode.OPTIMISTIC);
+        assertThat(resolver.resolve(AccountService.class.getMethod("withdrawal", Long.class, Long.class)))
+                .isEqualTo(ConcurrencyMode.LOCK);
+    }
+
+    @Test
+    @DisplayName("연산별 설정은 클래스까지 같은 메서드에만 적용된다")
+    void resolve_operation_mode_by_class() throws NoSuchMethodException {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", Map.of(
+                "remittance.concurrency.operations.AccountService#deposit", "optimistic",
+                "remittance.concurrency.operations.withdrawal", "optimistic"
+        )));
+        ConfigurationPropertySources.attach(environment);
+        ConcurrencyModeResolver resolver = new ConcurrencyModeResolver(environment, "lock");
+
+        assertThat(resolver.resolve(AccountService.class.getMethod("deposit", Long.class, Long.class)))
+                .isEqualTo(ConcurrencyMode.OPTIMISTIC);
+        assertThat(resolver.resolve(ReactiveAccountService.class.getMethod("deposit", Long.class, Long.class)))
+                .isEqualTo(ConcurrencyMode.LOCK);
+        assertThat(resolver.resolve(AccountService.class.getMethod("withdrawal", Long.class, Long.class)))
+                .isEqualTo(ConcurrencyMode.LOCK);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 모드는 실패한다")
+    void fail_unknown_mode() {
+        assertThatThrownBy(() -> new ConcurrencyModeResolver(new MockEnvironment(), "pessimistic"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("unknown concurrency mode: pessimistic");
+    }
+}
@@ -1,9 +1,16 @@
 package com.example.remittance.infrastructure.aop;
 
 import com.example.remittance.application.service.AccountService;
+import com.example.remittance.domain.repository.AccountRepository;
+import com.example.remittance.infrastructure.lock.LockHandle;
+import com.example.remittance.infrastructure.lock.LockTimeoutException;
+import com.example.remittance.infrastructure.lock.LockWatchdog;
+import com.example.remittance.infrastructure.lock.RedissonLockProvider;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +25,8 @@ import org.testcontainers.utility.DockerImageName;
 
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 @SpringBootTest
@@ -26,9 +35,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 class DistributedLockAspectIntegrationTest {
 
     private final AccountService accountService;
+    private final AccountRepository accountRepository;
+    private final RedissonLockProvider redissonLockProvider;
+    private final LockWatchdog lockWatchdog;
 
-    DistributedLockAspectIntegrationTest(AccountService accountService) {
+    DistributedLockAspectIntegrationTest(AccountService accountService, AccountRepository accountRepository,
+                                         RedissonLockProvider redissonLockProvider, LockWatchdog lockWatchdog) {
         this.accountService = accountService;
+        this.accountRepository = accountRepository;
+        this.redissonLockProvider = redissonLockProvider;
+        this.lockWatchdog = lockWatchdog;
     }
 
     @Container
@@ -74,4 +90,39 @@ class DistributedLockAspectIntegrationTest {
         assertEquals(10, successCount.get());
     }
 
+    @Test
+    @DisplayName("락을 잡을 때마다 더 큰 펜싱 토큰이 계좌에 기록된다")
+    public void testFencingTokenIncreases() {
+        Long id = accountService.createAccounts(1).get(0);
+
+        accountService.deposit(id, 1000L);
+        long firstToken = accountRepository.findById(id).orElseThrow().getFencingToken();
+        accountService.deposit(id, 1000L);
+        long secondToken = accountRepository.findById(id).orElseThrow().getFencingToken();
+
+        assertTrue(firstToken > 0);
+        assertTrue(secondToken > firstToken);
+    }
+
+    @Test
+    @DisplayName("리스보다 오래 잡고 있는 락도 워치독이 연장해 다른 스레드가 잡지 못한다")
+    public void testWatchdogRenewsShortLease() throws Exception {
+        LockHandle lockHandle = lockWatchdog.watch(
+                redissonLockProvider.lock(new String[]{"watchdog"}, false, 0, 300, TimeUnit.MILLISECONDS), () -> {
+                });
+
+        Thread.sleep(1000);
+        CompletableFuture<Throwable> contender = CompletableFuture.supplyAsync(() -> {
+            try {
+                redissonLockProvider.lock(new String[]{"watchdog"}, false, 0, 300, TimeUnit.MILLISECONDS).unlock();
+                return null;
+            } catch (Throwable e) {
+                return e;
+            }
+        });
+
+        assertInstanceOf(LockTimeoutException.class, contender.get(1, TimeUnit.SECONDS));
+        lockHandle.unlock();
+    }
+
 }
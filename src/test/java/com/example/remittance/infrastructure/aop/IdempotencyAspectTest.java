@@ -0,0 +1,175 @@
+package com.example.remittance.infrastructure.aop;
+
+import com.example.remittance.infrastructure.idempotency.IdempotencyInProgressException;
+import com.example.remittance.infrastructure.idempotency.IdempotencyKeyMismatchException;
+import com.example.remittance.infrastructure.idempotency.IdempotencyStore;
+import com.example.remittance.infrastructure.idempotency.LocalIdempotencyStore;
+import com.example.remittance.infrastructure.lock.LockWatchdog;
+import com.example.remittance.presentation.annotation.Idempotent;
+import com.example.remittance.presentation.response.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.spy;
+
+class IdempotencyAspectTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final LockWatchdog lockWatchdog = new LockWatchdog(true, 30, 1);
+
+    private final IdempotencyStore idempotencyStore = spy(new LocalIdempotencyStore(60, 100));
+
+    private final Transfers transfers = new Transfers();
+
+    @AfterEach
+    void tearDown() {
+        lockWatchdog.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 들어온 요청은 서비스를 실행하지 않고 저장된 응답을 돌려준다")
+    void replay_skips_service() throws Exception {
+        Transfers proxy = proxy(10_000);
+
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+        ApiResponse<?> first = withRequest("key", null, firstResponse, () -> proxy.transfer(1L, 100L));
+        ApiResponse<?> second = withRequest("key", null, secondResponse, () -> proxy.transfer(1L, 100L));
+
+        assertThat(transfers.calls.get()).isEqualTo(1);
+        assertThat(second.statusCode()).isEqualTo(first.statusCode());
+        assertThat(second.message()).isEqualTo(first.message());
+        assertThat(firstResponse.getHeader(IdempotencyAspect.IDEMPOTENT_REPLAYED)).isNull();
+        assertThat(secondResponse.getHeader(IdempotencyAspect.IDEMPOTENT_REPLAYED)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청과 같은 키로 동시에 들어온 요청은 실행하지 않고 결과를 기다린다")
+    void concurrent_same_key_waits() throws Exception {
+        Transfers proxy = proxy(10_000);
+        transfers.gate = new CountDownLatch(1);
+
+        CompletableFuture<ApiResponse<?>> first = CompletableFuture.supplyAsync(
+                () -> withRequest("key", null, new MockHttpServletResponse(), () -> proxy.transfer(1L, 100L)));
+        assertThat(transfers.started.await(1, TimeUnit.SECONDS)).isTrue();
+        MockHttpServletResponse waiterResponse = new MockHttpServletResponse();
+        CompletableFuture<ApiResponse<?>> waiter = CompletableFuture.supplyAsync(
+                () -> withRequest("key", null, waiterResponse, () -> proxy.transfer(1L, 100L)));
+        Thread.sleep(100);
+        boolean waiterDoneBeforeRelease = waiter.isDone();
+        transfers.gate.countDown();
+
+        assertThat(waiterDoneBeforeRelease).isFalse();
+        assertThat(first.get(1, TimeUnit.SECONDS).message()).isEqualTo("transfer is success");
+        assertThat(waiter.get(1, TimeUnit.SECONDS).message()).isEqualTo("transfer is success");
+        assertThat(transfers.calls.get()).isEqualTo(1);
+        assertThat(waiterResponse.getHeader(IdempotencyAspect.IDEMPOTENT_REPLAYED)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("같은 키를 본문이나 쿼리 문자열이 다른 요청에 쓰면 거절한다")
+    void reject_different_request() throws Exception {
+        Transfers proxy = proxy(10_000);
+        withRequest("key", "memo=a", new MockHttpServletResponse(), () -> proxy.transfer(1L, 100L));
+
+        assertThatThrownBy(() -> withRequest("key", "memo=a", new MockHttpServletResponse(), () -> proxy.transfer(1L, 200L)))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+        assertThatThrownBy(() -> withRequest("key", "memo=b", new MockHttpServletResponse(), () -> proxy.transfer(1L, 100L)))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+        assertThat(transfers.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청의 결과를 기다리다 시간이 지나면 진행 중 예외를 던진다")
+    void in_progress_after_wait_timeout() throws Exception {
+        Transfers proxy = proxy(50);
+        transfers.gate = new CountDownLatch(1);
+        CompletableFuture<ApiResponse<?>> first = CompletableFuture.supplyAsync(
+                () -> withRequest("key", null, new MockHttpServletResponse(), () -> proxy.transfer(1L, 100L)));
+        assertThat(transfers.started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThatThrownBy(() -> withRequest("key", null, new MockHttpServletResponse(), () -> proxy.transfer(1L, 100L)))
+                    .isInstanceOf(IdempotencyInProgressException.class);
+        } finally {
+            transfers.gate.countDown();
+        }
+        first.get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("요청이 끝날 때까지 처리 중 표시를 연장한다")
+    void renew_reservation_while_running() throws Exception {
+        Transfers proxy = proxy(10_000);
+        transfers.gate = new CountDownLatch(1);
+        CompletableFuture<ApiResponse<?>> first = CompletableFuture.supplyAsync(
+                () -> withRequest("key", null, new MockHttpServletResponse(), () -> proxy.transfer(1L, 100L)));
+        assertThat(transfers.started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        Thread.sleep(100);
+        transfers.gate.countDown();
+        first.get(1, TimeUnit.SECONDS);
+
+        then(idempotencyStore).should(atLeastOnce()).renewAsync(anyString(), anyString(), any());
+        then(idempotencyStore).should().complete(eq("PATCH /api/account/1/transfer key"), anyString(), anyString(), any());
+    }
+
+    private Transfers proxy(long waitMillis) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(transfers);
+        proxyFactory.addAspect(new IdempotencyAspect(idempotencyStore, lockWatchdog, objectMapper, 60, 30, waitMillis));
+        return proxyFactory.getProxy();
+    }
+
+    private static <T> T withRequest(String idempotencyKey, String queryString, MockHttpServletResponse response, Callable<T> call) {
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/api/account/1/transfer");
+        request.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY, idempotencyKey);
+        request.setQueryString(queryString);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        try {
+            return call.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    static class Transfers {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        @Idempotent
+        public ApiResponse<?> transfer(Long id, Long amount) throws InterruptedException {
+            calls.incrementAndGet();
+            started.countDown();
+            gate.await(5, TimeUnit.SECONDS);
+            return ApiResponse.of(HttpStatus.OK, "transfer is success", amount);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.remittance.infrastructure.aop;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LockKeyResolverTest {
+
+    private final String[] paramNames = {"transferId", "depositId", "amount"};
+
+    @Test
+    @DisplayName("파라미터 참조 키는 인자 값으로 변환된다")
+    void resolve_parameter_reference() {
+        LockKeyResolver resolver = LockKeyResolver.compile(new String[]{"#transferId", "#depositId"}, paramNames);
+
+        String[] keys = resolver.resolve(new Object[]{1L, 2L, 1000L});
+
+        assertThat(keys).containsExactly("1", "2");
+    }
+
+    @Test
+    @DisplayName("파라미터 참조가 아닌 SpEL 키도 변환할 수 있다")
+    void resolve_spel_expression() {
+        LockKeyResolver resolver = LockKeyResolver.compile(new String[]{"'account-' + #depositId"}, paramNames);
+
+        String[] keys = resolver.resolve(new Object[]{1L, 2L, 1000L});
+
+        assertThat(keys).containsExactly("account-2");
+    }
+
+    @Test
+    @DisplayName("잘못된 SpEL 키는 컴파일 시점에 실패한다")
+    void fail_compile_invalid_spel() {
+        assertThatThrownBy(() -> LockKeyResolver.compile(new String[]{"#depositId +"}, paramNames))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Failed to parse SpEL: #depositId +");
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.remittance.infrastructure.aop;
+
+import com.example.remittance.application.service.AccountService;
+import com.example.remittance.domain.model.Account;
+import com.example.remittance.domain.model.TransactionType;
+import com.example.remittance.domain.repository.AccountRepository;
+import com.example.remittance.domain.repository.DailyUsageRepository;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestConstructor;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("single")
+@SpringBootTest(properties = {
+        "remittance.concurrency.mode=optimistic",
+        "remittance.concurrency.optimistic.max-attempts=50"
+})
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class OptimisticConcurrencyIntegrationTest {
+
+    private final AccountService accountService;
+    private final AccountRepository accountRepository;
+    private final DailyUsageRepository dailyUsageRepository;
+
+    OptimisticConcurrencyIntegrationTest(AccountService accountService, AccountRepository accountRepository,
+                                         DailyUsageRepository dailyUsageRepository) {
+        this.accountService = accountService;
+        this.accountRepository = accountRepository;
+        this.dailyUsageRepository = dailyUsageRepository;
+    }
+
+    @Test
+    @DisplayName("낙관적 모드에서 동시에 한 계좌에 입금해도 갱신이 유실되지 않는다")
+    void concurrent_deposit_without_lock() throws InterruptedException {
+        int threadCount = 10;
+        Long id = accountService.createAccounts(1).get(0);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        try (ExecutorService executorService = Executors.newFixedThreadPool(threadCount)) {
+            for (int i = 0; i < threadCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        startLatch.await();
+                        accountService.deposit(id, 1000L);
+                        successCount.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        endLatch.countDown();
+                    }
+                });
+            }
+
+            startLatch.countDown();
+            endLatch.await();
+        }
+
+        Account account = accountRepository.findById(id).orElseThrow();
+        assertThat(successCount.get()).isEqualTo(threadCount);
+        assertThat(account.getBalanceAmount()).isEqualTo(threadCount * 1000L);
+        assertThat(account.getVersion()).isEqualTo((long) threadCount);
+    }
+
+    @Test
+    @DisplayName("낙관적 모드에서 그날 첫 출금이 동시에 들어와도 일일 사용량을 한 번만 만들고 모두 처리한다")
+    void concurrent_first_withdrawals_of_the_day() throws InterruptedException {
+        int threadCount = 10;
+        Long id = accountService.createAccounts(1).get(0);
+        accountService.deposit(id, 100_000L);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        try (ExecutorService executorService = Executors.newFixedThreadPool(threadCount)) {
+            for (int i = 0; i < threadCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        startLatch.await();
+                        accountService.withdrawal(id, 1000L);
+                        successCount.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        endLatch.countDown();
+                    }
+                });
+            }
+
+            startLatch.countDown();
+            endLatch.await();
+        }
+
+        Account account = accountRepository.findById(id).orElseThrow();
+        assertThat(successCount.get()).isEqualTo(threadCount);
+        assertThat(account.getBalanceAmount()).isEqualTo(100_000L - threadCount * 1000L);
+        assertThat(dailyUsageRepository.findByAccountIdAndUsageDateAndTransactionType(id, LocalDate.now(), TransactionType.WITHDRAWAL))
+                .hasValueSatisfying(dailyUsage -> assertThat(dailyUsage.getAmount()).isEqualTo(threadCount * 1000L));
+    }
+}
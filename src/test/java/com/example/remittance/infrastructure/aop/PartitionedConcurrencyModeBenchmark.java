@@ -0,0 +1,12 @@
+package com.example.remittance.infrastructure.aop;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "remittance.concurrency.mode=partitioned"})
+class PartitionedConcurrencyModeBenchmark extends ConcurrencyModeBenchmarkSupport {
+
+    @Override
+    protected String mode() {
+        return "partitioned";
+    }
+}
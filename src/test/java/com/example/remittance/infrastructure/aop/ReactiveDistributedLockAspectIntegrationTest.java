@@ -0,0 +1,86 @@
+package com.example.remittance.infrastructure.aop;
+
+import com.example.remittance.application.dto.AccountDTO;
+import com.example.remittance.application.service.ReactiveAccountService;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestConstructor;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Flux;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("reactive")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@Testcontainers
+class ReactiveDistributedLockAspectIntegrationTest {
+
+    private final ReactiveAccountService reactiveAccountService;
+
+    ReactiveDistributedLockAspectIntegrationTest(ReactiveAccountService reactiveAccountService) {
+        this.reactiveAccountService = reactiveAccountService;
+    }
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7.0"))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.redis.host", redis::getHost);
+        registry.add("spring.redis.port", () -> redis.getMappedPort(6379).toString());
+    }
+
+    @Test
+    @DisplayName("동시에 한 계좌에 입금 요청이 들어와도 리액티브 락으로 순차 처리된다")
+    void concurrent_deposits_are_serialized() {
+        Long id = reactiveAccountService.createAccounts(1).block().get(0);
+
+        Flux.range(0, 50)
+                .flatMap(i -> reactiveAccountService.deposit(id, 1_000L), 50)
+                .blockLast();
+
+        assertThat(reactiveAccountService.getAccount(id).block().balanceAmount()).isEqualTo(50_000L);
+    }
+
+    @Test
+    @DisplayName("서로 반대 방향의 동시 이체도 교착 없이 수수료를 포함해 반영된다")
+    void concurrent_opposite_transfers() {
+        List<Long> ids = reactiveAccountService.createAccounts(2).block();
+        reactiveAccountService.deposit(ids.get(0), 100_000L).block();
+        reactiveAccountService.deposit(ids.get(1), 100_000L).block();
+
+        Flux.range(0, 20)
+                .flatMap(i -> i % 2 == 0
+                        ? reactiveAccountService.transfer(ids.get(0), ids.get(1), 1_000L)
+                        : reactiveAccountService.transfer(ids.get(1), ids.get(0), 1_000L), 20)
+                .blockLast();
+
+        AccountDTO first = reactiveAccountService.getAccount(ids.get(0)).block();
+        AccountDTO second = reactiveAccountService.getAccount(ids.get(1)).block();
+        assertThat(first.balanceAmount()).isEqualTo(100_000L - 10 * 10L);
+        assertThat(second.balanceAmount()).isEqualTo(100_000L - 10 * 10L);
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 리액티브 출금도 실패하고 잔액은 그대로다")
+    void fail_withdrawal_over_balance() {
+        Long id = reactiveAccountService.createAccounts(1).block().get(0);
+        reactiveAccountService.deposit(id, 500L).block();
+
+        assertThatThrownBy(() -> reactiveAccountService.withdrawal(id, 1_000L).block())
+                .hasMessage("impossible withdrawal amount is greater than balance amount");
+        assertThat(reactiveAccountService.getAccount(id).block().balanceAmount()).isEqualTo(500L);
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.remittance.infrastructure.aop;
+
+import com.example.remittance.application.annotation.DistributedLock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestConstructor;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@SpringBootTest
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@Testcontainers
+class TransferLockContentionBenchmark {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int ITERATIONS_PER_THREAD = 200;
+
+    private final CrossingTransferProbe probe;
+
+    TransferLockContentionBenchmark(CrossingTransferProbe probe) {
+        this.probe = probe;
+    }
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7.0"))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.redis.host", redis::getHost);
+        registry.add("spring.redis.port", () -> redis.getMappedPort(6379).toString());
+    }
+
+    @Test
+    @DisplayName("교차 이체 시 다중 락은 순차 락보다 p99 지연이 낮다")
+    void compareCrossingTransfers() throws InterruptedException {
+        Result sequential = run("sequential", (from, to) -> probe.sequential(from, to));
+        Result multi = run("multi-lock", (from, to) -> probe.multi(from, to));
+
+        assertThat(multi.failures()).isZero();
+        assertThat(multi.p99Micros()).isLessThanOrEqualTo(sequential.p99Micros());
+    }
+
+    private Result run(String name, Transfer transfer) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(THREAD_COUNT);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger failures = new AtomicInteger();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            boolean crossing = i % 2 == 0;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < ITERATIONS_PER_THREAD; j++) {
+                        long start = System.nanoTime();
+                        try {
+                            if (crossing) {
+                                transfer.execute(1L, 2L);
+                            } else {
+                                transfer.execute(2L, 1L);
+                            }
+                        } catch (RuntimeException e) {
+                            failures.incrementAndGet();
+                        }
+                        latencies.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        endLatch.await();
+        executorService.shutdown();
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        Result result = new Result(
+                sorted.get(sorted.size() / 2),
+                sorted.get((int) (sorted.size() * 0.99)),
+                failures.get()
+        );
+
+        System.out.printf("[%s] p50=%dus p99=%dus failures=%d%n",
+                name, result.p50Micros(), result.p99Micros(), result.failures());
+
+        return result;
+    }
+
+    @FunctionalInterface
+    interface Transfer {
+        void execute(Long from, Long to);
+    }
+
+    record Result(long p50Micros, long p99Micros, int failures) {
+    }
+
+    @TestConfiguration
+    static class ProbeConfig {
+
+        @Bean
+        CrossingTransferProbe crossingTransferProbe() {
+            return new CrossingTransferProbe();
+        }
+    }
+
+    static class CrossingTransferProbe {
+
+        @DistributedLock(keys = {"#from", "#to"})
+        public void sequential(Long from, Long to) {
+            hold();
+        }
+
+        @DistributedLock(keys = {"#from", "#to"}, multiLock = true)
+        public void multi(Long from, Long to) {
+            hold();
+        }
+
+        private void hold() {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.remittance.infrastructure.archive;
+
+import com.example.remittance.application.dto.TransactionHistoryDTO;
+import com.example.remittance.domain.model.TransactionType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HistoryArchiveStoreTest {
+
+    private static final LocalDate PARTITION = LocalDate.of(2024, 1, 1);
+    private static final LocalDateTime BASE_AT = LocalDateTime.of(2024, 1, 1, 9, 0, 0, 123_456_000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("보관한 거래내역을 계좌별로 최신 순으로 그대로 읽을 수 있다")
+    void read_archived_rows_of_account() {
+        HistoryArchiveStore store = new HistoryArchiveStore(directory.toString(), 100);
+        TransactionHistoryDTO deposit = row(1L, TransactionType.DEPOSIT, 7L, null, 1_000L, 0L, BASE_AT);
+        TransactionHistoryDTO transfer = row(5L, TransactionType.TRANSFER, 250L, 7L, 300L, 3L, BASE_AT.plusMinutes(1));
+        TransactionHistoryDTO other = row(9L, TransactionType.WITHDRAWAL, null, 8L, 100L, 0L, BASE_AT.plusDays(2));
+
+        HistoryArchiveStore.WriteResult result = write(store, deposit, transfer, other);
+
+        assertThat(result.segmentCount()).isEqualTo(2);
+        assertThat(result.rowCount()).isEqualTo(3L);
+        assertThat(read(store, 7L)).containsExactly(transfer, deposit);
+        assertThat(read(store, 250L)).containsExactly(transfer);
+        assertThat(read(store, 8L)).containsExactly(other);
+        assertThat(read(store, 99L)).isEmpty();
+        assertThat(read(store, 1_000L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("소비자가 false를 반환하면 계좌 블록을 더 읽지 않는다")
+    void read_account_stops_early() {
+        HistoryArchiveStore store = new HistoryArchiveStore(directory.toString(), 100);
+        write(store,
+                row(1L, TransactionType.DEPOSIT, 7L, null, 100L, 0L, BASE_AT),
+                row(2L, TransactionType.DEPOSIT, 7L, null, 200L, 0L, BASE_AT.plusMinutes(1)),
+                row(3L, TransactionType.DEPOSIT, 7L, null, 300L, 0L, BASE_AT.plusMinutes(2)));
+
+        List<TransactionHistoryDTO> rows = new ArrayList<>();
+        store.readAccount(PARTITION, 7L, row -> {
+            rows.add(row);
+            return rows.size() < 2;
+        });
+
+        assertThat(rows).extracting(TransactionHistoryDTO::id).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("보관 파일이 없는 구간을 읽으면 빈 결과 대신 예외를 던진다")
+    void read_missing_partition() {
+        HistoryArchiveStore store = new HistoryArchiveStore(directory.toString(), 100);
+
+        assertThatThrownBy(() -> read(store, 1L))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("missing");
+        assertThatThrownBy(() -> store.verify(PARTITION))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    @DisplayName("목록에 있는 계좌 범위 파일이 없으면 예외를 던진다")
+    void read_missing_segment() throws IOException {
+        HistoryArchiveStore store = new HistoryArchiveStore(directory.toString(), 100);
+        write(store, row(1L, TransactionType.DEPOSIT, 7L, null, 1_000L, 0L, BASE_AT));
+        Files.delete(directory.resolve(PARTITION.toString()).resolve("accounts-0.seg"));
+
+        assertThatThrownBy(() -> read(store, 7L))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> store.verify(PARTITION))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    @DisplayName("같은 구간을 다시 보관하면 이전 파일을 교체한다")
+    void rewrite_partition() throws IOException {
+        HistoryArchiveStore store = new HistoryArchiveStore(directory.toString(), 100);
+        write(store, row(1L, TransactionType.DEPOSIT, 1L, null, 1_000L, 0L, BASE_AT));
+
+        write(store, row(2L, TransactionType.DEPOSIT, 2L, null, 2_000L, 0L, BASE_AT));
+
+        assertThat(read(store, 1L)).isEmpty();
+        assertThat(read(store, 2L)).extracting(TransactionHistoryDTO::amount).containsExactly(2_000L);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).containsExactly(directory.resolve(PARTITION.toString()));
+        }
+    }
+
+    @Test
+    @DisplayName("커밋하지 않고 닫은 구간은 버린다")
+    void discard_uncommitted_partition() throws IOException {
+        HistoryArchiveStore store = new HistoryArchiveStore(directory.toString(), 100);
+
+        try (HistoryArchiveStore.PartitionWriter writer = store.openPartition(PARTITION)) {
+            writer.write(1L, row(1L, TransactionType.DEPOSIT, 1L, null, 1_000L, 0L, BASE_AT));
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("계좌 순서가 어긋난 거래내역은 보관하지 않는다")
+    void reject_unordered_accounts() {
+        HistoryArchiveStore store = new HistoryArchiveStore(directory.toString(), 100);
+
+        try (HistoryArchiveStore.PartitionWriter writer = store.openPartition(PARTITION)) {
+            writer.write(250L, row(1L, TransactionType.DEPOSIT, 250L, null, 1_000L, 0L, BASE_AT));
+
+            assertThatThrownBy(() -> writer.write(7L, row(2L, TransactionType.DEPOSIT, 7L, null, 1_000L, 0L, BASE_AT)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 계좌 범위에 걸친 거래내역도 내보낼 때는 한 번만, 생성 시각과 ID 순으로 전달한다")
+    void for_each_passes_each_row_once_in_created_order() {
+        HistoryArchiveStore store = new HistoryArchiveStore(directory.toString(), 100);
+        TransactionHistoryDTO deposit = row(1L, TransactionType.DEPOSIT, 7L, null, 1_000L, 0L, BASE_AT);
+        TransactionHistoryDTO sameTime = row(2L, TransactionType.DEPOSIT, 250L, null, 500L, 0L, BASE_AT);
+        TransactionHistoryDTO withdrawal = row(3L, TransactionType.WITHDRAWAL, null, 8L, 50L, 0L, BASE_AT.plusSeconds(30));
+        TransactionHistoryDTO transfer = row(5L, TransactionType.TRANSFER, 250L, 7L, 300L, 3L, BASE_AT.plusMinutes(1));
+        TransactionHistoryDTO other = row(9L, TransactionType.WITHDRAWAL, null, 8L, 100L, 0L, BASE_AT.plusDays(2));
+        write(store, deposit, sameTime, withdrawal, transfer, other);
+
+        List<TransactionHistoryDTO> all = new ArrayList<>();
+        store.forEach(PARTITION, Set.of(), all::add);
+        List<TransactionHistoryDTO> selected = new ArrayList<>();
+        store.forEach(PARTITION, Set.of(7L, 250L), selected::add);
+
+        assertThat(all).containsExactly(deposit, sameTime, withdrawal, transfer, other);
+        assertThat(selected).containsExactly(deposit, sameTime, transfer);
+    }
+
+    /**
+     * Writes the rows the way the hot table cursor returns them: once per account, by account, newest first.
+     */
+    private HistoryArchiveStore.WriteResult write(HistoryArchiveStore store, TransactionHistoryDTO... rows) {
+        List<Map.Entry<Long, TransactionHistoryDTO>> entries = new ArrayList<>();
+        for (TransactionHistoryDTO row : rows) {
+            if (row.withdrawalId() != null) {
+                entries.add(Map.entry(row.withdrawalId(), row));
+            }
+            if (row.depositId() != null && !row.depositId().equals(row.withdrawalId())) {
+                entries.add(Map.entry(row.depositId(), row));
+            }
+        }
+        entries.sort(Comparator.<Map.Entry<Long, TransactionHistoryDTO>>comparingLong(Map.Entry::getKey)
+                .thenComparing(entry -> entry.getValue().createdAt(), Comparator.reverseOrder())
+                .thenComparing(entry -> entry.getValue().id(), Comparator.reverseOrder()));
+
+        try (HistoryArchiveStore.PartitionWriter writer = store.openPartition(PARTITION)) {
+            entries.forEach(entry -> writer.write(entry.getKey(), entry.getValue()));
+            return writer.commit();
+        }
+    }
+
+    private List<TransactionHistoryDTO> read(HistoryArchiveStore store, long accountId) {
+        List<TransactionHistoryDTO> rows = new ArrayList<>();
+        store.readAccount(PARTITION, accountId, rows::add);
+        return rows;
+    }
+
+    private TransactionHistoryDTO row(Long id, TransactionType transactionType, Long depositId, Long withdrawalId,
+                                      long amount, long fee, LocalDateTime createdAt) {
+        return TransactionHistoryDTO.of(id, transactionType, depositId, withdrawalId, amount, fee, createdAt, createdAt.plusSeconds(1));
+    }
+}
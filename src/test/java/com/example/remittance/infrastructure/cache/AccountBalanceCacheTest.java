@@ -0,0 +1,136 @@
+package com.example.remittance.infrastructure.cache;
+
+import com.example.remittance.application.dto.AccountDTO;
+import com.example.remittance.domain.model.Account;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RScriptAsync;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class AccountBalanceCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AccountBalanceCache accountBalanceCache = new AccountBalanceCache(
+            new StaticListableBeanFactory().getBeanProvider(RedissonClient.class),
+            new ObjectMapper(),
+            meterRegistry,
+            5,
+            100,
+            30
+    );
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 계좌를 다시 조회하면 로컬 캐시에서 읽는다")
+    void hit_local_cache() {
+        accountBalanceCache.get(1L, this::load);
+        accountBalanceCache.get(1L, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "account.balance").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시를 비우면 다음 조회에서 다시 읽는다")
+    void reload_after_evict() {
+        accountBalanceCache.get(1L, this::load);
+
+        accountBalanceCache.evict(List.of(1L));
+        accountBalanceCache.get(1L, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 즉시 캐시를 비운다")
+    void evict_immediately_without_transaction() {
+        accountBalanceCache.get(1L, this::load);
+
+        accountBalanceCache.evictAfterCommit(1L);
+        accountBalanceCache.get(1L, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 중에 캐시를 비우면 읽어 온 잔액을 공유 캐시에 다시 쓰지 않는다")
+    @SuppressWarnings("unchecked")
+    void skip_shared_fill_when_evicted_during_load() {
+        AtomicLong generation = new AtomicLong();
+        List<String> filled = new ArrayList<>();
+        RedissonClient redissonClient = sharedCache(generation, filled);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("redissonClient", redissonClient);
+        AccountBalanceCache sharedCache = new AccountBalanceCache(
+                beanFactory.getBeanProvider(RedissonClient.class), new ObjectMapper().findAndRegisterModules(), meterRegistry, 5, 100, 30);
+        AccountBalanceCache otherNode = new AccountBalanceCache(
+                beanFactory.getBeanProvider(RedissonClient.class), new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(), 5, 100, 30);
+        sharedCache.subscribe();
+        otherNode.subscribe();
+
+        sharedCache.get(1L, id -> {
+            AccountDTO stale = load(id);
+            otherNode.evict(List.of(1L));
+            return stale;
+        });
+        sharedCache.evict(List.of(1L));
+        sharedCache.get(1L, this::load);
+
+        assertThat(generation.get()).isEqualTo(2L);
+        assertThat(filled).containsExactly("account:balance:{1}");
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedissonClient sharedCache(AtomicLong generation, List<String> filled) {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        RBucket<Object> entry = mock(RBucket.class);
+        RBucket<Object> entryGeneration = mock(RBucket.class, invocation -> String.valueOf(generation.get()));
+        given(redissonClient.getBucket("account:balance:{1}", StringCodec.INSTANCE)).willReturn(entry);
+        given(redissonClient.getBucket("account:balance:{1}:generation", StringCodec.INSTANCE)).willReturn(entryGeneration);
+        given(redissonClient.getTopic(anyString(), eq(StringCodec.INSTANCE))).willReturn(mock(RTopic.class));
+
+        RScript fill = mock(RScript.class, invocation -> {
+            if (invocation.getArgument(4).equals(String.valueOf(generation.get()))) {
+                filled.add((String) invocation.<List<Object>>getArgument(3).get(0));
+            }
+            return null;
+        });
+        given(redissonClient.getScript(StringCodec.INSTANCE)).willReturn(fill);
+
+        RBatch batch = mock(RBatch.class);
+        RScriptAsync evict = mock(RScriptAsync.class, invocation -> {
+            generation.incrementAndGet();
+            return null;
+        });
+        given(redissonClient.createBatch()).willReturn(batch);
+        given(batch.getScript(StringCodec.INSTANCE)).willReturn(evict);
+        return redissonClient;
+    }
+
+    private AccountDTO load(Long id) {
+        loadCount.incrementAndGet();
+        return AccountDTO.from(new Account());
+    }
+}
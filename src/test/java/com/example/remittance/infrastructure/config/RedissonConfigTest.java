@@ -0,0 +1,76 @@
+package com.example.remittance.infrastructure.config;
+
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.ClusterServersConfig;
+import org.redisson.config.Config;
+import org.redisson.config.SentinelServersConfig;
+import org.redisson.config.SingleServerConfig;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.env.MockEnvironment;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedissonConfigTest {
+
+    @Test
+    @DisplayName("redisson.yaml의 풀 크기, 타임아웃, 스레드 수, 코덱을 적용한다")
+    void load_single_server_config() throws IOException {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.redis.host", "localhost")
+                .withProperty("spring.redis.port", "6380");
+
+        Config config = RedissonConfig.load(new ClassPathResource("redisson.yaml"), environment);
+
+        SingleServerConfig singleServerConfig = config.useSingleServer();
+        assertThat(singleServerConfig.getAddress()).isEqualTo("redis://localhost:6380");
+        assertThat(singleServerConfig.getConnectionPoolSize()).isEqualTo(10);
+        assertThat(singleServerConfig.getConnectionMinimumIdleSize()).isEqualTo(5);
+        assertThat(singleServerConfig.getIdleConnectionTimeout()).isEqualTo(10000);
+        assertThat(singleServerConfig.getTimeout()).isEqualTo(3000);
+        assertThat(config.getThreads()).isEqualTo(16);
+        assertThat(config.getNettyThreads()).isEqualTo(32);
+        assertThat(config.getCodec()).isInstanceOf(StringCodec.class);
+    }
+
+    @Test
+    @DisplayName("클러스터 설정은 노드 주소를 프로퍼티로 바꿀 수 있다")
+    void load_cluster_config() throws IOException {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("remittance.redis.nodes.1", "10.0.0.1:7000");
+
+        Config config = RedissonConfig.load(new ClassPathResource("redisson-cluster.yaml"), environment);
+
+        assertThat(config.isClusterConfig()).isTrue();
+        ClusterServersConfig clusterServersConfig = config.useClusterServers();
+        assertThat(clusterServersConfig.getNodeAddresses())
+                .containsExactly("redis://10.0.0.1:7000", "redis://redis-node-2:6379", "redis://redis-node-3:6379");
+        assertThat(clusterServersConfig.getMasterConnectionPoolSize()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("센티널 설정은 마스터 이름과 센티널 주소를 읽는다")
+    void load_sentinel_config() throws IOException {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("remittance.redis.sentinel.master", "remittance");
+
+        Config config = RedissonConfig.load(new ClassPathResource("redisson-sentinel.yaml"), environment);
+
+        assertThat(config.isSentinelConfig()).isTrue();
+        SentinelServersConfig sentinelServersConfig = config.useSentinelServers();
+        assertThat(sentinelServersConfig.getMasterName()).isEqualTo("remittance");
+        assertThat(sentinelServersConfig.getSentinelAddresses()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("값이 없는 프로퍼티를 참조하면 실패한다")
+    void fail_unresolved_placeholder() {
+        assertThatThrownBy(() -> RedissonConfig.load(new ClassPathResource("redisson.yaml"), new MockEnvironment()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("spring.redis.host");
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.remittance.infrastructure.export;
+
+import com.example.remittance.application.dto.StatementFormat;
+import com.example.remittance.application.dto.TransactionHistoryDTO;
+import com.example.remittance.domain.model.TransactionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementWriterTest {
+
+    private static final LocalDateTime BASE_AT = LocalDateTime.of(2024, 1, 1, 9, 0, 0, 123_456_000);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("CSV는 헤더 다음에 거래내역을 한 줄씩 쓰고 비어 있는 계좌는 빈 칸으로 둔다")
+    void write_csv() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (StatementWriter writer = StatementWriter.open(StatementFormat.CSV, Channels.newChannel(outputStream), objectMapper)) {
+            writer.write(TransactionHistoryDTO.of(1L, TransactionType.DEPOSIT, 7L, null, 1_000L, 0L, BASE_AT, BASE_AT));
+            writer.write(TransactionHistoryDTO.of(2L, TransactionType.TRANSFER, 8L, 7L, 300L, 3L, BASE_AT, BASE_AT.plusSeconds(1)));
+
+            assertThat(writer.rowCount()).isEqualTo(2L);
+        }
+
+        assertThat(outputStream.toString(StandardCharsets.US_ASCII)).isEqualTo(
+                CsvStatementWriter.HEADER + "\n"
+                + "1,DEPOSIT,7,,1000,0,2024-01-01T09:00:00.123456,2024-01-01T09:00:00.123456\n"
+                + "2,TRANSFER,8,7,300,3,2024-01-01T09:00:00.123456,2024-01-01T09:00:01.123456\n"
+        );
+    }
+
+    @Test
+    @DisplayName("버퍼보다 큰 CSV도 빠짐없이 쓴다")
+    void write_csv_larger_than_buffer() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        int rowCount = 10_000;
+
+        try (StatementWriter writer = StatementWriter.open(StatementFormat.CSV, Channels.newChannel(outputStream), objectMapper)) {
+            for (long id = 1; id <= rowCount; id++) {
+                writer.write(TransactionHistoryDTO.of(id, TransactionType.DEPOSIT, id, null, 1_000L, 0L, BASE_AT, BASE_AT));
+            }
+        }
+
+        String csv = outputStream.toString(StandardCharsets.US_ASCII);
+        assertThat(outputStream.size()).isGreaterThan(StatementWriter.BUFFER_SIZE);
+        assertThat(csv.lines()).hasSize(rowCount + 1);
+        assertThat(csv).endsWith("10000,DEPOSIT,10000,,1000,0,2024-01-01T09:00:00.123456,2024-01-01T09:00:00.123456\n");
+    }
+
+    @Test
+    @DisplayName("NDJSON은 gzip으로 압축해 한 줄에 거래내역 하나씩 쓴다")
+    void write_ndjson_gzip() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        TransactionHistoryDTO deposit = TransactionHistoryDTO.of(1L, TransactionType.DEPOSIT, 7L, null, 1_000L, 0L, BASE_AT, BASE_AT);
+        TransactionHistoryDTO withdrawal = TransactionHistoryDTO.of(2L, TransactionType.WITHDRAWAL, null, 7L, 500L, 0L, BASE_AT, BASE_AT);
+
+        try (StatementWriter writer = StatementWriter.open(StatementFormat.NDJSON_GZIP, Channels.newChannel(outputStream), objectMapper)) {
+            writer.write(deposit);
+            writer.write(withdrawal);
+        }
+
+        String ndjson;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            ndjson = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(ndjson).isEqualTo(
+                objectMapper.writeValueAsString(deposit) + "\n" + objectMapper.writeValueAsString(withdrawal) + "\n"
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.remittance.infrastructure.export;
+
+import com.example.remittance.application.dto.TransactionHistoryDTO;
+import com.example.remittance.domain.model.TransactionHistory;
+import com.example.remittance.domain.model.TransactionType;
+import com.example.remittance.domain.repository.TransactionHistoryRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestConstructor;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(TransactionHistoryCursorReader.class)
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class TransactionHistoryCursorReaderTest {
+
+    private static final LocalDateTime FROM_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime TO_AT = LocalDateTime.of(2024, 2, 1, 0, 0);
+
+    private final TransactionHistoryRepository transactionHistoryRepository;
+    private final TransactionHistoryCursorReader transactionHistoryCursorReader;
+
+    TransactionHistoryCursorReaderTest(TransactionHistoryRepository transactionHistoryRepository,
+                                       TransactionHistoryCursorReader transactionHistoryCursorReader) {
+        this.transactionHistoryRepository = transactionHistoryRepository;
+        this.transactionHistoryCursorReader = transactionHistoryCursorReader;
+    }
+
+    @Test
+    @DisplayName("보관할 구간의 거래내역을 계좌 순, 계좌마다 최신 순으로 읽는다")
+    void for_each_by_account() {
+        TransactionHistory deposit = save(TransactionType.DEPOSIT, 2L, null, FROM_AT.plusHours(1));
+        TransactionHistory transfer = save(TransactionType.TRANSFER, 2L, 1L, FROM_AT.plusHours(2));
+        TransactionHistory withdrawal = save(TransactionType.WITHDRAWAL, null, 1L, FROM_AT.plusHours(3));
+        save(TransactionType.DEPOSIT, 1L, null, TO_AT);
+
+        List<Long> accountIds = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        transactionHistoryCursorReader.forEachByAccount(FROM_AT, TO_AT, (accountId, row) -> {
+            accountIds.add(accountId);
+            ids.add(row.id());
+        });
+
+        assertThat(accountIds).containsExactly(1L, 1L, 2L, 2L);
+        assertThat(ids).containsExactly(withdrawal.getId(), transfer.getId(), transfer.getId(), deposit.getId());
+    }
+
+    @Test
+    @DisplayName("같은 계좌 사이의 거래내역은 한 번만 읽는다")
+    void for_each_by_account_self_transfer() {
+        TransactionHistory transfer = save(TransactionType.TRANSFER, 1L, 1L, FROM_AT.plusHours(1));
+
+        List<TransactionHistoryDTO> rows = new ArrayList<>();
+        transactionHistoryCursorReader.forEachByAccount(FROM_AT, TO_AT, (accountId, row) -> rows.add(row));
+
+        assertThat(rows).extracting(TransactionHistoryDTO::id).containsExactly(transfer.getId());
+    }
+
+    private TransactionHistory save(TransactionType transactionType, Long depositId, Long withdrawalId, LocalDateTime createdAt) {
+        return transactionHistoryRepository.saveAndFlush(TransactionHistory.builder()
+                .transactionType(transactionType)
+                .depositId(depositId)
+                .withdrawalId(withdrawalId)
+                .amount(100L)
+                .createdAt(createdAt)
+                .build());
+    }
+}
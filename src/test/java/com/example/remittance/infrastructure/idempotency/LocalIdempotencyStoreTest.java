@@ -0,0 +1,73 @@
+package com.example.remittance.infrastructure.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalIdempotencyStoreTest {
+
+    private final LocalIdempotencyStore idempotencyStore = new LocalIdempotencyStore(60, 100);
+
+    private final Duration ttl = Duration.ofSeconds(60);
+
+    @Test
+    @DisplayName("같은 키는 한 번만 선점할 수 있다")
+    void reserve_once() {
+        assertThat(idempotencyStore.tryReserve("key", "a", ttl)).isTrue();
+        assertThat(idempotencyStore.tryReserve("key", "a", ttl)).isFalse();
+    }
+
+    @Test
+    @DisplayName("처리 중인 키를 기다리던 요청은 저장된 결과를 받는다")
+    void wait_in_flight_result() throws Exception {
+        idempotencyStore.tryReserve("key", "a", ttl);
+
+        CompletableFuture<Optional<IdempotencyRecord>> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return idempotencyStore.awaitResult("key", "a", Duration.ofSeconds(5));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        idempotencyStore.complete("key", "a", "{\"statusCode\":200}", ttl);
+
+        assertThat(waiter.get(1, TimeUnit.SECONDS)).contains(IdempotencyRecord.completed("a", "{\"statusCode\":200}"));
+        assertThat(idempotencyStore.awaitResult("key", "a", Duration.ZERO)).contains(IdempotencyRecord.completed("a", "{\"statusCode\":200}"));
+    }
+
+    @Test
+    @DisplayName("다른 지문으로 선점된 키는 기다리지 않고 선점한 요청의 지문을 돌려준다")
+    void return_other_fingerprint_at_once() throws Exception {
+        idempotencyStore.tryReserve("key", "a", ttl);
+
+        assertThat(idempotencyStore.awaitResult("key", "b", Duration.ofSeconds(5))).contains(IdempotencyRecord.inFlight("a"));
+    }
+
+    @Test
+    @DisplayName("처리 중인 동안에만 같은 지문으로 선점을 연장할 수 있다")
+    void renew_in_flight_only() throws Exception {
+        idempotencyStore.tryReserve("key", "a", ttl);
+
+        assertThat(idempotencyStore.renewAsync("key", "a", ttl).toCompletableFuture().get()).isTrue();
+        assertThat(idempotencyStore.renewAsync("key", "b", ttl).toCompletableFuture().get()).isFalse();
+        idempotencyStore.complete("key", "a", "{}", ttl);
+        assertThat(idempotencyStore.renewAsync("key", "a", ttl).toCompletableFuture().get()).isFalse();
+    }
+
+    @Test
+    @DisplayName("처리에 실패해 해제된 키는 다시 선점할 수 있다")
+    void reserve_after_release() throws Exception {
+        idempotencyStore.tryReserve("key", "a", ttl);
+
+        idempotencyStore.release("key");
+
+        assertThat(idempotencyStore.awaitResult("key", "a", Duration.ofMillis(10))).isEmpty();
+        assertThat(idempotencyStore.tryReserve("key", "a", ttl)).isTrue();
+    }
+}
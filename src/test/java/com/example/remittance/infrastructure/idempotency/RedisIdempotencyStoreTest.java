@@ -0,0 +1,100 @@
+package com.example.remittance.infrastructure.idempotency;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.misc.CompletableFutureWrapper;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+class RedisIdempotencyStoreTest {
+
+    private final RedissonClient redissonClient = mock(RedissonClient.class);
+
+    @SuppressWarnings("unchecked")
+    private final RBucket<String> bucket = mock(RBucket.class);
+
+    private final RedisIdempotencyStore idempotencyStore = new RedisIdempotencyStore(redissonClient);
+
+    private final Duration ttl = Duration.ofSeconds(30);
+
+    @BeforeEach
+    void setUp() {
+        given(redissonClient.<String>getBucket("idempotency:key", StringCodec.INSTANCE)).willReturn(bucket);
+    }
+
+    @Test
+    @DisplayName("처리 중 표시에 요청 지문을 함께 저장한다")
+    void reserve_with_fingerprint() {
+        given(bucket.setIfAbsent("IN_FLIGHT:abc", ttl)).willReturn(true);
+
+        assertThat(idempotencyStore.tryReserve("key", "abc", ttl)).isTrue();
+    }
+
+    @Test
+    @DisplayName("완료된 결과를 지문과 응답으로 나누어 돌려준다")
+    void read_completed_record() throws InterruptedException {
+        given(bucket.get()).willReturn("abc:{\"statusCode\":200}");
+
+        assertThat(idempotencyStore.awaitResult("key", "abc", Duration.ofSeconds(1)))
+                .contains(IdempotencyRecord.completed("abc", "{\"statusCode\":200}"));
+    }
+
+    @Test
+    @DisplayName("다른 지문으로 처리 중인 키는 기다리지 않고 돌려준다")
+    void return_other_fingerprint_at_once() throws InterruptedException {
+        given(bucket.get()).willReturn("IN_FLIGHT:abc");
+
+        assertThat(idempotencyStore.awaitResult("key", "def", Duration.ofSeconds(10)))
+                .contains(IdempotencyRecord.inFlight("abc"));
+        then(bucket).should().get();
+    }
+
+    @Test
+    @DisplayName("결과가 저장될 때까지 기다리고, 시간이 지나면 처리 중 상태를 돌려준다")
+    void wait_until_completed_or_timeout() throws InterruptedException {
+        given(bucket.get()).willReturn("IN_FLIGHT:abc", "IN_FLIGHT:abc", "abc:{}");
+
+        assertThat(idempotencyStore.awaitResult("key", "abc", Duration.ofSeconds(5)))
+                .contains(IdempotencyRecord.completed("abc", "{}"));
+
+        given(bucket.get()).willReturn("IN_FLIGHT:abc");
+        assertThat(idempotencyStore.awaitResult("key", "abc", Duration.ofMillis(30)))
+                .contains(IdempotencyRecord.inFlight("abc"));
+    }
+
+    @Test
+    @DisplayName("처리 중 표시가 같은 지문일 때만 만료 시간을 연장한다")
+    void renew_only_own_reservation() throws Exception {
+        RScript script = mock(RScript.class);
+        given(redissonClient.getScript(StringCodec.INSTANCE)).willReturn(script);
+        given(script.<Long>evalAsync(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(), any(), any()))
+                .willReturn(new CompletableFutureWrapper<>(1L));
+
+        assertThat(idempotencyStore.renewAsync("key", "abc", ttl).toCompletableFuture().get()).isTrue();
+        then(script).should().evalAsync(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                eq(List.of("idempotency:key")), eq("IN_FLIGHT:abc"), eq(30_000L));
+    }
+
+    @Test
+    @DisplayName("결과를 지문과 함께 저장한다")
+    void complete_with_fingerprint() {
+        idempotencyStore.complete("key", "abc", "{}", ttl);
+
+        then(bucket).should().set("abc:{}", ttl);
+    }
+}
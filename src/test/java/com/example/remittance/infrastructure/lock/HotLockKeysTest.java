@@ -0,0 +1,64 @@
+package com.example.remittance.infrastructure.lock;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class HotLockKeysTest {
+
+    @Test
+    @DisplayName("경합 횟수가 많은 키 순서로 조회된다")
+    void top_sorted_by_contentions() {
+        HotLockKeys hotLockKeys = new HotLockKeys(10);
+
+        hotLockKeys.record(new String[]{"1", "2"}, 2_000_000L);
+        hotLockKeys.record(new String[]{"2"}, 3_000_000L);
+
+        assertThat(hotLockKeys.top())
+                .extracting(HotLockKey::key, HotLockKey::contentions, HotLockKey::waitMillis)
+                .containsExactly(
+                        tuple("2", 2L, 5L),
+                        tuple("1", 1L, 2L)
+                );
+    }
+
+    @Test
+    @DisplayName("추적 키 수는 용량을 넘지 않고 가장 적게 경합한 키를 밀어낸다")
+    void evict_least_contended_key() {
+        HotLockKeys hotLockKeys = new HotLockKeys(2);
+
+        hotLockKeys.record(new String[]{"1", "1", "2"}, 0L);
+        hotLockKeys.record(new String[]{"3"}, 0L);
+
+        assertThat(hotLockKeys.top())
+                .hasSize(2)
+                .extracting(HotLockKey::key)
+                .containsExactlyInAnyOrder("1", "3");
+        assertThat(hotLockKeys.top().stream().filter(hotKey -> hotKey.key().equals("3")).findFirst().orElseThrow().overestimate())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 추적 중인 키의 경합 횟수를 잃지 않는다")
+    void record_concurrently() throws InterruptedException {
+        HotLockKeys hotLockKeys = new HotLockKeys(10);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 8_000; i++) {
+            String key = String.valueOf(i % 4);
+            executor.execute(() -> hotLockKeys.record(new String[]{key}, 1_000_000L));
+        }
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(hotLockKeys.top())
+                .extracting(HotLockKey::contentions, HotLockKey::waitMillis)
+                .containsOnly(tuple(2_000L, 2_000L));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.remittance.infrastructure.lock;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalLockProviderTest {
+
+    private final LocalLockProvider localLockProvider = new LocalLockProvider(1024);
+
+    @Test
+    @DisplayName("같은 키를 다른 스레드가 점유하고 있으면 대기 시간 후 락 획득에 실패한다")
+    void fail_lock_when_held_by_other_thread() throws Exception {
+        LockHandle lockHandle = localLockProvider.lock(new String[]{"1"}, false, 1, 3, TimeUnit.SECONDS);
+
+        CompletableFuture<Throwable> result = CompletableFuture.supplyAsync(() -> {
+            try {
+                localLockProvider.lock(new String[]{"1"}, false, 50, 3000, TimeUnit.MILLISECONDS);
+                return null;
+            } catch (Throwable e) {
+                return e;
+            }
+        });
+
+        assertThat(result.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("not obtain lock: [1]");
+
+        lockHandle.unlock();
+    }
+
+    @Test
+    @DisplayName("락을 해제하면 다른 스레드가 락을 획득할 수 있다")
+    void success_lock_after_unlock() throws Exception {
+        LockHandle lockHandle = localLockProvider.lock(new String[]{"1", "2"}, true, 1, 3, TimeUnit.SECONDS);
+        lockHandle.unlock();
+
+        Boolean locked = CompletableFuture.supplyAsync(() -> {
+            try {
+                localLockProvider.lock(new String[]{"2", "1"}, true, 50, 3000, TimeUnit.MILLISECONDS).unlock();
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        }).get(1, TimeUnit.SECONDS);
+
+        assertThat(locked).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 키가 중복되어도 한 번만 획득하고 해제한다")
+    void lock_duplicated_keys_once() throws Exception {
+        LockHandle lockHandle = localLockProvider.lock(new String[]{"1", "1"}, true, 1, 3, TimeUnit.SECONDS);
+        lockHandle.unlock();
+
+        assertThat(isHeldByOtherThread()).isFalse();
+    }
+
+    private boolean isHeldByOtherThread() throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                localLockProvider.lock(new String[]{"1"}, false, 0, 3000, TimeUnit.MILLISECONDS).unlock();
+                return false;
+            } catch (Exception e) {
+                return true;
+            }
+        }).get(1, TimeUnit.SECONDS);
+    }
+}
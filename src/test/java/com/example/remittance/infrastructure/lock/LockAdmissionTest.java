@@ -0,0 +1,132 @@
+package com.example.remittance.infrastructure.lock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RScriptAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.misc.CompletableFutureWrapper;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class LockAdmissionTest {
+
+    private final LockAdmission lockAdmission = new LockAdmission(
+            new StaticListableBeanFactory().getBeanProvider(RedissonClient.class),
+            true,
+            2,
+            128,
+            10_000,
+            1
+    );
+
+    @Test
+    @DisplayName("대기자 수가 한도를 넘으면 바로 거절하고 재시도 시간을 알려준다")
+    void reject_when_queue_full() {
+        LockAdmission.Ticket first = lockAdmission.admit(new String[]{"1"});
+        LockAdmission.Ticket second = lockAdmission.admit(new String[]{"1"});
+
+        assertThatThrownBy(() -> lockAdmission.admit(new String[]{"1"}))
+                .isInstanceOf(LockQueueFullException.class)
+                .hasMessage("too many waiters for lock: 1")
+                .extracting(e -> ((LockQueueFullException) e).getRetryAfterSeconds())
+                .isEqualTo(1L);
+
+        first.close();
+        second.close();
+        assertThat(lockAdmission.localWaiters("1")).isZero();
+    }
+
+    @Test
+    @DisplayName("대기를 마치면 다음 요청을 받아들인다")
+    void admit_after_close() {
+        LockAdmission.Ticket first = lockAdmission.admit(new String[]{"1"});
+        LockAdmission.Ticket second = lockAdmission.admit(new String[]{"1"});
+        second.close();
+
+        LockAdmission.Ticket third = lockAdmission.admit(new String[]{"1"});
+
+        assertThat(lockAdmission.localWaiters("1")).isEqualTo(2);
+        first.close();
+        third.close();
+    }
+
+    @Test
+    @DisplayName("한 계좌를 한도보다 많이 담은 배치도 그 계좌의 대기자 하나로 센다")
+    void count_repeated_key_once() {
+        String[] batchKeys = new String[33];
+        Arrays.fill(batchKeys, "1");
+
+        LockAdmission.Ticket ticket = lockAdmission.admit(batchKeys);
+
+        assertThat(lockAdmission.localWaiters("1")).isEqualTo(1);
+        ticket.close();
+        assertThat(lockAdmission.localWaiters("1")).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 키 중 하나라도 가득 차면 먼저 등록한 키의 대기도 되돌린다")
+    void rollback_other_keys_on_reject() {
+        LockAdmission.Ticket first = lockAdmission.admit(new String[]{"2"});
+        LockAdmission.Ticket second = lockAdmission.admit(new String[]{"2"});
+
+        assertThatThrownBy(() -> lockAdmission.admit(new String[]{"1", "2"}))
+                .isInstanceOf(LockQueueFullException.class);
+
+        assertThat(lockAdmission.localWaiters("1")).isZero();
+        assertThat(lockAdmission.localWaiters("2")).isEqualTo(2);
+        first.close();
+        second.close();
+    }
+
+    @Test
+    @DisplayName("공유 대기자는 만료 시각을 점수로 한 개별 멤버로 등록하고 같은 멤버를 해제한다")
+    @SuppressWarnings("unchecked")
+    void count_cluster_waiters_as_expiring_members() {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        RBatch batch = mock(RBatch.class);
+        BatchResult<Object> batchResult = mock(BatchResult.class);
+        List<List<Object>> scripts = new ArrayList<>();
+        RScriptAsync script = mock(RScriptAsync.class, invocation -> {
+            List<Object> call = new ArrayList<>();
+            call.add(invocation.getArgument(1));
+            call.addAll(invocation.getArgument(3));
+            call.addAll(Arrays.asList(invocation.getArguments()).subList(4, invocation.getArguments().length));
+            scripts.add(call);
+            return null;
+        });
+        given(redissonClient.createBatch()).willReturn(batch);
+        given(batch.getScript(StringCodec.INSTANCE)).willReturn(script);
+        given(batch.execute()).willReturn((BatchResult) batchResult);
+        given(batchResult.getResponses()).willReturn(List.of(1L));
+        given(batch.executeAsync()).willReturn((RFuture) new CompletableFutureWrapper<>((Object) null));
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("redissonClient", redissonClient);
+        LockAdmission clusterAdmission = new LockAdmission(beanFactory.getBeanProvider(RedissonClient.class), true, 2, 128, 10_000, 1);
+
+        LockAdmission.Ticket first = clusterAdmission.admit(new String[]{"1"});
+        LockAdmission.Ticket second = clusterAdmission.admit(new String[]{"1"});
+        second.close();
+        first.close();
+
+        assertThat(scripts).hasSize(2);
+        List<Object> admit = scripts.get(0);
+        List<Object> release = scripts.get(1);
+        assertThat((String) admit.get(0)).contains("zremrangebyscore", "zadd");
+        assertThat(admit.get(1)).isEqualTo("lock:{1}:waiters");
+        assertThat((long) admit.get(4) - (long) admit.get(2)).isEqualTo(10_000L);
+        assertThat((String) release.get(0)).contains("zrem");
+        assertThat(release.subList(1, 3)).containsExactly("lock:{1}:waiters", admit.get(5));
+    }
+}
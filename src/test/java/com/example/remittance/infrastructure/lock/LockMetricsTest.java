@@ -0,0 +1,74 @@
+package com.example.remittance.infrastructure.lock;
+
+import com.example.remittance.infrastructure.lock.LockMetrics.MethodMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LockMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HotLockKeys hotLockKeys = new HotLockKeys(10);
+    private final LockMetrics lockMetrics = new LockMetrics(meterRegistry, hotLockKeys, 1, 100);
+
+    private final String[] keys = {"1", "2"};
+
+    @Test
+    @DisplayName("락 대기/점유 시간은 메서드와 제공자 태그로 기록된다")
+    void record_wait_and_hold_by_method() throws NoSuchMethodException {
+        MethodMetrics metrics = lockMetrics.forMethod(method(), LocalLockProvider.NAME);
+
+        lockMetrics.acquired(metrics, keys, TimeUnit.MILLISECONDS.toNanos(5));
+        lockMetrics.released(metrics, keys, TimeUnit.MILLISECONDS.toNanos(20), 0L);
+
+        assertThat(meterRegistry.get("remittance.lock.wait")
+                .tag("method", "LockMetricsTest.method")
+                .tag("provider", LocalLockProvider.NAME)
+                .timer().count()).isEqualTo(1L);
+        assertThat(meterRegistry.get("remittance.lock.hold").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(20.0);
+        assertThat(meterRegistry.get("remittance.lock.lease.expired").counter().count()).isZero();
+        assertThat(hotLockKeys.top()).extracting(HotLockKey::key).containsExactlyInAnyOrder("1", "2");
+    }
+
+    @Test
+    @DisplayName("경합 기준보다 짧게 대기한 획득은 핫 키로 집계하지 않는다")
+    void skip_uncontended_hot_keys() throws NoSuchMethodException {
+        MethodMetrics metrics = lockMetrics.forMethod(method(), LocalLockProvider.NAME);
+
+        lockMetrics.acquired(metrics, keys, TimeUnit.MICROSECONDS.toNanos(10));
+
+        assertThat(hotLockKeys.top()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("임대 시간을 넘겨 점유하면 임대 만료로 집계된다")
+    void count_lease_expired() throws NoSuchMethodException {
+        MethodMetrics metrics = lockMetrics.forMethod(method(), RedissonLockProvider.NAME);
+
+        lockMetrics.released(metrics, keys, TimeUnit.SECONDS.toNanos(4), TimeUnit.SECONDS.toNanos(3));
+
+        assertThat(meterRegistry.get("remittance.lock.lease.expired")
+                .tag("provider", RedissonLockProvider.NAME)
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("락 획득 시간 초과는 실패 횟수로 집계된다")
+    void count_timeouts() throws NoSuchMethodException {
+        MethodMetrics metrics = lockMetrics.forMethod(method(), LocalLockProvider.NAME);
+
+        lockMetrics.timedOut(metrics, keys, TimeUnit.SECONDS.toNanos(3));
+
+        assertThat(meterRegistry.get("remittance.lock.timeouts").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("remittance.lock.wait").timer().count()).isZero();
+    }
+
+    private Method method() throws NoSuchMethodException {
+        return LockMetricsTest.class.getDeclaredMethod("method");
+    }
+}
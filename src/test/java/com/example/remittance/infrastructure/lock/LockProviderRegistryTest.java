@@ -0,0 +1,41 @@
+package com.example.remittance.infrastructure.lock;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class LockProviderRegistryTest {
+
+    private final JdbcLockProvider jdbcLockProvider = new JdbcLockProvider(mock(JdbcTemplate.class));
+    private final RedissonLockProvider redissonLockProvider = new RedissonLockProvider(mock(RedisMultiLock.class));
+    private final LocalLockProvider localLockProvider = new LocalLockProvider(16);
+
+    @Test
+    @DisplayName("기본 락 제공자가 jdbc이면 이름 있는 키는 redisson으로 잠근다")
+    void fall_back_to_redisson_for_named_keys() {
+        LockProviderRegistry registry = new LockProviderRegistry(List.of(jdbcLockProvider, redissonLockProvider, localLockProvider), "jdbc");
+
+        assertThat(registry.get("")).isSameAs(jdbcLockProvider);
+        assertThat(registry.getForNamedKeys("")).isSameAs(redissonLockProvider);
+        assertThat(registry.getForNamedKeys("local")).isSameAs(localLockProvider);
+    }
+
+    @Test
+    @DisplayName("이름 있는 키를 잠글 락 제공자가 없으면 예외를 던진다")
+    void reject_named_keys_without_fallback() {
+        LockProviderRegistry jdbcOnly = new LockProviderRegistry(List.of(jdbcLockProvider, localLockProvider), "jdbc");
+        LockProviderRegistry withRedisson = new LockProviderRegistry(List.of(jdbcLockProvider, redissonLockProvider), "redisson");
+
+        assertThatThrownBy(() -> jdbcOnly.getForNamedKeys(""))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("lock provider cannot lock named keys: jdbc");
+        assertThatThrownBy(() -> withRedisson.getForNamedKeys("jdbc"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.remittance.infrastructure.lock;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LockWatchdogTest {
+
+    private final LockWatchdog lockWatchdog = new LockWatchdog(true, 30, 1);
+
+    private final AtomicInteger renewals = new AtomicInteger();
+    private final AtomicInteger lostCount = new AtomicInteger();
+    private final AtomicBoolean held = new AtomicBoolean(true);
+    private final AtomicBoolean unlocked = new AtomicBoolean();
+
+    private final LockHandle lockHandle = new LockHandle() {
+        @Override
+        public void unlock() {
+            unlocked.set(true);
+        }
+
+        @Override
+        public boolean renew(long leaseTime, TimeUnit unit) {
+            renewals.incrementAndGet();
+            return held.get();
+        }
+
+        @Override
+        public Map<String, Long> fencingTokens() {
+            return Map.of("1", 7L);
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        lockWatchdog.shutdown();
+    }
+
+    @Test
+    @DisplayName("락을 해제할 때까지 리스의 1/3 간격으로 연장한다")
+    void renew_until_unlock() throws InterruptedException {
+        LockHandle watched = lockWatchdog.watch(lockHandle, lostCount::incrementAndGet);
+
+        Thread.sleep(200);
+        watched.unlock();
+        int renewedBeforeUnlock = renewals.get();
+        Thread.sleep(50);
+
+        assertThat(renewedBeforeUnlock).isGreaterThanOrEqualTo(3);
+        assertThat(renewals.get()).isLessThanOrEqualTo(renewedBeforeUnlock + 1);
+        assertThat(unlocked).isTrue();
+        assertThat(watched.fencingTokens()).containsEntry("1", 7L);
+        assertThat(lostCount.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("연장에 실패하면 락을 잃은 것으로 한 번만 알리고 연장을 멈춘다")
+    void notify_lost_once() throws InterruptedException {
+        LockHandle watched = lockWatchdog.watch(lockHandle, lostCount::incrementAndGet);
+        held.set(false);
+
+        Thread.sleep(150);
+        int renewedAfterLost = renewals.get();
+        Thread.sleep(50);
+        watched.unlock();
+
+        assertThat(lostCount.get()).isEqualTo(1);
+        assertThat(renewals.get()).isEqualTo(renewedAfterLost);
+    }
+
+    @Test
+    @DisplayName("연장 응답을 기다리는 동안에는 다음 연장을 보내지 않는다")
+    void skip_tick_while_renewal_in_flight() throws InterruptedException {
+        CompletableFuture<Boolean> pending = new CompletableFuture<>();
+        LockHandle slowHandle = new LockHandle() {
+            @Override
+            public void unlock() {
+            }
+
+            @Override
+            public CompletionStage<Boolean> renewAsync(long leaseTime, TimeUnit unit) {
+                renewals.incrementAndGet();
+                return pending;
+            }
+        };
+        LockHandle watched = lockWatchdog.watch(slowHandle, lostCount::incrementAndGet);
+
+        Thread.sleep(100);
+        int renewedWhilePending = renewals.get();
+        pending.complete(true);
+        Thread.sleep(50);
+        watched.unlock();
+
+        assertThat(renewedWhilePending).isEqualTo(1);
+        assertThat(renewals.get()).isGreaterThan(1);
+        assertThat(lostCount.get()).isZero();
+    }
+}
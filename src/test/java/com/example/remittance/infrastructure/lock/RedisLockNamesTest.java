@@ -0,0 +1,34 @@
+package com.example.remittance.infrastructure.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisLockNamesTest {
+
+    @Test
+    @DisplayName("락 이름은 락 키로 해시 태그를 붙인다")
+    void tag_lock_key() {
+        assertThat(RedisLockNames.of("1")).isEqualTo("lock:{1}");
+        assertThat(RedisLockNames.of("{transfer}:1")).isEqualTo("lock:{transfer}:1");
+    }
+
+    @Test
+    @DisplayName("슬롯은 Redis 클러스터와 같은 방식으로 계산한다")
+    void calculate_cluster_slot() {
+        assertThat(RedisLockNames.slotOf("foo")).isEqualTo(12182);
+        assertThat(RedisLockNames.slotOf("123456789")).isEqualTo(0x31C3);
+    }
+
+    @Test
+    @DisplayName("같은 해시 태그를 가진 락과 채널은 같은 슬롯에 놓인다")
+    void same_slot_for_same_tag() {
+        String name = RedisLockNames.of("1");
+
+        assertThat(RedisLockNames.slotOf("redisson_lock__channel:" + name)).isEqualTo(RedisLockNames.slotOf(name));
+        assertThat(RedisLockNames.slotOf(RedisLockNames.of("{transfer}:1")))
+                .isEqualTo(RedisLockNames.slotOf(RedisLockNames.of("{transfer}:2")));
+    }
+}
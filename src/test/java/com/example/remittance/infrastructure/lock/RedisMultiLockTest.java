@@ -0,0 +1,183 @@
+package com.example.remittance.infrastructure.lock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RScript;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.Config;
+import org.redisson.misc.CompletableFutureWrapper;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+
+class RedisMultiLockTest {
+
+    private final RedissonClient redissonClient = mock(RedissonClient.class);
+
+    private final List<List<Object>> acquired = new CopyOnWriteArrayList<>();
+    private final List<List<Object>> released = new ArrayList<>();
+    private final List<Object> busy = new CopyOnWriteArrayList<>();
+    private long fence = 100L;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RScript script = mock(RScript.class, invocation -> {
+            if (invocation.getMethod().getName().equals("evalAsync")) {
+                return new CompletableFutureWrapper<>(evaluate(invocation.getArgument(1), (List<Object>) invocation.getArgument(3)));
+            }
+            return evaluate(invocation.getArgument(1), (List<Object>) invocation.getArgument(3));
+        });
+        given(redissonClient.getScript(StringCodec.INSTANCE)).willReturn(script);
+        given(redissonClient.getId()).willReturn("client");
+    }
+
+    @Test
+    @DisplayName("단일 서버에서는 여러 락을 한 번의 스크립트로 잡고 락마다 펜싱 토큰을 받는다")
+    void lock_in_single_round_trip() throws InterruptedException {
+        RedisMultiLock redisMultiLock = new RedisMultiLock(clientWith(singleServerConfig()));
+
+        Map<String, Long> fencingTokens = redisMultiLock.lock(List.of("lock:{1}", "lock:{2}"), "owner", 0, 3, TimeUnit.SECONDS);
+
+        assertThat(acquired).containsExactly(List.of("lock:{1}", "lock:{2}"));
+        assertThat(fencingTokens).containsEntry("lock:{1}", 101L).containsEntry("lock:{2}", 102L);
+    }
+
+    @Test
+    @DisplayName("클러스터에서는 슬롯별로 나누어 슬롯 순서대로 락을 잡는다")
+    void lock_by_slot_in_cluster() throws InterruptedException {
+        RedisMultiLock redisMultiLock = new RedisMultiLock(clientWith(clusterConfig()));
+        List<String> names = List.of("lock:{1}", "lock:{2}", "lock:{transfer}:3", "lock:{transfer}:4");
+
+        Map<String, Long> fencingTokens = redisMultiLock.lock(names, "owner", 0, 3, TimeUnit.SECONDS);
+
+        assertThat(fencingTokens).containsOnlyKeys(names);
+        assertThat(acquired).hasSize(3);
+        assertThat(acquired).contains(List.of("lock:{transfer}:3", "lock:{transfer}:4"));
+        assertThat(acquired).extracting(keys -> RedisLockNames.slotOf((String) keys.get(0))).isSorted();
+    }
+
+    @Test
+    @DisplayName("클러스터에서 뒤 슬롯의 락을 잡지 못하면 먼저 잡은 슬롯의 락을 해제한다")
+    void release_acquired_slots_on_failure() {
+        RedisMultiLock redisMultiLock = new RedisMultiLock(clientWith(clusterConfig()));
+        List<String> names = List.of("lock:{1}", "lock:{2}");
+        String last = RedisLockNames.slotOf("lock:{1}") < RedisLockNames.slotOf("lock:{2}") ? "lock:{2}" : "lock:{1}";
+        busy.add(last);
+
+        assertThatThrownBy(() -> redisMultiLock.lock(names, "owner", 0, 3, TimeUnit.SECONDS))
+                .isInstanceOf(LockTimeoutException.class);
+
+        assertThat(released).hasSize(1);
+        assertThat(released.get(0)).doesNotContain(last);
+    }
+
+    @Test
+    @DisplayName("다른 소유자가 가져간 락은 연장하지 못한다")
+    void fail_renew_lost_lock() {
+        RedisMultiLock redisMultiLock = new RedisMultiLock(clientWith(singleServerConfig()));
+        busy.add("lock:{2}");
+
+        assertThat(redisMultiLock.renew(List.of("lock:{1}"), "owner", 300, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(redisMultiLock.renew(List.of("lock:{1}", "lock:{2}"), "owner", 300, TimeUnit.MILLISECONDS)).isFalse();
+    }
+
+    @Test
+    @DisplayName("락 하나를 기다릴 때는 해제 메시지를 받을 때까지 다시 시도하지 않는다")
+    @SuppressWarnings("unchecked")
+    void wait_for_unlock_message() throws Exception {
+        RedisMultiLock redisMultiLock = new RedisMultiLock(clientWith(singleServerConfig()));
+        RTopic topic = mock(RTopic.class);
+        AtomicReference<MessageListener<String>> listener = new AtomicReference<>();
+        given(redissonClient.getTopic("redisson_lock__channel:lock:{1}", StringCodec.INSTANCE)).willReturn(topic);
+        given(topic.addListener(eq(String.class), any(MessageListener.class))).willAnswer(invocation -> {
+            listener.set(invocation.getArgument(1));
+            return 7;
+        });
+        busy.add("lock:{1}");
+
+        CompletableFuture<Map<String, Long>> locked = CompletableFuture.supplyAsync(() -> {
+            try {
+                return redisMultiLock.lock(List.of("lock:{1}"), "owner", 10, 30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        then(topic).should(timeout(1_000)).addListener(eq(String.class), any(MessageListener.class));
+        Thread.sleep(100);
+        int attemptsBeforeUnlock = acquired.size();
+        busy.clear();
+        listener.get().onMessage("redisson_lock__channel:lock:{1}", "0");
+
+        assertThat(locked.get(1, TimeUnit.SECONDS)).containsOnlyKeys("lock:{1}");
+        assertThat(attemptsBeforeUnlock).isEqualTo(2);
+        then(topic).should().removeListener(7);
+    }
+
+    @Test
+    @DisplayName("리스 연장을 비동기로 보내고 하나라도 잃었으면 false로 완료한다")
+    void renew_async() throws Exception {
+        RedisMultiLock redisMultiLock = new RedisMultiLock(clientWith(singleServerConfig()));
+        busy.add("lock:{2}");
+
+        assertThat(redisMultiLock.renewAsync(List.of("lock:{1}"), "owner", 300, TimeUnit.MILLISECONDS).toCompletableFuture().get()).isTrue();
+        assertThat(redisMultiLock.renewAsync(List.of("lock:{1}", "lock:{2}"), "owner", 300, TimeUnit.MILLISECONDS).toCompletableFuture().get()).isFalse();
+    }
+
+    private Object evaluate(String lua, List<Object> keys) {
+        if (lua.contains("publish")) {
+            released.add(keys);
+            return 1L;
+        }
+        if (!lua.contains("hincrby")) {
+            return keys.stream().anyMatch(busy::contains) ? 0L : 1L;
+        }
+
+        List<Object> names = keys.subList(0, keys.size() / 2);
+        acquired.add(names);
+        if (names.stream().anyMatch(busy::contains)) {
+            return List.of(5_000L);
+        }
+        List<Long> result = new ArrayList<>();
+        result.add(0L);
+        for (int i = 0; i < names.size(); i++) {
+            result.add(++fence);
+        }
+        return result;
+    }
+
+    private RedissonClient clientWith(Config config) {
+        given(redissonClient.getConfig()).willReturn(config);
+        return redissonClient;
+    }
+
+    private static Config singleServerConfig() {
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://localhost:6379");
+        return config;
+    }
+
+    private static Config clusterConfig() {
+        Config config = new Config();
+        config.useClusterServers().addNodeAddress("redis://localhost:7000");
+        return config;
+    }
+}
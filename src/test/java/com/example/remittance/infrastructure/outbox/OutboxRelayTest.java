@@ -0,0 +1,125 @@
+package com.example.remittance.infrastructure.outbox;
+
+import com.example.remittance.domain.model.OutboxEvent;
+import com.example.remittance.domain.model.TransactionType;
+import com.example.remittance.domain.repository.OutboxEventRepository;
+import com.example.remittance.infrastructure.lock.JdbcLockProvider;
+import com.example.remittance.infrastructure.lock.LocalLockProvider;
+import com.example.remittance.infrastructure.lock.LockHandle;
+import com.example.remittance.infrastructure.lock.LockProviderRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class OutboxRelayTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 2, 17, 10, 0);
+
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private final InMemoryOutboxSink outboxSink = new InMemoryOutboxSink(100);
+    private final LocalLockProvider localLockProvider = new LocalLockProvider(16);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        LockProviderRegistry lockProviderRegistry = new LockProviderRegistry(List.of(localLockProvider), "local");
+        outboxRelay = new OutboxRelay(outboxEventRepository, outboxSink, lockProviderRegistry, meterRegistry, "", 2, 10, clock);
+    }
+
+    @Test
+    @DisplayName("미발행 이벤트를 배치로 발행하고 아웃박스에서 삭제한다")
+    void relay_events_in_batches() throws InterruptedException {
+        given(outboxEventRepository.findOldest(2))
+                .willReturn(List.of(event(1L, NOW.minusSeconds(3)), event(2L, NOW.minusSeconds(2))))
+                .willReturn(List.of(event(3L, NOW.minusSeconds(1))));
+
+        outboxRelay.relay();
+
+        assertThat(outboxSink.drain())
+                .extracting(OutboxMessage::id)
+                .containsExactly(1L, 2L, 3L);
+        then(outboxEventRepository).should(times(1)).deleteAllByIdInBatch(List.of(1L, 2L));
+        then(outboxEventRepository).should(times(1)).deleteAllByIdInBatch(List.of(3L));
+        assertThat(meterRegistry.get("remittance.outbox.relay.published").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("remittance.outbox.relay.batch.size").summary().count()).isEqualTo(2L);
+        assertThat(meterRegistry.get("remittance.outbox.relay.lag").timeGauge().value(TimeUnit.SECONDS)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("발행에 실패하면 이벤트를 삭제하지 않는다")
+    void keep_events_when_publish_fails() throws InterruptedException {
+        OutboxSink failingSink = messages -> {
+            throw new IllegalStateException("sink unavailable");
+        };
+        OutboxRelay failingRelay = new OutboxRelay(outboxEventRepository, failingSink,
+                new LockProviderRegistry(List.of(localLockProvider), "local"), meterRegistry, "", 2, 10, Clock.systemDefaultZone());
+        given(outboxEventRepository.findOldest(2)).willReturn(List.of(event(1L, NOW)));
+
+        failingRelay.relay();
+
+        then(outboxEventRepository).should(never()).deleteAllByIdInBatch(anyList());
+        assertThat(meterRegistry.get("remittance.outbox.relay.failures").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다른 릴레이가 실행 중이면 이번 주기는 건너뛴다")
+    void skip_when_other_relay_running() throws Exception {
+        LockHandle lockHandle = localLockProvider.lock(new String[]{"outbox-relay"}, false, 1, 3, TimeUnit.SECONDS);
+
+        Thread relayThread = new Thread(() -> {
+            try {
+                outboxRelay.relay();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        relayThread.start();
+        relayThread.join();
+
+        lockHandle.unlock();
+        then(outboxEventRepository).should(never()).findOldest(anyInt());
+    }
+
+    @Test
+    @DisplayName("이름 있는 키를 잠글 수 없는 락 제공자로는 릴레이를 시작하지 않는다")
+    void reject_provider_without_named_keys() {
+        LockProviderRegistry jdbcOnly = new LockProviderRegistry(List.of(new JdbcLockProvider(mock(JdbcTemplate.class))), "jdbc");
+
+        assertThatThrownBy(() -> new OutboxRelay(outboxEventRepository, outboxSink, jdbcOnly, meterRegistry, "", 2, 10, Clock.systemDefaultZone()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("lock provider cannot lock named keys: jdbc");
+    }
+
+    private OutboxEvent event(Long id, LocalDateTime createdAt) {
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                .eventType(TransactionType.DEPOSIT)
+                .aggregateId(1L)
+                .payload("{}")
+                .createdAt(createdAt)
+                .build();
+        ReflectionTestUtils.setField(outboxEvent, "id", id);
+        return outboxEvent;
+    }
+}
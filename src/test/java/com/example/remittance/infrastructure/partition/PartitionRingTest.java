@@ -0,0 +1,70 @@
+package com.example.remittance.infrastructure.partition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PartitionRingTest {
+
+    private static final int PARTITIONS = 64;
+
+    @Test
+    @DisplayName("노드 목록이 없으면 어떤 파티션도 단독으로 소유하지 않는다")
+    void implicit_ring_owns_nothing() {
+        PartitionRing ring = PartitionRing.of("node-a", List.of(), PARTITIONS, 16);
+
+        assertThat(ring.ownedPartitions()).isEmpty();
+        assertThat(ring.ownsAll(new int[]{0})).isFalse();
+    }
+
+    @Test
+    @DisplayName("노드 목록에 자기 노드만 있으면 모든 파티션을 가진다")
+    void single_node_owns_all() {
+        PartitionRing ring = PartitionRing.of("node-a", List.of("node-a"), PARTITIONS, 16);
+
+        assertThat(ring.ownedPartitions()).hasSize(PARTITIONS);
+        assertThat(ring.ownsAll(IntStream.range(0, PARTITIONS).toArray())).isTrue();
+    }
+
+    @Test
+    @DisplayName("모든 노드가 같은 링을 계산하고 파티션은 정확히 한 노드에 배정된다")
+    void partitions_are_assigned_once() {
+        List<String> nodes = List.of("node-a", "node-b", "node-c");
+
+        List<Integer> owned = new ArrayList<>();
+        for (String node : nodes) {
+            List<Integer> partitions = PartitionRing.of(node, nodes, PARTITIONS, 64).ownedPartitions();
+            assertThat(partitions).isNotEmpty();
+            owned.addAll(partitions);
+        }
+
+        assertThat(owned).hasSize(PARTITIONS).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("노드가 추가되면 새 노드로 옮겨가는 파티션만 주인이 바뀐다")
+    void adding_node_moves_only_its_partitions() {
+        PartitionRing before = PartitionRing.of("node-a", List.of("node-a", "node-b"), PARTITIONS, 64);
+        PartitionRing after = PartitionRing.of("node-a", List.of("node-a", "node-b", "node-c"), PARTITIONS, 64);
+
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            if (!before.ownerOf(partition).equals(after.ownerOf(partition))) {
+                assertThat(after.ownerOf(partition)).isEqualTo("node-c");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("링에 속하지 않은 노드는 실패한다")
+    void fail_unknown_node() {
+        assertThatThrownBy(() -> PartitionRing.of("node-z", List.of("node-a"), PARTITIONS, 16))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("node is not a member of the partition ring: node-z");
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.remittance.infrastructure.partition;
+
+import com.example.remittance.infrastructure.lock.LockTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PartitionedExecutorTest {
+
+    private final PartitionedExecutor partitionedExecutor =
+            new PartitionedExecutor(new SimpleMeterRegistry(), 8, 1_000, "node-a", List.of("node-a"), 16, false);
+
+    @AfterEach
+    void tearDown() {
+        partitionedExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 계좌의 작업은 한 파티션 스레드에서 순차 실행된다")
+    void serialize_same_key() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<String> threadNames = new ArrayList<>();
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(callers.submit(() -> execute(new String[]{"1"}, 5, TimeUnit.SECONDS, () -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    synchronized (threadNames) {
+                        threadNames.add(Thread.currentThread().getName());
+                    }
+                    inFlight.decrementAndGet();
+                    return null;
+                })));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(maxInFlight.get()).isEqualTo(1);
+        assertThat(threadNames).hasSize(100).containsOnly("account-partition-" + partitionedExecutor.partitionOf("1"));
+    }
+
+    @Test
+    @DisplayName("서로 반대 방향의 두 파티션 작업도 순서대로 넘겨받아 교착되지 않는다")
+    void handoff_without_deadlock() throws Exception {
+        String[] keys = twoKeysOnDifferentPartitions();
+        AtomicInteger completed = new AtomicInteger();
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(16)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String[] ordered = i % 2 == 0 ? keys : new String[]{keys[1], keys[0]};
+                futures.add(callers.submit(() -> execute(ordered, 5, TimeUnit.SECONDS, () -> {
+                    assertThat(partitionedExecutor.isLocallyOwned(ordered)).isTrue();
+                    return completed.incrementAndGet();
+                })));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        }
+
+        assertThat(completed.get()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("파티션이 대기 시간 안에 비지 않으면 작업을 실행하지 않고 실패한다")
+    void fail_when_partition_busy() throws Throwable {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executed = new AtomicInteger();
+
+        CompletableFuture<Object> blocker = CompletableFuture.supplyAsync(() -> {
+            try {
+                return partitionedExecutor.execute(new String[]{"1"}, 5, TimeUnit.SECONDS, () -> release.await(5, TimeUnit.SECONDS));
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        Thread.sleep(50);
+        assertThatThrownBy(() -> partitionedExecutor.execute(new String[]{"1"}, 1, TimeUnit.MILLISECONDS, executed::incrementAndGet))
+                .isInstanceOf(LockTimeoutException.class);
+
+        release.countDown();
+        blocker.get(5, TimeUnit.SECONDS);
+        partitionedExecutor.execute(new String[]{"1"}, 5, TimeUnit.SECONDS, () -> null);
+
+        assertThat(executed.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("다음 파티션이 대기 시간 안에 비지 않으면 앞 파티션을 붙잡지 않고 실패한다")
+    void release_first_partition_when_next_partition_busy() throws Throwable {
+        String[] keys = twoKeysOnDifferentPartitions();
+        String busyKey = partitionedExecutor.partitionOf(keys[0]) < partitionedExecutor.partitionOf(keys[1]) ? keys[1] : keys[0];
+        String firstKey = busyKey.equals(keys[0]) ? keys[1] : keys[0];
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executed = new AtomicInteger();
+
+        CompletableFuture<Object> blocker = CompletableFuture.supplyAsync(() -> {
+            try {
+                return partitionedExecutor.execute(new String[]{busyKey}, 5, TimeUnit.SECONDS, () -> release.await(5, TimeUnit.SECONDS));
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        Thread.sleep(50);
+        assertThatThrownBy(() -> partitionedExecutor.execute(keys, 50, TimeUnit.MILLISECONDS, executed::incrementAndGet))
+                .isInstanceOf(LockTimeoutException.class);
+        assertThat(partitionedExecutor.execute(new String[]{firstKey}, 1, TimeUnit.SECONDS, () -> "free")).isEqualTo("free");
+
+        release.countDown();
+        blocker.get(5, TimeUnit.SECONDS);
+        partitionedExecutor.execute(new String[]{busyKey}, 5, TimeUnit.SECONDS, () -> null);
+
+        assertThat(executed.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("파티션 밖에서는 락 없이 실행할 수 없다")
+    void not_owned_outside_partition() {
+        assertThat(partitionedExecutor.isLocallyOwned(new String[]{"1"})).isFalse();
+    }
+
+    @Test
+    @DisplayName("작업에서 발생한 예외는 호출자에게 그대로 전달된다")
+    void propagate_exception() {
+        assertThatThrownBy(() -> partitionedExecutor.execute(new String[]{"1"}, 5, TimeUnit.SECONDS, () -> {
+            throw new RuntimeException("not found account");
+        }))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("not found account");
+    }
+
+    private <T> T execute(String[] keys, long waitTime, TimeUnit unit, PartitionedExecutor.PartitionTask<T> task) throws Exception {
+        try {
+            return partitionedExecutor.execute(keys, waitTime, unit, task);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String[] twoKeysOnDifferentPartitions() {
+        int first = partitionedExecutor.partitionOf("1");
+        for (int id = 2; ; id++) {
+            if (partitionedExecutor.partitionOf(String.valueOf(id)) != first) {
+                return new String[]{"1", String.valueOf(id)};
+            }
+        }
+    }
+}
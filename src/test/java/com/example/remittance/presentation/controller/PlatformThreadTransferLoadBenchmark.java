@@ -0,0 +1,17 @@
+package com.example.remittance.presentation.controller;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("single")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.jpa.show-sql=false", "spring.threads.virtual.enabled=false"}
+)
+class PlatformThreadTransferLoadBenchmark extends TransferLoadBenchmarkSupport {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
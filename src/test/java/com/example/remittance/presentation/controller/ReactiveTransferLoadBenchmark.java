@@ -0,0 +1,17 @@
+package com.example.remittance.presentation.controller;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("reactive")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.show-sql=false"
+)
+class ReactiveTransferLoadBenchmark extends RedisTransferLoadBenchmarkSupport {
+
+    @Override
+    protected String mode() {
+        return "reactive";
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.remittance.presentation.controller;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.show-sql=false"
+)
+class RedissonMvcTransferLoadBenchmark extends RedisTransferLoadBenchmarkSupport {
+
+    @Override
+    protected String mode() {
+        return "mvc-redisson";
+    }
+}
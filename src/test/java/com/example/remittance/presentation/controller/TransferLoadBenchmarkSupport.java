@@ -0,0 +1,110 @@
+package com.example.remittance.presentation.controller;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+abstract class TransferLoadBenchmarkSupport {
+
+    private static final int ACCOUNT_COUNT = 20;
+    private static final int[] CONCURRENCY_LEVELS = {200, 1_000, 2_000};
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    protected abstract String mode();
+
+    @Test
+    @DisplayName("동시 이체 요청 수를 늘려가며 처리량과 지연 시간을 측정한다")
+    void measureInFlightTransfers() throws Exception {
+        send("POST", "/api/account/bulk?count=" + ACCOUNT_COUNT);
+        for (int id = 1; id <= ACCOUNT_COUNT; id++) {
+            send("PATCH", "/api/account/" + id + "/deposit/100000000");
+        }
+
+        for (int concurrency : CONCURRENCY_LEVELS) {
+            run(concurrency);
+        }
+    }
+
+    private void run(int concurrency) throws InterruptedException {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        threadMXBean.resetPeakThreadCount();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(concurrency);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger failures = new AtomicInteger();
+
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                long transferId = i % ACCOUNT_COUNT + 1;
+                long depositId = (i + 1) % ACCOUNT_COUNT + 1;
+                executorService.submit(() -> {
+                    try {
+                        startLatch.await();
+                        long start = System.nanoTime();
+                        boolean success = send("PATCH", "/api/account/" + transferId + "/transfer/" + depositId + "/100");
+                        latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                        if (!success) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        endLatch.countDown();
+                    }
+                });
+            }
+
+            long start = System.nanoTime();
+            startLatch.countDown();
+            endLatch.await();
+            long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            long p99 = sorted.isEmpty() ? 0 : sorted.get((int) (sorted.size() * 0.99));
+
+            System.out.printf("[%s] in-flight=%d throughput=%.0f req/s p99=%dms failures=%d peak-threads=%d%n",
+                    mode(), concurrency, concurrency * 1_000.0 / elapsedMillis, p99, failures.get(), threadMXBean.getPeakThreadCount());
+
+            assertThat(latencies).hasSize(concurrency);
+        }
+    }
+
+    private boolean send(String method, String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .timeout(Duration.ofSeconds(30))
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        return response.statusCode() == 200 && response.body().contains("\"statusCode\":200");
+    }
+}
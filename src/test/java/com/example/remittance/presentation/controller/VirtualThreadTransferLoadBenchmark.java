@@ -0,0 +1,17 @@
+package com.example.remittance.presentation.controller;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles({"single", "virtual"})
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.show-sql=false"
+)
+class VirtualThreadTransferLoadBenchmark extends TransferLoadBenchmarkSupport {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}